@@ -0,0 +1,57 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.ApproximatorN;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Douglas-Peucker line reduction. Approximator copies the points on every level of recursion,
+ * which makes 10M points impractical, so the entry counts stop at 1M.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApproximatorBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int entryCount;
+
+    private float[] mPoints;
+
+    private final Approximator mApproximator = new Approximator();
+
+    private final ApproximatorN mApproximatorN = new ApproximatorN();
+
+    @Setup
+    public void setup() {
+
+        Random random = new Random(1);
+        mPoints = new float[entryCount * 2];
+
+        for (int i = 0; i < entryCount; i++) {
+            mPoints[i * 2] = i;
+            mPoints[i * 2 + 1] = (float) Math.sin(i * 0.01) * 100f + random.nextFloat();
+        }
+    }
+
+    @Benchmark
+    public float[] reduceWithTolerance() {
+        return mApproximator.reduceWithDouglasPeucker(mPoints, 2f);
+    }
+
+    @Benchmark
+    public float[] reduceToCount() {
+        return mApproximatorN.reduceWithDouglasPeucker(mPoints, 500);
+    }
+}
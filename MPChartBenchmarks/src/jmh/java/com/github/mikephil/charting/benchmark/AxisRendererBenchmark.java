@@ -0,0 +1,65 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.renderer.YAxisRenderer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calculation of the axis labels for changing value ranges, as done on every frame while
+ * zooming. The number of entries does not matter here, only the number of labels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AxisRendererBenchmark {
+
+    @Param({"6", "25"})
+    public int labelCount;
+
+    @Param({"false", "true"})
+    public boolean forceLabels;
+
+    private YAxis mAxis;
+
+    private YAxisRenderer mRenderer;
+
+    private float[] mPositions;
+
+    private int mPosition = 0;
+
+    @Setup
+    public void setup() {
+
+        ViewPortHandler viewPortHandler = BenchmarkData.createViewPortHandler();
+
+        mAxis = new YAxis(YAxis.AxisDependency.LEFT);
+        mAxis.setLabelCount(labelCount, forceLabels);
+
+        mRenderer = new YAxisRenderer(viewPortHandler, mAxis,
+                BenchmarkData.createTransformer(viewPortHandler, 0f, 100f, -1000f, 1000f));
+
+        mPositions = BenchmarkData.createPositions(1024, -1000f, 1000f);
+    }
+
+    @Benchmark
+    public int computeAxis() {
+
+        float a = mPositions[mPosition++ & 1023];
+        float b = mPositions[mPosition++ & 1023];
+
+        mRenderer.computeAxis(Math.min(a, b), Math.max(a, b) + 1f, false);
+
+        return mAxis.mEntryCount;
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.data.BarDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation of the bar rectangles, for the whole DataSet and for the part visible in a
+ * viewport as done by the BarChartRenderer on every frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BarBufferBenchmark {
+
+    private static final int VISIBLE_RANGE = 500;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int entryCount;
+
+    private BarDataSet mDataSet;
+
+    private BarBuffer mBuffer;
+
+    private float[] mPositions;
+
+    private int mPosition = 0;
+
+    @Setup
+    public void setup() {
+
+        mDataSet = BenchmarkData.createBarDataSet(entryCount, 1);
+        mPositions = BenchmarkData.createPositions(1024, 0f, entryCount - 1);
+
+        mBuffer = new BarBuffer(0, 1, false);
+        mBuffer.setPhases(1f, 1f);
+        mBuffer.setBarWidth(0.85f);
+        mBuffer.setDataSet(0);
+        mBuffer.setInverted(false);
+    }
+
+    @Benchmark
+    public int feedAll() {
+        mBuffer.limitFrom(0);
+        mBuffer.limitTo(Integer.MAX_VALUE);
+        mBuffer.feed(mDataSet);
+        return mBuffer.size();
+    }
+
+    @Benchmark
+    public int feedVisible() {
+        int from = (int) mPositions[mPosition++ & 1023];
+        mBuffer.limitFrom(from);
+        mBuffer.limitTo(from + VISIBLE_RANGE);
+        mBuffer.feed(mDataSet);
+        return mBuffer.size();
+    }
+}
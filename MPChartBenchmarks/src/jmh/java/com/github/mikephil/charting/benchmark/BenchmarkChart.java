@@ -0,0 +1,126 @@
+package com.github.mikephil.charting.benchmark;
+
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Data provider standing in for a chart view, shows all data of the given ChartData object
+ * scaled to a chart of BenchmarkData.CHART_WIDTH x BenchmarkData.CHART_HEIGHT pixels.
+ */
+class BenchmarkChart implements BarLineScatterCandleBubbleDataProvider {
+
+    private final BarLineScatterCandleBubbleData mData;
+
+    private final ViewPortHandler mViewPortHandler;
+
+    private final Transformer mTransformer;
+
+    BenchmarkChart(BarLineScatterCandleBubbleData data) {
+
+        mData = data;
+        mViewPortHandler = BenchmarkData.createViewPortHandler();
+        mTransformer = BenchmarkData.createTransformer(mViewPortHandler,
+                data.getXMin(), data.getXMax(), data.getYMin(), data.getYMax());
+    }
+
+    ViewPortHandler getViewPortHandler() {
+        return mViewPortHandler;
+    }
+
+    @Override
+    public Transformer getTransformer(YAxis.AxisDependency axis) {
+        return mTransformer;
+    }
+
+    @Override
+    public boolean isInverted(YAxis.AxisDependency axis) {
+        return false;
+    }
+
+    @Override
+    public float getLowestVisibleX() {
+        return mData.getXMin();
+    }
+
+    @Override
+    public float getHighestVisibleX() {
+        return mData.getXMax();
+    }
+
+    @Override
+    public BarLineScatterCandleBubbleData getData() {
+        return mData;
+    }
+
+    @Override
+    public float getXChartMin() {
+        return mData.getXMin();
+    }
+
+    @Override
+    public float getXChartMax() {
+        return mData.getXMax();
+    }
+
+    @Override
+    public float getXRange() {
+        return mData.getXMax() - mData.getXMin();
+    }
+
+    @Override
+    public float getYChartMin() {
+        return mData.getYMin();
+    }
+
+    @Override
+    public float getYChartMax() {
+        return mData.getYMax();
+    }
+
+    @Override
+    public float getMaxHighlightDistance() {
+        return 500f;
+    }
+
+    @Override
+    public int getWidth() {
+        return (int) BenchmarkData.CHART_WIDTH;
+    }
+
+    @Override
+    public int getHeight() {
+        return (int) BenchmarkData.CHART_HEIGHT;
+    }
+
+    @Override
+    public MPPointF getCenterOfView() {
+        return MPPointF.getInstance(getWidth() / 2f, getHeight() / 2f);
+    }
+
+    @Override
+    public MPPointF getCenterOffsets() {
+        return mViewPortHandler.getContentCenter();
+    }
+
+    @Override
+    public RectF getContentRect() {
+        return mViewPortHandler.getContentRect();
+    }
+
+    @Override
+    public IValueFormatter getDefaultValueFormatter() {
+        return null;
+    }
+
+    @Override
+    public int getMaxVisibleCount() {
+        return 100;
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates the data shared by the benchmarks. All data is generated from fixed seeds so every
+ * run works on the same values.
+ */
+final class BenchmarkData {
+
+    /**
+     * size of the chart in pixels
+     */
+    static final float CHART_WIDTH = 1080f;
+    static final float CHART_HEIGHT = 1920f;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates entries with ascending x-values 0 ... count - 1 and y-values of a random walk.
+     *
+     * @param count
+     * @param seed
+     * @return
+     */
+    static List<Entry> createEntries(int count, long seed) {
+
+        Random random = new Random(seed);
+        List<Entry> entries = new ArrayList<Entry>(count);
+
+        float y = 0f;
+
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() - 0.5f;
+            entries.add(new Entry(i, y));
+        }
+
+        return entries;
+    }
+
+    static LineDataSet createLineDataSet(int count, long seed) {
+        return new LineDataSet(createEntries(count, seed), "DataSet " + seed);
+    }
+
+    static BarDataSet createBarDataSet(int count, long seed) {
+
+        Random random = new Random(seed);
+        List<BarEntry> entries = new ArrayList<BarEntry>(count);
+
+        for (int i = 0; i < count; i++) {
+            entries.add(new BarEntry(i, random.nextFloat() * 100f));
+        }
+
+        return new BarDataSet(entries, "DataSet " + seed);
+    }
+
+    /**
+     * Returns x-positions spread randomly over the given range, used to vary lookups and
+     * viewports between invocations.
+     *
+     * @param count
+     * @param min
+     * @param max
+     * @return
+     */
+    static float[] createPositions(int count, float min, float max) {
+
+        Random random = new Random(count);
+        float[] positions = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            positions[i] = min + random.nextFloat() * (max - min);
+        }
+
+        return positions;
+    }
+
+    /**
+     * Creates a ViewPortHandler for a chart of CHART_WIDTH x CHART_HEIGHT pixels with the usual
+     * offsets for the axis labels.
+     *
+     * @return
+     */
+    static ViewPortHandler createViewPortHandler() {
+
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+        viewPortHandler.setChartDimens(CHART_WIDTH, CHART_HEIGHT);
+        viewPortHandler.restrainViewPort(60f, 20f, 20f, 60f);
+
+        return viewPortHandler;
+    }
+
+    /**
+     * Creates a Transformer that fits the given value ranges into the content rect.
+     *
+     * @param viewPortHandler
+     * @param xMin
+     * @param xMax
+     * @param yMin
+     * @param yMax
+     * @return
+     */
+    static Transformer createTransformer(ViewPortHandler viewPortHandler,
+                                         float xMin, float xMax, float yMin, float yMax) {
+
+        Transformer transformer = new Transformer(viewPortHandler);
+        transformer.prepareMatrixValuePx(xMin, xMax - xMin, yMax - yMin, yMin);
+        transformer.prepareMatrixOffset(false);
+
+        return transformer;
+    }
+}
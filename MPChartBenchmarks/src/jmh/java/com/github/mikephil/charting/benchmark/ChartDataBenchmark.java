@@ -0,0 +1,69 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Min/max calculation over all DataSets of a ChartData object, as done by notifyDataSetChanged()
+ * and by auto-scaling while panning. The entries are split evenly across the DataSets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChartDataBenchmark {
+
+    private static final int DATA_SET_COUNT = 4;
+
+    private static final int VISIBLE_RANGE = 500;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int entryCount;
+
+    private LineData mData;
+
+    private float[] mPositions;
+
+    private int mPosition = 0;
+
+    @Setup
+    public void setup() {
+
+        List<ILineDataSet> sets = new ArrayList<ILineDataSet>();
+
+        for (int i = 0; i < DATA_SET_COUNT; i++) {
+            sets.add(BenchmarkData.createLineDataSet(entryCount / DATA_SET_COUNT, i));
+        }
+
+        mData = new LineData(sets);
+        mPositions = BenchmarkData.createPositions(1024, 0f, entryCount / DATA_SET_COUNT - 1);
+    }
+
+    /**
+     * notifyDataChanged() recalculates the min/max of the ChartData object
+     */
+    @Benchmark
+    public float calcMinMax() {
+        mData.notifyDataChanged();
+        return mData.getYMax();
+    }
+
+    @Benchmark
+    public float calcMinMaxY() {
+        float fromX = mPositions[mPosition++ & 1023];
+        mData.calcMinMaxY(fromX, fromX + VISIBLE_RANGE);
+        return mData.getYMax();
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.highlight.ChartHighlighter;
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving the highlighted value for a touch position, as done for every touch event while
+ * dragging. The entries are split evenly across the DataSets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChartHighlighterBenchmark {
+
+    private static final int DATA_SET_COUNT = 4;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int entryCount;
+
+    private ChartHighlighter<BenchmarkChart> mHighlighter;
+
+    private float[] mTouchX;
+
+    private float[] mTouchY;
+
+    private int mTouch = 0;
+
+    @Setup
+    public void setup() {
+
+        List<ILineDataSet> sets = new ArrayList<ILineDataSet>();
+
+        for (int i = 0; i < DATA_SET_COUNT; i++) {
+            sets.add(BenchmarkData.createLineDataSet(entryCount / DATA_SET_COUNT, i));
+        }
+
+        BenchmarkChart chart = new BenchmarkChart(new LineData(sets));
+        ViewPortHandler viewPortHandler = chart.getViewPortHandler();
+
+        mHighlighter = new ChartHighlighter<BenchmarkChart>(chart);
+
+        mTouchX = BenchmarkData.createPositions(1024, viewPortHandler.contentLeft(), viewPortHandler.contentRight());
+        mTouchY = BenchmarkData.createPositions(1024, viewPortHandler.contentTop(), viewPortHandler.contentBottom());
+    }
+
+    @Benchmark
+    public Highlight getHighlight() {
+        int touch = mTouch++ & 1023;
+        return mHighlighter.getHighlight(mTouchX[touch], mTouchY[touch]);
+    }
+}
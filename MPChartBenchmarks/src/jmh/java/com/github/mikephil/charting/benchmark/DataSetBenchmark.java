@@ -0,0 +1,67 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups and min/max calculation on a single DataSet, as done on every frame while panning
+ * and when the data changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataSetBenchmark {
+
+    /**
+     * number of entries visible in the viewport for calcMinMaxY
+     */
+    private static final int VISIBLE_RANGE = 500;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int entryCount;
+
+    private LineDataSet mDataSet;
+
+    private float[] mPositions;
+
+    private int mPosition = 0;
+
+    @Setup
+    public void setup() {
+        mDataSet = BenchmarkData.createLineDataSet(entryCount, 1);
+        mPositions = BenchmarkData.createPositions(1024, 0f, entryCount - 1);
+    }
+
+    private float nextPosition() {
+        return mPositions[mPosition++ & 1023];
+    }
+
+    @Benchmark
+    public int getEntryIndex() {
+        return mDataSet.getEntryIndex(nextPosition(), Float.NaN, DataSet.Rounding.CLOSEST);
+    }
+
+    @Benchmark
+    public float calcMinMax() {
+        mDataSet.calcMinMax();
+        return mDataSet.getYMax();
+    }
+
+    @Benchmark
+    public float calcMinMaxY() {
+        float fromX = nextPosition();
+        mDataSet.calcMinMaxY(fromX, fromX + VISIBLE_RANGE);
+        return mDataSet.getYMax();
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.LargeValueFormatter;
+import com.github.mikephil.charting.formatter.PercentFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of a single value label, done for every drawn value and axis label on every frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormatterBenchmark {
+
+    private final DefaultValueFormatter mDefaultValueFormatter = new DefaultValueFormatter(2);
+
+    private final DefaultAxisValueFormatter mDefaultAxisValueFormatter = new DefaultAxisValueFormatter(1);
+
+    private final LargeValueFormatter mLargeValueFormatter = new LargeValueFormatter();
+
+    private final PercentFormatter mPercentFormatter = new PercentFormatter();
+
+    private float[] mValues;
+
+    private int mValue = 0;
+
+    @Setup
+    public void setup() {
+
+        Random random = new Random(1);
+        mValues = new float[1024];
+
+        // values of all magnitudes from 0.001 to 10^12
+        for (int i = 0; i < mValues.length; i++) {
+            mValues[i] = (float) Math.pow(10, random.nextFloat() * 15f - 3f) * (random.nextBoolean() ? 1f : -1f);
+        }
+    }
+
+    private float nextValue() {
+        return mValues[mValue++ & 1023];
+    }
+
+    @Benchmark
+    public String defaultValueFormatter() {
+        return mDefaultValueFormatter.getFormattedValue(nextValue(), null, 0, null);
+    }
+
+    @Benchmark
+    public String defaultAxisValueFormatter() {
+        return mDefaultAxisValueFormatter.getFormattedValue(nextValue(), null);
+    }
+
+    @Benchmark
+    public String largeValueFormatter() {
+        return mLargeValueFormatter.getFormattedValue(nextValue(), null, 0, null);
+    }
+
+    @Benchmark
+    public String percentFormatter() {
+        return mPercentFormatter.getFormattedValue(nextValue(), null, 0, null);
+    }
+}
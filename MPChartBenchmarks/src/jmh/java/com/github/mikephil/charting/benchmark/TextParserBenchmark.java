@@ -0,0 +1,134 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.utils.BinaryEntryFile;
+import com.github.mikephil.charting.utils.FloatColumns;
+import com.github.mikephil.charting.utils.TextEntryParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading the sample assets of the example app, with the line splitting loader FileUtils used
+ * before, with the TextEntryParser, and from the binary format of the same values. The assets
+ * are read into memory first, so only the parsing is measured. The asset directory is passed
+ * in by the build as the system property "mpchart.assets".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextParserBenchmark {
+
+    @Param({"sine.txt", "hugesine.txt", "othersine.txt"})
+    public String asset;
+
+    private byte[] mText;
+
+    private byte[] mBinary;
+
+    private TextEntryParser mParser = new TextEntryParser('#');
+
+    private FloatColumns mColumns = new FloatColumns(2, 1024);
+
+    @Setup
+    public void setup() throws IOException {
+
+        File assets = new File(System.getProperty("mpchart.assets", "MPChartExample/src/main/assets"));
+
+        mText = Files.readAllBytes(new File(assets, asset).toPath());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEntryFile.write(new LineDataSet(splitLines(), ""), out);
+        mBinary = out.toByteArray();
+    }
+
+    /**
+     * the loop of FileUtils.loadEntriesFromAssets(...) before it used the TextEntryParser
+     */
+    @Benchmark
+    public List<Entry> splitLines() throws IOException {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(mText), "UTF-8"));
+
+        String line = reader.readLine();
+
+        while (line != null) {
+            String[] split = line.split("#");
+
+            if (split.length <= 2) {
+                entries.add(new Entry(Float.parseFloat(split[1]), Float.parseFloat(split[0])));
+            } else {
+
+                float[] vals = new float[split.length - 1];
+
+                for (int i = 0; i < vals.length; i++) {
+                    vals[i] = Float.parseFloat(split[i]);
+                }
+
+                entries.add(new BarEntry(Integer.parseInt(split[split.length - 1]), vals));
+            }
+            line = reader.readLine();
+        }
+
+        reader.close();
+
+        return entries;
+    }
+
+    /**
+     * the same Entries as splitLines(), created by the parser
+     */
+    @Benchmark
+    public List<Entry> parseEntries() throws IOException {
+
+        final List<Entry> entries = new ArrayList<Entry>();
+
+        mParser.parse(new ByteArrayInputStream(mText), new TextEntryParser.RowHandler() {
+            @Override
+            public void onRow(float[] values, int count) {
+                entries.add(new Entry(values[1], values[0]));
+            }
+        });
+
+        return entries;
+    }
+
+    /**
+     * parsing into reused primitive columns, no object per line
+     */
+    @Benchmark
+    public int parseColumns() throws IOException {
+
+        mColumns.clear();
+        mParser.parse(new ByteArrayInputStream(mText), mColumns);
+
+        return mColumns.size();
+    }
+
+    @Benchmark
+    public int readBinary() throws IOException {
+        return BinaryEntryFile.read(new ByteArrayInputStream(mBinary)).count;
+    }
+}
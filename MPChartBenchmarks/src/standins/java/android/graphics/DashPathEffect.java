@@ -0,0 +1,10 @@
+package android.graphics;
+
+/**
+ * Plain-Java stand-in for the dash path effect of the android framework.
+ */
+public class DashPathEffect extends PathEffect {
+
+    public DashPathEffect(float[] intervals, float phase) {
+    }
+}
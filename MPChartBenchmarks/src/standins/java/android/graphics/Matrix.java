@@ -0,0 +1,235 @@
+package android.graphics;
+
+import java.util.Arrays;
+
+/**
+ * Plain-Java stand-in for the 3x3 matrix of the android framework, holds the values in the same
+ * row-major order and maps points and rects the same way.
+ */
+public class Matrix {
+
+    public static final int MSCALE_X = 0;
+    public static final int MSKEW_X = 1;
+    public static final int MTRANS_X = 2;
+    public static final int MSKEW_Y = 3;
+    public static final int MSCALE_Y = 4;
+    public static final int MTRANS_Y = 5;
+    public static final int MPERSP_0 = 6;
+    public static final int MPERSP_1 = 7;
+    public static final int MPERSP_2 = 8;
+
+    private final float[] mValues = new float[9];
+
+    private final float[] mTemp = new float[9];
+
+    public Matrix() {
+        reset();
+    }
+
+    public Matrix(Matrix src) {
+        set(src);
+    }
+
+    public void reset() {
+        Arrays.fill(mValues, 0f);
+        mValues[MSCALE_X] = 1f;
+        mValues[MSCALE_Y] = 1f;
+        mValues[MPERSP_2] = 1f;
+    }
+
+    public void set(Matrix src) {
+        if (src == null)
+            reset();
+        else
+            System.arraycopy(src.mValues, 0, mValues, 0, 9);
+    }
+
+    public boolean isIdentity() {
+        return mValues[MSCALE_X] == 1f && mValues[MSKEW_X] == 0f && mValues[MTRANS_X] == 0f
+                && mValues[MSKEW_Y] == 0f && mValues[MSCALE_Y] == 1f && mValues[MTRANS_Y] == 0f
+                && isAffine();
+    }
+
+    public boolean isAffine() {
+        return mValues[MPERSP_0] == 0f && mValues[MPERSP_1] == 0f && mValues[MPERSP_2] == 1f;
+    }
+
+    public void getValues(float[] values) {
+        System.arraycopy(mValues, 0, values, 0, 9);
+    }
+
+    public void setValues(float[] values) {
+        System.arraycopy(values, 0, mValues, 0, 9);
+    }
+
+    public void setTranslate(float dx, float dy) {
+        reset();
+        mValues[MTRANS_X] = dx;
+        mValues[MTRANS_Y] = dy;
+    }
+
+    public void setScale(float sx, float sy) {
+        reset();
+        mValues[MSCALE_X] = sx;
+        mValues[MSCALE_Y] = sy;
+    }
+
+    public void setScale(float sx, float sy, float px, float py) {
+        setScale(sx, sy);
+        mValues[MTRANS_X] = px - sx * px;
+        mValues[MTRANS_Y] = py - sy * py;
+    }
+
+    public boolean setConcat(Matrix a, Matrix b) {
+        multiply(a.mValues, b.mValues, mTemp);
+        System.arraycopy(mTemp, 0, mValues, 0, 9);
+        return true;
+    }
+
+    public boolean preConcat(Matrix other) {
+        return setConcat(this, other);
+    }
+
+    public boolean postConcat(Matrix other) {
+        return setConcat(other, this);
+    }
+
+    public boolean preTranslate(float dx, float dy) {
+        Matrix m = new Matrix();
+        m.setTranslate(dx, dy);
+        return preConcat(m);
+    }
+
+    public boolean postTranslate(float dx, float dy) {
+        Matrix m = new Matrix();
+        m.setTranslate(dx, dy);
+        return postConcat(m);
+    }
+
+    public boolean preScale(float sx, float sy) {
+        Matrix m = new Matrix();
+        m.setScale(sx, sy);
+        return preConcat(m);
+    }
+
+    public boolean postScale(float sx, float sy) {
+        Matrix m = new Matrix();
+        m.setScale(sx, sy);
+        return postConcat(m);
+    }
+
+    public boolean postScale(float sx, float sy, float px, float py) {
+        Matrix m = new Matrix();
+        m.setScale(sx, sy, px, py);
+        return postConcat(m);
+    }
+
+    public boolean invert(Matrix inverse) {
+
+        float[] v = mValues;
+
+        float c00 = v[4] * v[8] - v[5] * v[7];
+        float c01 = v[5] * v[6] - v[3] * v[8];
+        float c02 = v[3] * v[7] - v[4] * v[6];
+
+        float det = v[0] * c00 + v[1] * c01 + v[2] * c02;
+
+        if (det == 0f)
+            return false;
+
+        float[] r = mTemp;
+
+        r[0] = c00 / det;
+        r[1] = (v[2] * v[7] - v[1] * v[8]) / det;
+        r[2] = (v[1] * v[5] - v[2] * v[4]) / det;
+        r[3] = c01 / det;
+        r[4] = (v[0] * v[8] - v[2] * v[6]) / det;
+        r[5] = (v[2] * v[3] - v[0] * v[5]) / det;
+        r[6] = c02 / det;
+        r[7] = (v[1] * v[6] - v[0] * v[7]) / det;
+        r[8] = (v[0] * v[4] - v[1] * v[3]) / det;
+
+        if (inverse != null)
+            System.arraycopy(r, 0, inverse.mValues, 0, 9);
+
+        return true;
+    }
+
+    public void mapPoints(float[] pts) {
+        mapPoints(pts, 0, pts, 0, pts.length >> 1);
+    }
+
+    public void mapPoints(float[] dst, float[] src) {
+        mapPoints(dst, 0, src, 0, src.length >> 1);
+    }
+
+    public void mapPoints(float[] dst, int dstIndex, float[] src, int srcIndex, int pointCount) {
+
+        float[] v = mValues;
+        boolean affine = isAffine();
+
+        for (int i = 0; i < pointCount; i++) {
+
+            float x = src[srcIndex + i * 2];
+            float y = src[srcIndex + i * 2 + 1];
+
+            float mx = v[0] * x + v[1] * y + v[2];
+            float my = v[3] * x + v[4] * y + v[5];
+
+            if (!affine) {
+                float w = v[6] * x + v[7] * y + v[8];
+                mx /= w;
+                my /= w;
+            }
+
+            dst[dstIndex + i * 2] = mx;
+            dst[dstIndex + i * 2 + 1] = my;
+        }
+    }
+
+    public boolean mapRect(RectF rect) {
+        return mapRect(rect, rect);
+    }
+
+    public boolean mapRect(RectF dst, RectF src) {
+
+        float[] pts = new float[]{
+                src.left, src.top,
+                src.right, src.top,
+                src.right, src.bottom,
+                src.left, src.bottom
+        };
+
+        mapPoints(pts);
+
+        dst.left = Math.min(Math.min(pts[0], pts[2]), Math.min(pts[4], pts[6]));
+        dst.right = Math.max(Math.max(pts[0], pts[2]), Math.max(pts[4], pts[6]));
+        dst.top = Math.min(Math.min(pts[1], pts[3]), Math.min(pts[5], pts[7]));
+        dst.bottom = Math.max(Math.max(pts[1], pts[3]), Math.max(pts[5], pts[7]));
+
+        return mValues[MSKEW_X] == 0f && mValues[MSKEW_Y] == 0f && isAffine();
+    }
+
+    /**
+     * out = a * b, applying b first
+     */
+    private static void multiply(float[] a, float[] b, float[] out) {
+
+        float[] r = new float[9];
+
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                r[row * 3 + col] = a[row * 3] * b[col]
+                        + a[row * 3 + 1] * b[3 + col]
+                        + a[row * 3 + 2] * b[6 + col];
+            }
+        }
+
+        System.arraycopy(r, 0, out, 0, 9);
+    }
+
+    @Override
+    public String toString() {
+        return "Matrix" + Arrays.toString(mValues);
+    }
+}
@@ -0,0 +1,206 @@
+package android.graphics;
+
+/**
+ * Plain-Java stand-in for the paint of the android framework. Holds the attributes used by the
+ * library and estimates text metrics from the text size.
+ */
+public class Paint {
+
+    public static final int ANTI_ALIAS_FLAG = 0x01;
+    public static final int FILTER_BITMAP_FLAG = 0x02;
+    public static final int DITHER_FLAG = 0x04;
+
+    public enum Style {
+        FILL, STROKE, FILL_AND_STROKE
+    }
+
+    public enum Align {
+        LEFT, CENTER, RIGHT
+    }
+
+    public enum Cap {
+        BUTT, ROUND, SQUARE
+    }
+
+    public enum Join {
+        MITER, ROUND, BEVEL
+    }
+
+    public static class FontMetrics {
+        public float top;
+        public float ascent;
+        public float descent;
+        public float bottom;
+        public float leading;
+    }
+
+    private int mFlags;
+    private int mColor = Color.BLACK;
+    private float mStrokeWidth = 0f;
+    private float mTextSize = 12f;
+    private float mTextScaleX = 1f;
+    private Typeface mTypeface;
+    private Style mStyle = Style.FILL;
+    private Align mTextAlign = Align.LEFT;
+    private Cap mStrokeCap = Cap.BUTT;
+    private Join mStrokeJoin = Join.MITER;
+    private PathEffect mPathEffect;
+
+    public Paint() {
+    }
+
+    public Paint(int flags) {
+        mFlags = flags;
+    }
+
+    public Paint(Paint paint) {
+        set(paint);
+    }
+
+    public void set(Paint src) {
+        mFlags = src.mFlags;
+        mColor = src.mColor;
+        mStrokeWidth = src.mStrokeWidth;
+        mTextSize = src.mTextSize;
+        mTextScaleX = src.mTextScaleX;
+        mTypeface = src.mTypeface;
+        mStyle = src.mStyle;
+        mTextAlign = src.mTextAlign;
+        mStrokeCap = src.mStrokeCap;
+        mStrokeJoin = src.mStrokeJoin;
+        mPathEffect = src.mPathEffect;
+    }
+
+    public int getFlags() {
+        return mFlags;
+    }
+
+    public void setFlags(int flags) {
+        mFlags = flags;
+    }
+
+    public void setAntiAlias(boolean aa) {
+        mFlags = aa ? mFlags | ANTI_ALIAS_FLAG : mFlags & ~ANTI_ALIAS_FLAG;
+    }
+
+    public int getColor() {
+        return mColor;
+    }
+
+    public void setColor(int color) {
+        mColor = color;
+    }
+
+    public int getAlpha() {
+        return Color.alpha(mColor);
+    }
+
+    public void setAlpha(int a) {
+        mColor = (mColor & 0x00FFFFFF) | (a << 24);
+    }
+
+    public float getStrokeWidth() {
+        return mStrokeWidth;
+    }
+
+    public void setStrokeWidth(float width) {
+        mStrokeWidth = width;
+    }
+
+    public Style getStyle() {
+        return mStyle;
+    }
+
+    public void setStyle(Style style) {
+        mStyle = style;
+    }
+
+    public Cap getStrokeCap() {
+        return mStrokeCap;
+    }
+
+    public void setStrokeCap(Cap cap) {
+        mStrokeCap = cap;
+    }
+
+    public Join getStrokeJoin() {
+        return mStrokeJoin;
+    }
+
+    public void setStrokeJoin(Join join) {
+        mStrokeJoin = join;
+    }
+
+    public PathEffect getPathEffect() {
+        return mPathEffect;
+    }
+
+    public PathEffect setPathEffect(PathEffect effect) {
+        mPathEffect = effect;
+        return effect;
+    }
+
+    public Align getTextAlign() {
+        return mTextAlign;
+    }
+
+    public void setTextAlign(Align align) {
+        mTextAlign = align;
+    }
+
+    public float getTextSize() {
+        return mTextSize;
+    }
+
+    public void setTextSize(float textSize) {
+        mTextSize = textSize;
+    }
+
+    public float getTextScaleX() {
+        return mTextScaleX;
+    }
+
+    public void setTextScaleX(float scaleX) {
+        mTextScaleX = scaleX;
+    }
+
+    public Typeface getTypeface() {
+        return mTypeface;
+    }
+
+    public Typeface setTypeface(Typeface typeface) {
+        mTypeface = typeface;
+        return typeface;
+    }
+
+    public float measureText(String text) {
+        return measureText(text, 0, text.length());
+    }
+
+    public float measureText(String text, int start, int end) {
+        return (end - start) * mTextSize * mTextScaleX * 0.55f;
+    }
+
+    public void getTextBounds(String text, int start, int end, Rect bounds) {
+        bounds.set(0, (int) -(mTextSize * 0.75f), (int) measureText(text, start, end), 0);
+    }
+
+    public float getFontMetrics(FontMetrics metrics) {
+
+        if (metrics != null) {
+            metrics.top = -mTextSize * 0.95f;
+            metrics.ascent = -mTextSize * 0.8f;
+            metrics.descent = mTextSize * 0.2f;
+            metrics.bottom = mTextSize * 0.25f;
+            metrics.leading = 0f;
+        }
+
+        return mTextSize * 1.2f;
+    }
+
+    public FontMetrics getFontMetrics() {
+        FontMetrics metrics = new FontMetrics();
+        getFontMetrics(metrics);
+        return metrics;
+    }
+}
@@ -0,0 +1,45 @@
+package android.graphics;
+
+/**
+ * Plain-Java stand-in for the path of the android framework. Paths are only built for drawing,
+ * which does not happen in the benchmarks, so the geometry is not recorded.
+ */
+public class Path {
+
+    public Path() {
+    }
+
+    public Path(Path src) {
+    }
+
+    public void reset() {
+    }
+
+    public void rewind() {
+    }
+
+    public void set(Path src) {
+    }
+
+    public boolean isEmpty() {
+        return true;
+    }
+
+    public void moveTo(float x, float y) {
+    }
+
+    public void lineTo(float x, float y) {
+    }
+
+    public void cubicTo(float x1, float y1, float x2, float y2, float x3, float y3) {
+    }
+
+    public void close() {
+    }
+
+    public void addPath(Path src) {
+    }
+
+    public void transform(Matrix matrix) {
+    }
+}
@@ -0,0 +1,7 @@
+package android.graphics;
+
+/**
+ * Plain-Java stand-in for the path effect of the android framework.
+ */
+public class PathEffect {
+}
@@ -0,0 +1,9 @@
+package android.graphics;
+
+/**
+ * Plain-Java stand-in for the typeface of the android framework.
+ */
+public class Typeface {
+
+    public static final Typeface DEFAULT = new Typeface();
+}
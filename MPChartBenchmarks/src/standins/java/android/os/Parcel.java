@@ -0,0 +1,11 @@
+package android.os;
+
+/**
+ * Plain-Java stand-in for the parcel of the android framework, only present so the parcelable
+ * entries of the library can be loaded. Parceling is not supported.
+ */
+public final class Parcel {
+
+    private Parcel() {
+    }
+}
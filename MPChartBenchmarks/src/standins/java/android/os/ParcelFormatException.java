@@ -0,0 +1,15 @@
+package android.os;
+
+/**
+ * Plain-Java stand-in for the exception the library throws when reading a malformed parcel.
+ */
+public class ParcelFormatException extends RuntimeException {
+
+    public ParcelFormatException() {
+        super();
+    }
+
+    public ParcelFormatException(String reason) {
+        super(reason);
+    }
+}
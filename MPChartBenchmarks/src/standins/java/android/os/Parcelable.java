@@ -0,0 +1,22 @@
+package android.os;
+
+/**
+ * Plain-Java stand-in for the parcelable interface of the android framework, implemented by the
+ * entries of the library.
+ */
+public interface Parcelable {
+
+    int CONTENTS_FILE_DESCRIPTOR = 0x0001;
+    int PARCELABLE_WRITE_RETURN_VALUE = 0x0001;
+
+    int describeContents();
+
+    void writeToParcel(Parcel dest, int flags);
+
+    interface Creator<T> {
+
+        T createFromParcel(Parcel source);
+
+        T[] newArray(int size);
+    }
+}
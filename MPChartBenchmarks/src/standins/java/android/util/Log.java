@@ -0,0 +1,40 @@
+package android.util;
+
+/**
+ * Plain-Java stand-in for the log of the android framework, prints warnings and errors to
+ * System.err and drops everything else.
+ */
+public final class Log {
+
+    private Log() {
+    }
+
+    public static int v(String tag, String msg) {
+        return 0;
+    }
+
+    public static int d(String tag, String msg) {
+        return 0;
+    }
+
+    public static int i(String tag, String msg) {
+        return 0;
+    }
+
+    public static int w(String tag, String msg) {
+        return print("W", tag, msg);
+    }
+
+    public static int e(String tag, String msg) {
+        return print("E", tag, msg);
+    }
+
+    public static int e(String tag, String msg, Throwable tr) {
+        return print("E", tag, msg + "\n" + tr);
+    }
+
+    private static int print(String level, String tag, String msg) {
+        System.err.println(level + "/" + tag + ": " + msg);
+        return 0;
+    }
+}
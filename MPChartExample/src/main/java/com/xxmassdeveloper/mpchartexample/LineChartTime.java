@@ -21,7 +21,7 @@ import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
-import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.DoubleXLineDataSet;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
 import com.github.mikephil.charting.formatter.IAxisValueFormatter;
@@ -30,7 +30,6 @@ import com.github.mikephil.charting.utils.ColorTemplate;
 import com.xxmassdeveloper.mpchartexample.notimportant.DemoBase;
 
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -91,7 +90,7 @@ public class LineChartTime extends DemoBase implements OnSeekBarChangeListener {
         xAxis.setDrawGridLines(true);
         xAxis.setTextColor(Color.rgb(255, 192, 56));
         xAxis.setCenterAxisLabels(true);
-        xAxis.setGranularity(1f); // one hour
+        xAxis.setGranularity(TimeUnit.HOURS.toMillis(1)); // one hour
         xAxis.setValueFormatter(new IAxisValueFormatter() {
 
             private final SimpleDateFormat mFormat = new SimpleDateFormat("dd MMM HH:mm", Locale.ENGLISH);
@@ -99,7 +98,8 @@ public class LineChartTime extends DemoBase implements OnSeekBarChangeListener {
             @Override
             public String getFormattedValue(float value, AxisBase axis) {
 
-                long millis = TimeUnit.HOURS.toMillis((long) value);
+                // the values are milliseconds relative to the origin of the chart
+                long millis = (long) (((XAxis) axis).getXOrigin() + value);
                 return mFormat.format(new Date(millis));
             }
         });
@@ -121,23 +121,19 @@ public class LineChartTime extends DemoBase implements OnSeekBarChangeListener {
 
     private void setData(int count, float range) {
 
-        // now in hours
-        long now = TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis());
+        // now in milliseconds, too large for a float
+        long now = TimeUnit.HOURS.toMillis(TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis()));
 
-        ArrayList<Entry> values = new ArrayList<>();
+        // create a dataset that keeps the timestamps in double precision
+        DoubleXLineDataSet set1 = new DoubleXLineDataSet("DataSet 1");
 
-        // count = hours
-        float to = now + count;
-
-        // increment by 1 hour
-        for (float x = now; x < to; x++) {
+        // count = hours, one entry per hour
+        for (int i = 0; i < count; i++) {
 
             float y = getRandom(range, 50);
-            values.add(new Entry(x, y)); // add one entry per hour
+            set1.addAbsoluteEntry(now + TimeUnit.HOURS.toMillis(i), y);
         }
 
-        // create a dataset and give it a type
-        LineDataSet set1 = new LineDataSet(values, "DataSet 1");
         set1.setAxisDependency(AxisDependency.LEFT);
         set1.setColor(ColorTemplate.getHoloBlue());
         set1.setValueTextColor(ColorTemplate.getHoloBlue());
@@ -154,8 +150,9 @@ public class LineChartTime extends DemoBase implements OnSeekBarChangeListener {
         data.setValueTextColor(Color.WHITE);
         data.setValueTextSize(9f);
 
-        // set data
+        // set data, the x-values the chart works with are relative to the first timestamp
         chart.setData(data);
+        chart.setXOrigin(now);
     }
 
     @Override
@@ -16,7 +16,10 @@ public abstract class AbstractBuffer<T> {
     protected int index = 0;
 
     /** float-buffer that holds the data points to draw, order: x,y,x,y,... */
-    public final float[] buffer;
+    public float[] buffer;
+
+    /** the number of values the buffer holds after the last feed */
+    protected int mSize = 0;
 
     /** animation phase x-axis */
     protected float phaseX = 1f;
@@ -27,8 +30,8 @@ public abstract class AbstractBuffer<T> {
     /** indicates from which x-index the visible data begins */
     protected int mFrom = 0;
 
-    /** indicates to which x-index the visible data ranges */
-    protected int mTo = 0;
+    /** indicates to which x-index (inclusive) the visible data ranges */
+    protected int mTo = Integer.MAX_VALUE;
 
     /**
      * Initialization with buffer-size.
@@ -38,6 +41,7 @@ public abstract class AbstractBuffer<T> {
     public AbstractBuffer(int size) {
         index = 0;
         buffer = new float[size];
+        mSize = size;
     }
 
     /** limits the drawing on the x-axis */
@@ -54,6 +58,27 @@ public abstract class AbstractBuffer<T> {
         mTo = to;
     }
 
+    /** returns the x-index the visible data begins at */
+    public int getFrom() {
+        return mFrom;
+    }
+
+    /** returns the x-index the visible data ranges to */
+    public int getTo() {
+        return mTo;
+    }
+
+    /**
+     * Makes sure the buffer can hold the given number of values. Grows the buffer if needed,
+     * the current content is NOT preserved.
+     *
+     * @param size
+     */
+    protected void ensureCapacity(int size) {
+        if (buffer.length < size)
+            buffer = new float[Math.max(size, buffer.length + (buffer.length >> 1))];
+    }
+
     /**
      * Resets the buffer index to 0 and makes the buffer reusable.
      */
@@ -62,12 +87,15 @@ public abstract class AbstractBuffer<T> {
     }
 
     /**
-     * Returns the size (length) of the buffer array.
+     * Returns the number of values the buffer holds after the last feed. Only the values of
+     * the entries between getFrom() and getTo() are fed, so this is usually less than the
+     * length of the buffer array (which it returned before buffers were fed by range) and
+     * less than the values of the whole DataSet. Iterate up to size(), not buffer.length.
      * 
      * @return
      */
     public int size() {
-        return buffer.length;
+        return mSize;
     }
 
     /**
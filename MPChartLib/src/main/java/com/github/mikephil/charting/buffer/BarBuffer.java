@@ -3,6 +3,7 @@ package com.github.mikephil.charting.buffer;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
 
 public class BarBuffer extends AbstractBuffer<IBarDataSet> {
 
@@ -14,6 +15,17 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     /** width of the bar on the x-axis, in values (not pixels) */
     protected float mBarWidth = 1f;
 
+    /** number of bars (stack values) of all entries before mFrom, as of the last feed */
+    protected int mFirstBarIndex = 0;
+
+    /**
+     * bars of the entries before each entry of a stacked DataSet, index i holds the number of
+     * bars of the entries 0 to i - 1, counted for the DataSet and entry count below
+     */
+    private int[] mBarsBefore = new int[1];
+    private IBarDataSet mBarsBeforeDataSet = null;
+    private int mBarsBeforeEntryCount = -1;
+
     public BarBuffer(int size, int dataSetCount, boolean containsStacks) {
         super(size);
         this.mDataSetCount = dataSetCount;
@@ -32,6 +44,60 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         this.mInverted = inverted;
     }
 
+    /**
+     * Returns the index of the first bar of the last feed among all bars of the DataSet, with
+     * every value of a stack counting as a bar. This is the position of its color and fill.
+     *
+     * @return
+     */
+    public int getFirstBarIndex() {
+        return mFirstBarIndex;
+    }
+
+    /**
+     * Counts the bars of the entries before mFrom. Entries of stacked DataSets may hold
+     * stacks of different sizes, so they are summed up once per DataSet and entry count and
+     * looked up afterwards, for other DataSets every entry is one bar.
+     *
+     * @param data
+     */
+    protected void calcFirstBarIndex(IBarDataSet data) {
+
+        if (!mContainsStacks || data instanceof IColumnarDataSet) {
+            mFirstBarIndex = mFrom;
+            return;
+        }
+
+        int entryCount = data.getEntryCount();
+
+        if (data != mBarsBeforeDataSet || entryCount != mBarsBeforeEntryCount)
+            calcBarsBefore(data, entryCount);
+
+        mFirstBarIndex = mBarsBefore[Math.min(mFrom, entryCount)];
+    }
+
+    private void calcBarsBefore(IBarDataSet data, int entryCount) {
+
+        if (mBarsBefore.length < entryCount + 1)
+            mBarsBefore = new int[entryCount + 1];
+
+        int bars = 0;
+
+        for (int i = 0; i < entryCount; i++) {
+
+            mBarsBefore[i] = bars;
+
+            float[] vals = data.getEntryForIndex(i).getYVals();
+
+            bars += vals == null ? 1 : vals.length;
+        }
+
+        mBarsBefore[entryCount] = bars;
+
+        mBarsBeforeDataSet = data;
+        mBarsBeforeEntryCount = entryCount;
+    }
+
     protected void addBar(float left, float top, float right, float bottom) {
 
         buffer[index++] = left;
@@ -40,13 +106,64 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         buffer[index++] = bottom;
     }
 
+    /**
+     * Adds the bar of a single (not stacked) value.
+     *
+     * @param x
+     * @param y
+     * @param barWidthHalf
+     */
+    protected void addBar(float x, float y, float barWidthHalf) {
+
+        float left = x - barWidthHalf;
+        float right = x + barWidthHalf;
+        float bottom, top;
+
+        if (mInverted) {
+            bottom = y >= 0 ? y : 0;
+            top = y <= 0 ? y : 0;
+        } else {
+            top = y >= 0 ? y : 0;
+            bottom = y <= 0 ? y : 0;
+        }
+
+        // multiply the height of the rect with the phase
+        if (top > 0)
+            top *= phaseY;
+        else
+            bottom *= phaseY;
+
+        addBar(left, top, right, bottom);
+    }
+
     @Override
     public void feed(IBarDataSet data) {
 
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        // only the bars between mFrom and mTo are fed, size the buffer to that window
+        int to = (int) Math.min(Math.ceil(size) - 1, mTo);
+        int window = Math.max(to - mFrom + 1, 0);
+
+        ensureCapacity(window * 4 * (mContainsStacks ? data.getStackSize() : 1));
+        calcFirstBarIndex(data);
+
+        if (data instanceof IColumnarDataSet) {
+
+            // columnar DataSets hold no stacks, read the values without creating entries
+            final IColumnarDataSet columns = (IColumnarDataSet) data;
+
+            for (int i = mFrom; i < size && i <= mTo; i++) {
+                addBar(columns.getXForIndex(i), columns.getYForIndex(i), barWidthHalf);
+            }
+
+            mSize = index;
+            reset();
+            return;
+        }
+
+        for (int i = mFrom; i < size && i <= mTo; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -59,25 +176,7 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
 
             if (!mContainsStacks || vals == null) {
 
-                float left = x - barWidthHalf;
-                float right = x + barWidthHalf;
-                float bottom, top;
-
-                if (mInverted) {
-                    bottom = y >= 0 ? y : 0;
-                    top = y <= 0 ? y : 0;
-                } else {
-                    top = y >= 0 ? y : 0;
-                    bottom = y <= 0 ? y : 0;
-                }
-
-                // multiply the height of the rect with the phase
-                if (top > 0)
-                    top *= phaseY;
-                else
-                    bottom *= phaseY;
-
-                addBar(left, top, right, bottom);
+                addBar(x, y, barWidthHalf);
 
             } else {
 
@@ -125,6 +224,7 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             }
         }
 
+        mSize = index;
         reset();
     }
 }
@@ -3,6 +3,7 @@ package com.github.mikephil.charting.buffer;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
 
 public class HorizontalBarBuffer extends BarBuffer {
 
@@ -10,13 +11,57 @@ public class HorizontalBarBuffer extends BarBuffer {
         super(size, dataSetCount, containsStacks);
     }
 
+    @Override
+    protected void addBar(float x, float y, float barWidthHalf) {
+
+        float bottom = x - barWidthHalf;
+        float top = x + barWidthHalf;
+        float left, right;
+        if (mInverted) {
+            left = y >= 0 ? y : 0;
+            right = y <= 0 ? y : 0;
+        } else {
+            right = y >= 0 ? y : 0;
+            left = y <= 0 ? y : 0;
+        }
+
+        // multiply the height of the rect with the phase
+        if (right > 0)
+            right *= phaseY;
+        else
+            left *= phaseY;
+
+        addBar(left, top, right, bottom);
+    }
+
     @Override
     public void feed(IBarDataSet data) {
 
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        // only the bars between mFrom and mTo are fed, size the buffer to that window
+        int to = (int) Math.min(Math.ceil(size) - 1, mTo);
+        int window = Math.max(to - mFrom + 1, 0);
+
+        ensureCapacity(window * 4 * (mContainsStacks ? data.getStackSize() : 1));
+        calcFirstBarIndex(data);
+
+        if (data instanceof IColumnarDataSet) {
+
+            // columnar DataSets hold no stacks, read the values without creating entries
+            final IColumnarDataSet columns = (IColumnarDataSet) data;
+
+            for (int i = mFrom; i < size && i <= mTo; i++) {
+                addBar(columns.getXForIndex(i), columns.getYForIndex(i), barWidthHalf);
+            }
+
+            mSize = index;
+            reset();
+            return;
+        }
+
+        for (int i = mFrom; i < size && i <= mTo; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -29,24 +74,7 @@ public class HorizontalBarBuffer extends BarBuffer {
 
             if (!mContainsStacks || vals == null) {
 
-                float bottom = x - barWidthHalf;
-                float top = x + barWidthHalf;
-                float left, right;
-                if (mInverted) {
-                    left = y >= 0 ? y : 0;
-                    right = y <= 0 ? y : 0;
-                } else {
-                    right = y >= 0 ? y : 0;
-                    left = y <= 0 ? y : 0;
-                }
-
-                // multiply the height of the rect with the phase
-                if (right > 0)
-                    right *= phaseY;
-                else
-                    left *= phaseY;
-
-                addBar(left, top, right, bottom);
+                addBar(x, y, barWidthHalf);
 
             } else {
 
@@ -89,6 +117,7 @@ public class HorizontalBarBuffer extends BarBuffer {
             }
         }
 
+        mSize = index;
         reset();
     }
 }
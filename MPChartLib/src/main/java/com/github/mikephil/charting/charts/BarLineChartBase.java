@@ -23,6 +23,7 @@ import com.github.mikephil.charting.highlight.ChartHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDoubleXDataSet;
 import com.github.mikephil.charting.jobs.AnimatedMoveViewJob;
 import com.github.mikephil.charting.jobs.AnimatedZoomJob;
 import com.github.mikephil.charting.jobs.MoveViewJob;
@@ -31,6 +32,7 @@ import com.github.mikephil.charting.listener.BarLineChartTouchListener;
 import com.github.mikephil.charting.listener.OnDrawListener;
 import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
+import com.github.mikephil.charting.utils.ChartLayer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
@@ -185,6 +187,29 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
     private long totalTime = 0;
     private long drawCycles = 0;
 
+    /**
+     * flag that indicates if the static parts of the chart are cached in offscreen layers
+     */
+    protected boolean mLayerCachingEnabled = false;
+
+    /**
+     * layer holding the grid background, axis lines and everything else drawn behind the data
+     */
+    protected ChartLayer mBackgroundLayer = new ChartLayer();
+
+    /**
+     * layer holding everything except the highlights and markers
+     */
+    protected ChartLayer mContentLayer = new ChartLayer();
+
+    /**
+     * incremented whenever the data or the styling changed, part of the content layer key
+     */
+    private int mLayerVersion = 0;
+
+    private float[] mBackgroundLayerKey = new float[10];
+    private float[] mContentLayerKey = new float[12];
+
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
@@ -194,8 +219,34 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         long starttime = System.currentTimeMillis();
 
-        // execute all drawing commands
-        drawGridBackground(canvas);
+        // execute all drawing commands, the cached layers are bitmaps
+        if (mLayerCachingEnabled && !mVectorOutput) {
+            drawLayers(canvas);
+        } else {
+
+            computeAxesForDraw();
+
+            drawBehindData(canvas);
+
+            drawContent(canvas, true);
+
+            drawMarkers(canvas);
+        }
+
+        if (mLogEnabled) {
+            long drawtime = (System.currentTimeMillis() - starttime);
+            totalTime += drawtime;
+            drawCycles += 1;
+            long average = totalTime / drawCycles;
+            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
+                    + drawCycles);
+        }
+    }
+
+    /**
+     * Auto-scales the y-axes if enabled and computes the axis entries for the current viewport.
+     */
+    protected void computeAxesForDraw() {
 
         if (mAutoScaleMinMaxEnabled) {
             autoScale();
@@ -209,6 +260,17 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+    }
+
+    /**
+     * Draws the grid background, the axis lines and the grid- and limit-lines that are drawn
+     * behind the data.
+     *
+     * @param canvas
+     */
+    protected void drawBehindData(Canvas canvas) {
+
+        drawGridBackground(canvas);
 
         mXAxisRenderer.renderAxisLine(canvas);
         mAxisRendererLeft.renderAxisLine(canvas);
@@ -231,6 +293,16 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
             mAxisRendererRight.renderLimitLines(canvas);
+    }
+
+    /**
+     * Draws the data and everything on top of it except the markers: grid- and limit-lines in
+     * front of the data, the axis labels, the values, the legend and the description.
+     *
+     * @param canvas
+     * @param drawHighlights false to leave out the highlights, e.g. when drawing a cached layer
+     */
+    protected void drawContent(Canvas canvas, boolean drawHighlights) {
 
         int clipRestoreCount = canvas.save();
 
@@ -251,7 +323,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mAxisRendererRight.renderGridLines(canvas);
 
         // if highlighting is enabled
-        if (valuesToHighlight())
+        if (drawHighlights && valuesToHighlight())
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
         // Removes clipping rectangle
@@ -286,17 +358,149 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mLegendRenderer.renderLegend(canvas);
 
         drawDescription(canvas);
+    }
 
-        drawMarkers(canvas);
+    /**
+     * Draws the chart from the cached layers, only the highlights and markers are drawn on
+     * every call. The layers are rendered again when the viewport, the axis ranges, the
+     * animation phase or the data changed.
+     *
+     * @param canvas
+     */
+    protected void drawLayers(Canvas canvas) {
 
-        if (mLogEnabled) {
-            long drawtime = (System.currentTimeMillis() - starttime);
-            totalTime += drawtime;
-            drawCycles += 1;
-            long average = totalTime / drawCycles;
-            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
-                    + drawCycles);
+        final int width = getWidth();
+        final int height = getHeight();
+
+        int matrixVersion = mViewPortHandler.getMatrixTouchVersion();
+
+        fillLayerKey(mContentLayerKey);
+        mContentLayerKey[10] = mAnimator.getPhaseX();
+        mContentLayerKey[11] = mAnimator.getPhaseY();
+
+        if (!mContentLayer.isValid(mContentLayerKey, matrixVersion, mLayerVersion, width, height)) {
+
+            computeAxesForDraw();
+
+            // auto scaling may have changed the axis ranges, the next frame compares against
+            // those as they are kept until the viewport or the data change
+            fillLayerKey(mBackgroundLayerKey);
+            fillLayerKey(mContentLayerKey);
+            matrixVersion = mViewPortHandler.getMatrixTouchVersion();
+
+            Canvas content = mContentLayer.begin(width, height);
+
+            if (content == null) {
+
+                // not enough memory for the layers, draw without them
+                drawBehindData(canvas);
+                drawContent(canvas, true);
+                drawMarkers(canvas);
+                return;
+            }
+
+            if (!mBackgroundLayer.isValid(mBackgroundLayerKey, matrixVersion, 0, width, height)) {
+
+                Canvas background = mBackgroundLayer.begin(width, height);
+
+                if (background != null) {
+                    drawBehindData(background);
+                    mBackgroundLayer.end(mBackgroundLayerKey, matrixVersion, 0);
+                }
+            }
+
+            if (mBackgroundLayer.isValid(mBackgroundLayerKey, matrixVersion, 0, width, height))
+                mBackgroundLayer.draw(content);
+            else
+                drawBehindData(content);
+
+            drawContent(content, false);
+
+            mContentLayer.end(mContentLayerKey, matrixVersion, mLayerVersion);
+        }
+
+        mContentLayer.draw(canvas);
+
+        if (valuesToHighlight()) {
+
+            int clipRestoreCount = canvas.save();
+
+            if (isClipDataToContentEnabled())
+                canvas.clipRect(mViewPortHandler.getContentRect());
+
+            mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+
+            canvas.restoreToCount(clipRestoreCount);
         }
+
+        drawMarkers(canvas);
+    }
+
+    /**
+     * Writes the content rect and the axis ranges into the first 10 values of the given key.
+     * The version of the touch matrix is not part of the float key, it is compared exactly.
+     *
+     * @param key
+     */
+    private void fillLayerKey(float[] key) {
+
+        RectF content = mViewPortHandler.getContentRect();
+
+        key[0] = content.left;
+        key[1] = content.top;
+        key[2] = content.right;
+        key[3] = content.bottom;
+        key[4] = mXAxis.mAxisMinimum;
+        key[5] = mXAxis.mAxisMaximum;
+        key[6] = mAxisLeft.mAxisMinimum;
+        key[7] = mAxisLeft.mAxisMaximum;
+        key[8] = mAxisRight.mAxisMinimum;
+        key[9] = mAxisRight.mAxisMaximum;
+    }
+
+    /**
+     * If set to true, the static parts of the chart (grid background, axes and their labels,
+     * the data, the legend and the description) are cached in offscreen bitmaps, and
+     * invalidations that only change the highlights or markers just draw those on top. This
+     * makes crosshair-markers and highlighting by dragging a lot cheaper, but costs two bitmaps
+     * of the size of the chart. The layers are rendered again when the viewport, the axis
+     * ranges, the animation phase or the data (notifyDataSetChanged()) change. Call
+     * invalidateLayers() after changing the styling of the chart. Default: false
+     *
+     * @param enabled
+     */
+    public void setLayerCachingEnabled(boolean enabled) {
+        mLayerCachingEnabled = enabled;
+
+        if (!enabled)
+            releaseLayers();
+    }
+
+    /**
+     * Returns true if the static parts of the chart are cached in offscreen layers.
+     *
+     * @return
+     */
+    public boolean isLayerCachingEnabled() {
+        return mLayerCachingEnabled;
+    }
+
+    /**
+     * Forces the cached layers to be rendered again on the next draw, call this after changing
+     * the styling (colors, grid-lines, labels, ...) of the chart while layer caching is enabled.
+     */
+    public void invalidateLayers() {
+        mLayerVersion++;
+        mBackgroundLayer.invalidate();
+        mContentLayer.invalidate();
+    }
+
+    /**
+     * Recycles the bitmaps of the cached layers, they are created again when needed.
+     */
+    public void releaseLayers() {
+        mBackgroundLayer.release();
+        mContentLayer.release();
     }
 
     /**
@@ -344,6 +548,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mRenderer != null)
             mRenderer.initBuffers();
 
+        applyXOrigin();
+
         calcMinMax();
 
         mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
@@ -354,6 +560,56 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mLegendRenderer.computeLegend(mData);
 
         calculateOffsets();
+
+        mLayerVersion++;
+    }
+
+    /**
+     * Sets the absolute x-value that corresponds to an x-value of 0, for charts whose x-values
+     * do not fit into a float, like epoch timestamps. DataSets implementing IDoubleXDataSet
+     * keep their x-values in double precision and hand the chart their distance to the origin,
+     * the transformers subtract the origin in double precision (see
+     * Transformer.absoluteValuesToPixel(...)) and axis formatters can add it back with
+     * XAxis.getXOrigin(). Pick a value close to the data, e.g. the first timestamp.
+     *
+     * @param origin
+     */
+    public void setXOrigin(double origin) {
+
+        mXAxis.setXOrigin(origin);
+        mLeftAxisTransformer.setXOrigin(origin);
+        mRightAxisTransformer.setXOrigin(origin);
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the absolute x-value that corresponds to an x-value of 0.
+     *
+     * @return
+     */
+    public double getXOrigin() {
+        return mXAxis.getXOrigin();
+    }
+
+    /**
+     * Hands the x-origin of the chart to all DataSets with double-precision x-values.
+     */
+    protected void applyXOrigin() {
+
+        final double origin = mXAxis.getXOrigin();
+        boolean changed = false;
+
+        for (IBarLineScatterCandleBubbleDataSet set : mData.getDataSets()) {
+
+            if (set instanceof IDoubleXDataSet && ((IDoubleXDataSet) set).getXOrigin() != origin) {
+                ((IDoubleXDataSet) set).setXOrigin(origin);
+                changed = true;
+            }
+        }
+
+        if (changed)
+            mData.notifyDataChanged();
     }
 
     /**
@@ -1647,6 +1903,13 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
     protected float[] mOnSizeChangedBuffer = new float[2];
 
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        releaseLayers();
+    }
+
     @Override
     protected void onSizeChanged(int w, int h, int oldw, int oldh) {
 
@@ -11,6 +11,7 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
+import android.graphics.Picture;
 import android.graphics.RectF;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
@@ -47,13 +48,17 @@ import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.SvgCanvas;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 
 /**
@@ -157,6 +162,12 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     protected DataRenderer mRenderer;
 
+    /**
+     * true while the chart is drawn for an output that keeps what is drawn, e.g. a Picture or
+     * an SVG document, no reused bitmaps must be drawn then
+     */
+    protected boolean mVectorOutput = false;
+
     protected IHighlighter mHighlighter;
 
     /**
@@ -1516,6 +1527,62 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         Bitmap returnedBitmap = Bitmap.createBitmap(getWidth(), getHeight(), Bitmap.Config.RGB_565);
         // Bind a canvas to it
         Canvas canvas = new Canvas(returnedBitmap);
+        drawWithBackground(canvas);
+        // return the bitmap
+        return returnedBitmap;
+    }
+
+    /**
+     * Records the current state of the chart, including its background, into a Picture. Unlike
+     * the chart itself, the Picture can be drawn on any thread, e.g. to export the chart in the
+     * background (see ChartExporter). Recording is much cheaper than drawing into a bitmap.
+     * Must be called on the UI thread. Returns null if the chart has no size yet.
+     *
+     * @return
+     */
+    public Picture getChartPicture() {
+
+        if (getWidth() <= 0 || getHeight() <= 0)
+            return null;
+
+        Picture picture = new Picture();
+
+        // the picture references bitmaps instead of copying them, draw the chart without them
+        drawAsVectors(picture.beginRecording(getWidth(), getHeight()));
+        picture.endRecording();
+
+        return picture;
+    }
+
+    /**
+     * Draws the background and the chart on the given canvas for an output that keeps what is
+     * drawn: the chart and its renderer draw directly on the canvas, without their bitmaps.
+     *
+     * @param canvas
+     */
+    private void drawAsVectors(Canvas canvas) {
+
+        mVectorOutput = true;
+
+        if (mRenderer != null)
+            mRenderer.setVectorOutput(true);
+
+        try {
+            drawWithBackground(canvas);
+        } finally {
+            mVectorOutput = false;
+
+            if (mRenderer != null)
+                mRenderer.setVectorOutput(false);
+        }
+    }
+
+    /**
+     * Draws the background of the view (white if it has none) and the chart on the given canvas.
+     *
+     * @param canvas
+     */
+    private void drawWithBackground(Canvas canvas) {
         // Get the view's background
         Drawable bgDrawable = getBackground();
         if (bgDrawable != null)
@@ -1527,8 +1594,40 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             canvas.drawColor(Color.WHITE);
         // draw the view on the canvas
         draw(canvas);
-        // return the bitmap
-        return returnedBitmap;
+    }
+
+    /**
+     * Writes the current state of the chart, including its background, as an SVG document to
+     * the given writer (see SvgCanvas). Lines, shapes and text stay vectors and can be scaled
+     * to any size, e.g. for print. The document is written while the chart is drawn, no bitmap
+     * of the chart is created. The writer is not closed. Must be called on the UI thread.
+     *
+     * @param writer
+     * @throws IOException
+     */
+    public void saveToSvg(Writer writer) throws IOException {
+
+        SvgCanvas canvas = new SvgCanvas(writer, getWidth(), getHeight());
+        drawAsVectors(canvas);
+        canvas.finish();
+    }
+
+    /**
+     * Writes the current state of the chart as an SVG document to the given file, replacing
+     * it. See saveToSvg(Writer).
+     *
+     * @param file
+     * @throws IOException
+     */
+    public void saveToSvg(File file) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+
+        try {
+            saveToSvg(writer);
+        } finally {
+            writer.close();
+        }
     }
 
     /**
@@ -1536,6 +1635,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      * the sdcard leaving the path empty "" will put the saved file directly on
      * the SD card chart is saved as a PNG image, example:
      * saveToPath("myfilename", "foldername1/foldername2");
+     * The image is compressed on the calling thread, use a ChartExporter to export charts
+     * in the background.
      *
      * @param title
      * @param pathOnSD e.g. "folder1/folder2/folder3"
@@ -1563,6 +1664,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         } catch (Exception e) {
             e.printStackTrace();
             return false;
+        } finally {
+            b.recycle();
         }
 
         return true;
@@ -1572,6 +1675,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      * Saves the current state of the chart to the gallery as an image type. The
      * compression must be set for JPEG only. 0 == maximum compression, 100 = low
      * compression (high quality). NOTE: Needs permission WRITE_EXTERNAL_STORAGE
+     * The image is compressed on the calling thread, use a ChartExporter to export charts
+     * in the background.
      *
      * @param fileName        e.g. "my_image"
      * @param subFolderPath   e.g. "ChartPics"
@@ -1623,6 +1728,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
             Bitmap b = getChartBitmap();
             b.compress(format, quality, out);
+            b.recycle();
 
             out.flush();
             out.close();
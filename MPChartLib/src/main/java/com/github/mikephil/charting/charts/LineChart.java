@@ -7,6 +7,9 @@ import android.util.AttributeSet;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.renderer.LineChartRenderer;
+import com.github.mikephil.charting.renderer.LineGeometryPipeline;
+
+import java.util.concurrent.Executor;
 
 /**
  * Chart that draws lines, surfaces, circles, ...
@@ -39,6 +42,62 @@ public class LineChart extends BarLineChartBase<LineData> implements LineDataPro
         return mData;
     }
 
+    /**
+     * redraws the chart with newly prepared geometry, run on the UI thread
+     */
+    private final Runnable mDrawPreparedGeometry = new Runnable() {
+        @Override
+        public void run() {
+            mContentLayer.invalidate();
+            invalidate();
+        }
+    };
+
+    /**
+     * called by the geometry pipeline on its executor's thread
+     */
+    private final Runnable mOnGeometryPrepared = new Runnable() {
+        @Override
+        public void run() {
+            post(mDrawPreparedGeometry);
+        }
+    };
+
+    /**
+     * Sets an executor on which the decimated lines (see LineDataSet.setDecimationEnabled(...))
+     * are prepared whenever the data or the viewport changed, so that DataSets with millions
+     * of entries do not block the UI thread. Drawing then only transforms the latest prepared
+     * lines, the chart is redrawn once the lines for the current viewport are ready. The
+     * data should be modified on the UI thread followed by notifyDataSetChanged().
+     * Set to null to decimate the lines while drawing. Default: null
+     *
+     * @param executor
+     */
+    public void setGeometryExecutor(Executor executor) {
+
+        if (!(mRenderer instanceof LineChartRenderer))
+            return;
+
+        ((LineChartRenderer) mRenderer).setGeometryPipeline(executor == null
+                ? null
+                : new LineGeometryPipeline(executor, mOnGeometryPrepared));
+    }
+
+    /**
+     * Sets an executor the decimation of the visible lines (see
+     * LineDataSet.setDecimationEnabled(...)) is spread across while drawing, if the chart has
+     * multiple decimated DataSets with at least the given number of visible entries in total.
+     * The output is the same as without the executor. Null disables it. Default: null
+     *
+     * @param executor          e.g. a fixed thread pool with one thread per core
+     * @param minVisibleEntries
+     */
+    public void setParallelExecutor(Executor executor, int minVisibleEntries) {
+
+        if (mRenderer instanceof LineChartRenderer)
+            ((LineChartRenderer) mRenderer).setParallelExecutor(executor, minVisibleEntries);
+    }
+
     @Override
     protected void onDetachedFromWindow() {
         // releases the bitmap in the renderer to avoid oom error
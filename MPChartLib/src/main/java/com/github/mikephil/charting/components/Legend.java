@@ -5,6 +5,7 @@ import android.graphics.Paint;
 
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.FSize;
+import com.github.mikephil.charting.utils.TextMeasureCache;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -203,7 +204,7 @@ public class Legend extends ComponentBase {
             String label = entry.label;
             if (label == null) continue;
 
-            float length = (float) Utils.calcTextWidth(p, label);
+            float length = (float) mLabelMeasureCache.calcTextWidth(p, label);
 
             if (length > max)
                 max = length;
@@ -226,7 +227,7 @@ public class Legend extends ComponentBase {
             String label = entry.label;
             if (label == null) continue;
 
-            float length = (float) Utils.calcTextHeight(p, label);
+            float length = (float) mLabelMeasureCache.calcTextHeight(p, label);
 
             if (length > max)
                 max = length;
@@ -630,6 +631,11 @@ public class Legend extends ComponentBase {
     private List<Boolean> mCalculatedLabelBreakPoints = new ArrayList<>(16);
     private List<FSize> mCalculatedLineSizes = new ArrayList<>(16);
 
+    /**
+     * cache for the measured sizes of the labels, the legend is laid out on every layout pass
+     */
+    private TextMeasureCache mLabelMeasureCache = new TextMeasureCache();
+
     public List<FSize> getCalculatedLabelSizes() {
         return mCalculatedLabelSizes;
     }
@@ -701,7 +707,7 @@ public class Legend extends ComponentBase {
                             wasStacked = false;
                         }
 
-                        width += Utils.calcTextWidth(labelpaint, label);
+                        width += mLabelMeasureCache.calcTextWidth(labelpaint, label);
 
                         maxHeight += labelLineHeight + yEntrySpace;
                     } else {
@@ -758,7 +764,7 @@ public class Legend extends ComponentBase {
                     // grouped forms have null labels
                     if (label != null) {
 
-                        mCalculatedLabelSizes.add(Utils.calcTextSize(labelpaint, label));
+                        mCalculatedLabelSizes.add(mLabelMeasureCache.calcTextSize(labelpaint, label));
                         requiredWidth += drawingForm ? formToTextSpace + formSize : 0.f;
                         requiredWidth += mCalculatedLabelSizes.get(i).width;
                     } else {
@@ -52,6 +52,11 @@ public class XAxis extends AxisBase {
      */
     private XAxisPosition mPosition = XAxisPosition.TOP;
 
+    /**
+     * the absolute x-value that corresponds to an x-value of 0, see setXOrigin(...)
+     */
+    private double mXOrigin = 0.0;
+
     /**
      * enum for the position of the x-labels relative to the chart
      */
@@ -65,6 +70,27 @@ public class XAxis extends AxisBase {
         mYOffset = Utils.convertDpToPixel(4.f); // -3
     }
 
+    /**
+     * Returns the absolute x-value that corresponds to an x-value of 0. Formatters of
+     * double-precision x-values (e.g. timestamps) add this to the value they are given.
+     *
+     * @return
+     */
+    public double getXOrigin() {
+        return mXOrigin;
+    }
+
+    /**
+     * Sets the absolute x-value that corresponds to an x-value of 0. Use
+     * BarLineChartBase.setXOrigin(...) instead, which also updates the transformers and the
+     * DataSets.
+     *
+     * @param origin
+     */
+    public void setXOrigin(double origin) {
+        mXOrigin = origin;
+    }
+
     /**
      * returns the position of the x-labels
      */
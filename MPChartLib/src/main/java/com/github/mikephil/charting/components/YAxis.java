@@ -3,6 +3,7 @@ package com.github.mikephil.charting.components;
 import android.graphics.Color;
 import android.graphics.Paint;
 
+import com.github.mikephil.charting.utils.TextMeasureCache;
 import com.github.mikephil.charting.utils.Utils;
 
 /**
@@ -104,6 +105,11 @@ public class YAxis extends AxisBase {
      */
     protected float mMaxWidth = Float.POSITIVE_INFINITY;
 
+    /**
+     * cache for the measured size of the longest label, needed on every layout pass
+     */
+    protected TextMeasureCache mLabelMeasureCache = new TextMeasureCache();
+
     /**
      * Enum that specifies the axis a DataSet should be plotted against, either LEFT or RIGHT.
      *
@@ -345,7 +351,7 @@ public class YAxis extends AxisBase {
         p.setTextSize(mTextSize);
 
         String label = getLongestLabel();
-        float width = (float) Utils.calcTextWidth(p, label) + getXOffset() * 2f;
+        float width = (float) mLabelMeasureCache.calcTextWidth(p, label) + getXOffset() * 2f;
 
         float minWidth = getMinWidth();
         float maxWidth = getMaxWidth();
@@ -372,7 +378,7 @@ public class YAxis extends AxisBase {
         p.setTextSize(mTextSize);
 
         String label = getLongestLabel();
-        return (float) Utils.calcTextHeight(p, label) + getYOffset() * 2f;
+        return (float) mLabelMeasureCache.calcTextHeight(p, label) + getYOffset() * 2f;
     }
 
     /**
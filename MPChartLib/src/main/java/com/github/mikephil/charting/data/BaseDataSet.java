@@ -9,11 +9,10 @@ import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
-import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.ColorList;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -33,6 +32,11 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     protected List<Integer> mValueColors = null;
 
+    /**
+     * if true, the color at index i belongs to the entry at index i instead of being reused
+     */
+    protected boolean mEntryColorsEnabled = false;
+
     /**
      * label that describes the DataSet or the data the DataSet represents
      */
@@ -92,8 +96,8 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * Default constructor.
      */
     public BaseDataSet() {
-        mColors = new ArrayList<Integer>();
-        mValueColors = new ArrayList<Integer>();
+        mColors = new ColorList();
+        mValueColors = new ColorList();
 
         // default color
         mColors.add(Color.rgb(140, 234, 255));
@@ -133,12 +137,35 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
     @Override
     public int getColor() {
-        return mColors.get(0);
+        return ColorList.getColor(mColors, 0);
     }
 
     @Override
     public int getColor(int index) {
-        return mColors.get(index % mColors.size());
+
+        if (mEntryColorsEnabled)
+            return ColorList.getColor(mColors, Math.min(index, mColors.size() - 1));
+
+        return ColorList.getColorCycled(mColors, index);
+    }
+
+    /**
+     * Returns the number of colors of the DataSet's color array.
+     *
+     * @return
+     */
+    public int getColorCount() {
+        return mColors.size();
+    }
+
+    /**
+     * Returns true if the colors are assigned per entry (the color at index i belongs to the
+     * entry at index i) instead of being reused for all entries, see setEntryColors(...).
+     *
+     * @return
+     */
+    public boolean isEntryColorsEnabled() {
+        return mEntryColorsEnabled;
     }
 
     /**
@@ -155,7 +182,8 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * @param colors
      */
     public void setColors(List<Integer> colors) {
-        this.mColors = colors;
+        this.mColors = new ColorList(colors);
+        mEntryColorsEnabled = false;
     }
 
     /**
@@ -168,7 +196,20 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * @param colors
      */
     public void setColors(int... colors) {
-        this.mColors = ColorTemplate.createColors(colors);
+        this.mColors = new ColorList(colors);
+        mEntryColorsEnabled = false;
+    }
+
+    /**
+     * Sets one color per entry, the color at index i is used for the entry at index i. Entries
+     * beyond the end of the array use the last color. Consecutive entries of the same color are
+     * drawn in a single batch.
+     *
+     * @param colors
+     */
+    public void setEntryColors(int... colors) {
+        this.mColors = new ColorList(colors);
+        mEntryColorsEnabled = colors.length > 0;
     }
 
     /**
@@ -183,11 +224,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setColors(int[] colors, Context c) {
 
-        if (mColors == null) {
-            mColors = new ArrayList<>();
-        }
-
-        mColors.clear();
+        resetColors();
 
         for (int color : colors) {
             mColors.add(c.getResources().getColor(color));
@@ -201,7 +238,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void addColor(int color) {
         if (mColors == null)
-            mColors = new ArrayList<Integer>();
+            mColors = new ColorList();
         mColors.add(color);
     }
 
@@ -244,9 +281,10 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void resetColors() {
         if (mColors == null) {
-            mColors = new ArrayList<Integer>();
+            mColors = new ColorList();
         }
         mColors.clear();
+        mEntryColorsEnabled = false;
     }
 
     /**
@@ -302,7 +340,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
     @Override
     public void setValueTextColors(List<Integer> colors) {
-        mValueColors = colors;
+        mValueColors = new ColorList(colors);
     }
 
     @Override
@@ -317,12 +355,12 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
     @Override
     public int getValueTextColor() {
-        return mValueColors.get(0);
+        return ColorList.getColor(mValueColors, 0);
     }
 
     @Override
     public int getValueTextColor(int index) {
-        return mValueColors.get(index % mValueColors.size());
+        return ColorList.getColorCycled(mValueColors, index);
     }
 
     @Override
@@ -489,6 +527,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     protected void copy(BaseDataSet baseDataSet) {
         baseDataSet.mAxisDependency = mAxisDependency;
         baseDataSet.mColors = mColors;
+        baseDataSet.mEntryColorsEnabled = mEntryColorsEnabled;
         baseDataSet.mDrawIcons = mDrawIcons;
         baseDataSet.mDrawValues = mDrawValues;
         baseDataSet.mForm = mForm;
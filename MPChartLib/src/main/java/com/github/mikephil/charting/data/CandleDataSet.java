@@ -115,6 +115,18 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
         calcMinMaxX(e);
     }
 
+    @Override
+    protected float getEntryYLow(int index) {
+        CandleEntry e = mEntries.get(index);
+        return Math.min(e.getLow(), e.getHigh());
+    }
+
+    @Override
+    protected float getEntryYHigh(int index) {
+        CandleEntry e = mEntries.get(index);
+        return Math.max(e.getLow(), e.getHigh());
+    }
+
     @Override
     protected void calcMinMaxY(CandleEntry e) {
 
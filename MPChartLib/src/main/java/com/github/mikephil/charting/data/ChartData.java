@@ -400,7 +400,8 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
 
         // if a DataSet was removed
         if (removed) {
-            notifyDataChanged();
+            calcMinMaxAfterRemoval(d.getAxisDependency(),
+                    d.getYMin(), d.getYMax(), d.getXMin(), d.getXMax());
         }
 
         return removed;
@@ -508,6 +509,31 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         }
     }
 
+    /**
+     * Updates the minimum and maximum values after a DataSet with the given bounds was removed
+     * or shrank. The DataSets are only looped over again if the bounds held one of the current
+     * extremes of all DataSets or of the given axis.
+     *
+     * @param axis
+     * @param yMin
+     * @param yMax
+     * @param xMin
+     * @param xMax
+     */
+    protected void calcMinMaxAfterRemoval(AxisDependency axis, float yMin, float yMax,
+                                          float xMin, float xMax) {
+
+        boolean extreme = yMin <= mYMin || yMax >= mYMax || xMin <= mXMin || xMax >= mXMax;
+
+        if (axis == AxisDependency.LEFT)
+            extreme |= yMin <= mLeftAxisMin || yMax >= mLeftAxisMax;
+        else
+            extreme |= yMin <= mRightAxisMin || yMax >= mRightAxisMax;
+
+        if (extreme)
+            calcMinMax();
+    }
+
     /**
      * Removes the given Entry object from the DataSet at the specified index.
      *
@@ -523,11 +549,19 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         IDataSet set = mDataSets.get(dataSetIndex);
 
         if (set != null) {
+
+            final float yMin = set.getYMin();
+            final float yMax = set.getYMax();
+            final float xMin = set.getXMin();
+            final float xMax = set.getXMax();
+
             // remove the entry from the dataset
             boolean removed = set.removeEntry(e);
 
-            if (removed) {
-                notifyDataChanged();
+            // only the bounds of the DataSet before the removal can be extremes
+            if (removed && (yMin != set.getYMin() || yMax != set.getYMax()
+                    || xMin != set.getXMin() || xMax != set.getXMax())) {
+                calcMinMaxAfterRemoval(set.getAxisDependency(), yMin, yMax, xMin, xMax);
             }
 
             return removed;
@@ -0,0 +1,207 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BarDataSet that stores its values in primitive float arrays instead of a list of BarEntry
+ * objects. Use this for large amounts of data, it needs far less memory and the renderers
+ * read the values without going through Entry objects.
+ * Entries handed out by this DataSet (e.g. to listeners or markers) are created on demand
+ * and only carry the x- and y-value. Stacked bars, additional data and icons are not supported.
+ */
+public class ColumnarBarDataSet extends BarDataSet implements IColumnarDataSet {
+
+    /**
+     * the values this DataSet represents, also serves as mEntries
+     */
+    protected ColumnarEntryList<BarEntry> mColumns;
+
+    /**
+     * Creates an empty DataSet.
+     *
+     * @param label
+     */
+    public ColumnarBarDataSet(String label) {
+        this(new float[16], new float[16], 0, label);
+    }
+
+    /**
+     * Creates a DataSet with the given values. The arrays are NOT copied and must not be
+     * modified afterwards. The x-values need to be sorted ascending.
+     *
+     * @param xValues
+     * @param yValues
+     * @param count   the number of valid values in both arrays
+     * @param label
+     */
+    public ColumnarBarDataSet(float[] xValues, float[] yValues, int count, String label) {
+        super(new ArrayList<BarEntry>(), label);
+
+        mColumns = new BarEntryColumns(xValues, yValues, count);
+        mEntries = mColumns;
+
+        calcMinMax();
+    }
+
+    /**
+     * Creates a DataSet holding the values of the given entries. Stacked entries are
+     * represented by their sum.
+     *
+     * @param entries
+     * @param label
+     */
+    public ColumnarBarDataSet(List<BarEntry> entries, String label) {
+        this(label);
+
+        if (entries != null) {
+            mColumns.addAll(entries);
+            calcMinMax();
+        }
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mColumns.getX(index);
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mColumns.getY(index);
+    }
+
+    /**
+     * Adds the given values to the end of this DataSet without creating an Entry.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+        if (x > mXMax)
+            mXMax = x;
+        if (y < mYMin)
+            mYMin = y;
+        if (y > mYMax)
+            mYMax = y;
+
+        mColumns.add(x, y);
+
+        if (mMinMaxPyramid != null)
+            mMinMaxPyramid.update();
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        // called by the super constructor before the columns exist
+        if (mColumns == null)
+            return;
+
+        for (int i = 0, count = mColumns.size(); i < count; i++) {
+
+            float x = mColumns.getX(i);
+            float y = mColumns.getY(i);
+
+            if (Float.isNaN(y))
+                continue;
+
+            if (x < mXMin)
+                mXMin = x;
+            if (x > mXMax)
+                mXMax = x;
+            if (y < mYMin)
+                mYMin = y;
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    protected void calcMinMaxYForIndexRange(int indexFrom, int indexTo) {
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            float y = mColumns.getY(i);
+
+            if (y < mYMin)
+                mYMin = y;
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    protected float getEntryYLow(int index) {
+        return mColumns.getY(index);
+    }
+
+    @Override
+    protected float getEntryYHigh(int index) {
+        return mColumns.getY(index);
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return mColumns.getEntryIndex(xValue, closestToY, rounding);
+    }
+
+    @Override
+    public boolean contains(BarEntry e) {
+        return mColumns.contains(e);
+    }
+
+    @Override
+    public int getEntryCountStacks() {
+        return mColumns.size();
+    }
+
+    @Override
+    public void setEntries(List<BarEntry> entries) {
+
+        if (entries != mColumns) {
+            mColumns.clear();
+            mColumns.addAll(entries);
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<BarEntry> copy() {
+
+        int count = mColumns.size();
+        float[] x = new float[Math.max(count, 1)];
+        float[] y = new float[Math.max(count, 1)];
+
+        for (int i = 0; i < count; i++) {
+            x[i] = mColumns.getX(i);
+            y[i] = mColumns.getY(i);
+        }
+
+        ColumnarBarDataSet copied = new ColumnarBarDataSet(x, y, count, getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    private static class BarEntryColumns extends ColumnarEntryList<BarEntry> {
+
+        BarEntryColumns(float[] xValues, float[] yValues, int count) {
+            super(xValues, yValues, count);
+        }
+
+        @Override
+        protected BarEntry createEntry(float x, float y) {
+            return new BarEntry(x, y);
+        }
+    }
+}
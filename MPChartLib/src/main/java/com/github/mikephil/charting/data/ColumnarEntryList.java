@@ -0,0 +1,302 @@
+package com.github.mikephil.charting.data;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * List of Entries that keeps the x- and y-values in growable primitive arrays instead of
+ * holding one Entry object per value. Entry objects are only created on demand when an
+ * element is requested. They are views of the stored values at the time of the request,
+ * modifying them does NOT modify the list.
+ * The values must be sorted by their x-value, just like the Entries of any other DataSet.
+ *
+ * @param <T> the type of Entry this list hands out
+ */
+public abstract class ColumnarEntryList<T extends Entry> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * the x-values, only the first mSize values are valid
+     */
+    protected float[] mXValues;
+
+    /**
+     * the y-values, only the first mSize values are valid
+     */
+    protected float[] mYValues;
+
+    /**
+     * the number of values held by this list
+     */
+    protected int mSize = 0;
+
+    /**
+     * the value arrays as seen by the index search
+     */
+    private final EntryIndexSearch.Values mIndexValues = new EntryIndexSearch.Values() {
+
+        @Override
+        public int size() {
+            return mSize;
+        }
+
+        @Override
+        public double getX(int index) {
+            return mXValues[index];
+        }
+
+        @Override
+        public float getY(int index) {
+            return mYValues[index];
+        }
+    };
+
+    public ColumnarEntryList(int initialCapacity) {
+        mXValues = new float[Math.max(initialCapacity, 1)];
+        mYValues = new float[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Creates a list that adopts the given arrays. The arrays are NOT copied, do not modify them
+     * after handing them over.
+     *
+     * @param xValues the x-values, sorted ascending
+     * @param yValues the y-values
+     * @param count   the number of valid values in both arrays
+     */
+    public ColumnarEntryList(float[] xValues, float[] yValues, int count) {
+
+        if (xValues.length < count || yValues.length < count)
+            throw new IllegalArgumentException("Count exceeds the length of the value arrays.");
+
+        mXValues = xValues;
+        mYValues = yValues;
+        mSize = count;
+    }
+
+    /**
+     * Creates the Entry view handed out for the given values.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    protected abstract T createEntry(float x, float y);
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, mSize);
+        return createEntry(mXValues[index], mYValues[index]);
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns the x-value at the given index without creating an Entry.
+     *
+     * @param index
+     * @return
+     */
+    public float getX(int index) {
+        return mXValues[index];
+    }
+
+    /**
+     * Returns the y-value at the given index without creating an Entry.
+     *
+     * @param index
+     * @return
+     */
+    public float getY(int index) {
+        return mYValues[index];
+    }
+
+    /**
+     * Appends the given values to the end of the list.
+     *
+     * @param x
+     * @param y
+     */
+    public void add(float x, float y) {
+        add(mSize, x, y);
+    }
+
+    /**
+     * Inserts the given values at the given position.
+     *
+     * @param index
+     * @param x
+     * @param y
+     */
+    public void add(int index, float x, float y) {
+
+        checkIndex(index, mSize + 1);
+        ensureCapacity(mSize + 1);
+
+        if (index < mSize) {
+            System.arraycopy(mXValues, index, mXValues, index + 1, mSize - index);
+            System.arraycopy(mYValues, index, mYValues, index + 1, mSize - index);
+        }
+
+        mXValues[index] = x;
+        mYValues[index] = y;
+        mSize++;
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, T e) {
+        add(index, e.getX(), e.getY());
+    }
+
+    @Override
+    public T set(int index, T e) {
+
+        T previous = get(index);
+
+        mXValues[index] = e.getX();
+        mYValues[index] = e.getY();
+
+        return previous;
+    }
+
+    @Override
+    public T remove(int index) {
+
+        T previous = get(index);
+
+        int moved = mSize - index - 1;
+
+        if (moved > 0) {
+            System.arraycopy(mXValues, index + 1, mXValues, index, moved);
+            System.arraycopy(mYValues, index + 1, mYValues, index, moved);
+        }
+
+        mSize--;
+        modCount++;
+
+        return previous;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+
+        int index = indexOf(o);
+
+        if (index < 0)
+            return false;
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+
+        int moved = mSize - toIndex;
+
+        if (moved > 0) {
+            System.arraycopy(mXValues, toIndex, mXValues, fromIndex, moved);
+            System.arraycopy(mYValues, toIndex, mYValues, fromIndex, moved);
+        }
+
+        mSize -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        mSize = 0;
+        modCount++;
+    }
+
+    /**
+     * Entries handed out by this list are views, they are therefore matched by their x- and
+     * y-value instead of their identity.
+     *
+     * @param o
+     * @return
+     */
+    @Override
+    public int indexOf(Object o) {
+
+        if (!(o instanceof Entry))
+            return -1;
+
+        final Entry e = (Entry) o;
+        final float x = e.getX();
+
+        int low = 0;
+        int high = mSize;
+
+        // find the first index with an x-value >= x
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mXValues[m] < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        for (int i = low; i < mSize && mXValues[i] == x; i++) {
+            if (mYValues[i] == e.getY())
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Makes sure the value arrays can hold at least the given number of values.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= mXValues.length && capacity <= mYValues.length)
+            return;
+
+        int newCapacity = Math.max(capacity, mXValues.length + (mXValues.length >> 1));
+
+        float[] x = new float[newCapacity];
+        float[] y = new float[newCapacity];
+
+        System.arraycopy(mXValues, 0, x, 0, mSize);
+        System.arraycopy(mYValues, 0, y, 0, mSize);
+
+        mXValues = x;
+        mYValues = y;
+    }
+
+    /**
+     * Returns the index of the value closest to the given x-value, see
+     * {@link DataSet#getEntryIndex(float, float, DataSet.Rounding)}. Works on the value arrays
+     * directly and does not create any Entry objects.
+     *
+     * @param xValue
+     * @param closestToY
+     * @param rounding
+     * @return
+     */
+    public int getEntryIndex(float xValue, float closestToY, DataSet.Rounding rounding) {
+        return EntryIndexSearch.getEntryIndex(mIndexValues, xValue, closestToY, rounding);
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
@@ -0,0 +1,207 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
+
+import java.util.List;
+
+/**
+ * LineDataSet that stores its values in primitive float arrays instead of a list of Entry
+ * objects. Use this for large amounts of data, it needs far less memory and the renderers
+ * read the values without going through Entry objects.
+ * Entries handed out by this DataSet (e.g. to listeners or markers) are created on demand
+ * and only carry the x- and y-value, additional data and icons are not supported.
+ */
+public class ColumnarLineDataSet extends LineDataSet implements IColumnarDataSet {
+
+    /**
+     * the values this DataSet represents, also serves as mEntries
+     */
+    protected ColumnarEntryList<Entry> mColumns;
+
+    /**
+     * Creates an empty DataSet.
+     *
+     * @param label
+     */
+    public ColumnarLineDataSet(String label) {
+        this(new float[16], new float[16], 0, label);
+    }
+
+    /**
+     * Creates a DataSet with the given values. The arrays are NOT copied and must not be
+     * modified afterwards. The x-values need to be sorted ascending.
+     *
+     * @param xValues
+     * @param yValues
+     * @param count   the number of valid values in both arrays
+     * @param label
+     */
+    public ColumnarLineDataSet(float[] xValues, float[] yValues, int count, String label) {
+        this(new EntryColumns(xValues, yValues, count), label);
+    }
+
+    /**
+     * Creates a DataSet backed by the given columns, for subclasses with their own storage.
+     *
+     * @param columns
+     * @param label
+     */
+    protected ColumnarLineDataSet(ColumnarEntryList<Entry> columns, String label) {
+        super(null, label);
+
+        mColumns = columns;
+        mEntries = mColumns;
+
+        calcMinMax();
+    }
+
+    /**
+     * Creates a DataSet holding the values of the given entries.
+     *
+     * @param entries
+     * @param label
+     */
+    public ColumnarLineDataSet(List<Entry> entries, String label) {
+        this(label);
+
+        if (entries != null) {
+            mColumns.addAll(entries);
+            calcMinMax();
+        }
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mColumns.getX(index);
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mColumns.getY(index);
+    }
+
+    /**
+     * Adds the given values to the end of this DataSet without creating an Entry.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+        if (x > mXMax)
+            mXMax = x;
+        if (y < mYMin)
+            mYMin = y;
+        if (y > mYMax)
+            mYMax = y;
+
+        mColumns.add(x, y);
+
+        if (mMinMaxPyramid != null)
+            mMinMaxPyramid.update();
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        // called by the super constructor before the columns exist
+        if (mColumns == null)
+            return;
+
+        for (int i = 0, count = mColumns.size(); i < count; i++) {
+
+            float x = mColumns.getX(i);
+            float y = mColumns.getY(i);
+
+            if (x < mXMin)
+                mXMin = x;
+            if (x > mXMax)
+                mXMax = x;
+            if (y < mYMin)
+                mYMin = y;
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    protected void calcMinMaxYForIndexRange(int indexFrom, int indexTo) {
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            float y = mColumns.getY(i);
+
+            if (y < mYMin)
+                mYMin = y;
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    protected float getEntryYLow(int index) {
+        return mColumns.getY(index);
+    }
+
+    @Override
+    protected float getEntryYHigh(int index) {
+        return mColumns.getY(index);
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return mColumns.getEntryIndex(xValue, closestToY, rounding);
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return mColumns.contains(e);
+    }
+
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        if (entries != mColumns) {
+            mColumns.clear();
+            mColumns.addAll(entries);
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+
+        int count = mColumns.size();
+        float[] x = new float[Math.max(count, 1)];
+        float[] y = new float[Math.max(count, 1)];
+
+        for (int i = 0; i < count; i++) {
+            x[i] = mColumns.getX(i);
+            y[i] = mColumns.getY(i);
+        }
+
+        ColumnarLineDataSet copied = new ColumnarLineDataSet(x, y, count, getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    private static class EntryColumns extends ColumnarEntryList<Entry> {
+
+        EntryColumns(float[] xValues, float[] yValues, int count) {
+            super(xValues, yValues, count);
+        }
+
+        @Override
+        protected Entry createEntry(float x, float y) {
+            return new Entry(x, y);
+        }
+    }
+}
@@ -143,6 +143,18 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
     public List<BarLineScatterCandleBubbleData> getAllData() {
 
         List<BarLineScatterCandleBubbleData> data = new ArrayList<BarLineScatterCandleBubbleData>();
+        getAllData(data);
+        return data;
+    }
+
+    /**
+     * Adds all data objects in row: line-bar-scatter-candle-bubble if not null to the given list.
+     * Allows reusing the list.
+     *
+     * @param data
+     */
+    public void getAllData(List<BarLineScatterCandleBubbleData> data) {
+
         if (mLineData != null)
             data.add(mLineData);
         if (mBarData != null)
@@ -153,8 +165,6 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
             data.add(mCandleData);
         if (mBubbleData != null)
             data.add(mBubbleData);
-
-        return data;
     }
 
     public BarLineScatterCandleBubbleData getDataByIndex(int index) {
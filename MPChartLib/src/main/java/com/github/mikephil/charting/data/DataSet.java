@@ -40,6 +40,42 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     protected float mXMin = Float.MAX_VALUE;
 
 
+    /**
+     * buffer for the index range used when calculating the min and max y-values of a range
+     */
+    protected int[] mIndexRangeBuffer = new int[2];
+
+    /**
+     * level-of-detail index answering min / max range queries, null if not enabled
+     */
+    protected MinMaxPyramid mMinMaxPyramid = null;
+
+    /**
+     * buffer for the result of min / max range queries
+     */
+    private float[] mMinMaxBuffer = new float[2];
+
+    /**
+     * the entries as seen by the index search
+     */
+    private final EntryIndexSearch.Values mIndexValues = new EntryIndexSearch.Values() {
+
+        @Override
+        public int size() {
+            return mEntries.size();
+        }
+
+        @Override
+        public double getX(int index) {
+            return mEntries.get(index).getX();
+        }
+
+        @Override
+        public float getY(int index) {
+            return mEntries.get(index).getY();
+        }
+    };
+
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
      * label that describes the DataSet can be specified. The label can also be
@@ -74,6 +110,15 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
     }
 
+    @Override
+    public void notifyDataSetChanged() {
+
+        if (mMinMaxPyramid != null)
+            mMinMaxPyramid.invalidate();
+
+        super.notifyDataSetChanged();
+    }
+
     @Override
     public void calcMinMaxY(float fromX, float toX) {
         mYMax = -Float.MAX_VALUE;
@@ -82,11 +127,34 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries == null || mEntries.isEmpty())
             return;
 
-        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
-        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+        getEntryIndexRange(fromX, toX, mIndexRangeBuffer);
+
+        int indexFrom = mIndexRangeBuffer[0];
+        int indexTo = mIndexRangeBuffer[1];
 
         if (indexTo < indexFrom) return;
 
+        if (mMinMaxPyramid != null) {
+
+            mMinMaxPyramid.getMinMax(indexFrom, indexTo, mMinMaxBuffer);
+
+            mYMin = mMinMaxBuffer[0];
+            mYMax = mMinMaxBuffer[1];
+            return;
+        }
+
+        calcMinMaxYForIndexRange(indexFrom, indexTo);
+    }
+
+    /**
+     * Updates the min and max y-value of this DataSet based on the entries between the given
+     * indices (both inclusive).
+     *
+     * @param indexFrom
+     * @param indexTo
+     */
+    protected void calcMinMaxYForIndexRange(int indexFrom, int indexTo) {
+
         for (int i = indexFrom; i <= indexTo; i++) {
 
             // only recalculate y
@@ -94,6 +162,53 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
     }
 
+    /**
+     * Returns the lowest y-value of the entry at the given index, as taken into account by
+     * calcMinMaxY(...).
+     *
+     * @param index
+     * @return
+     */
+    protected float getEntryYLow(int index) {
+        return mEntries.get(index).getY();
+    }
+
+    /**
+     * Returns the highest y-value of the entry at the given index, as taken into account by
+     * calcMinMaxY(...).
+     *
+     * @param index
+     * @return
+     */
+    protected float getEntryYHigh(int index) {
+        return mEntries.get(index).getY();
+    }
+
+    /**
+     * Enables / disables the level-of-detail index of this DataSet. If enabled, the min and max
+     * y-values of a range (e.g. when auto-scaling) are read from precomputed buckets instead
+     * of scanning every entry, and line renderers can skip whole buckets when zoomed out.
+     * Costs about 2 bytes of memory per entry. Default: false
+     *
+     * @param enabled
+     */
+    public void setMinMaxPyramidEnabled(boolean enabled) {
+
+        if (!enabled)
+            mMinMaxPyramid = null;
+        else if (mMinMaxPyramid == null)
+            mMinMaxPyramid = new MinMaxPyramid(this);
+    }
+
+    /**
+     * Returns the level-of-detail index of this DataSet, null if it is not enabled.
+     *
+     * @return
+     */
+    public MinMaxPyramid getMinMaxPyramid() {
+        return mMinMaxPyramid;
+    }
+
     /**
      * Updates the min and max x and y value of this DataSet based on the given Entry.
      *
@@ -186,6 +301,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected void copy(DataSet dataSet) {
         super.copy(dataSet);
+        dataSet.setMinMaxPyramidEnabled(mMinMaxPyramid != null);
     }
 
     @Override
@@ -246,8 +362,14 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
             int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
             mEntries.add(closestIndex, e);
+
+            if (mMinMaxPyramid != null)
+                mMinMaxPyramid.invalidate();
         } else {
             mEntries.add(e);
+
+            if (mMinMaxPyramid != null)
+                mMinMaxPyramid.update();
         }
     }
 
@@ -271,7 +393,12 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMax(e);
 
         // add the entry
-        return values.add(e);
+        boolean added = values.add(e);
+
+        if (added && mMinMaxPyramid != null)
+            mMinMaxPyramid.update();
+
+        return added;
     }
 
     @Override
@@ -283,14 +410,67 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries == null)
             return false;
 
+        int index = mEntries.indexOf(e);
+
+        if (index < 0)
+            return false;
+
         // remove the entry
-        boolean removed = mEntries.remove(e);
+        mEntries.remove(index);
+
+        if (mMinMaxPyramid != null)
+            mMinMaxPyramid.remove(index);
+
+        calcMinMaxAfterRemoval(e);
 
-        if (removed) {
+        return true;
+    }
+
+    /**
+     * Updates the min and max values after the given Entry was removed. The entries are only
+     * scanned again if the Entry held the min or max y-value, the x-range is taken from the
+     * first and last Entry as the entries are sorted by their x-value.
+     *
+     * @param removed
+     */
+    protected void calcMinMaxAfterRemoval(T removed) {
+
+        if (removed == null || mEntries.isEmpty()) {
             calcMinMax();
+            return;
         }
 
-        return removed;
+        final float yMin = mYMin;
+        final float yMax = mYMax;
+        final float xMin = mXMin;
+        final float xMax = mXMax;
+
+        // let calcMinMax(T) determine the values the removed entry took into account
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        calcMinMax(removed);
+
+        final boolean yExtreme = mYMin <= mYMax && (mYMin <= yMin || mYMax >= yMax);
+        final boolean xExtreme = mXMin <= mXMax && (mXMin <= xMin || mXMax >= xMax);
+
+        mYMin = yMin;
+        mYMax = yMax;
+        mXMin = xMin;
+        mXMax = xMax;
+
+        if (yExtreme) {
+            calcMinMax();
+        } else if (xExtreme) {
+
+            mXMax = -Float.MAX_VALUE;
+            mXMin = Float.MAX_VALUE;
+
+            calcMinMaxX(mEntries.get(0));
+            calcMinMaxX(mEntries.get(mEntries.size() - 1));
+        }
     }
 
     @Override
@@ -320,86 +500,26 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
 
-        if (mEntries == null || mEntries.isEmpty())
+        if (mEntries == null)
             return -1;
 
-        int low = 0;
-        int high = mEntries.size() - 1;
-        int closest = high;
-
-        while (low < high) {
-            int m = (low + high) / 2;
-
-            final float d1 = mEntries.get(m).getX() - xValue,
-                    d2 = mEntries.get(m + 1).getX() - xValue,
-                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
-
-            if (ad2 < ad1) {
-                // [m + 1] is closer to xValue
-                // Search in an higher place
-                low = m + 1;
-            } else if (ad1 < ad2) {
-                // [m] is closer to xValue
-                // Search in a lower place
-                high = m;
-            } else {
-                // We have multiple sequential x-value with same distance
-
-                if (d1 >= 0.0) {
-                    // Search in a lower place
-                    high = m;
-                } else if (d1 < 0.0) {
-                    // Search in an higher place
-                    low = m + 1;
-                }
-            }
-
-            closest = high;
-        }
-
-        if (closest != -1) {
-            float closestXValue = mEntries.get(closest).getX();
-            if (rounding == Rounding.UP) {
-                // If rounding up, and found x-value is lower than specified x, and we can go upper...
-                if (closestXValue < xValue && closest < mEntries.size() - 1) {
-                    ++closest;
-                }
-            } else if (rounding == Rounding.DOWN) {
-                // If rounding down, and found x-value is upper than specified x, and we can go lower...
-                if (closestXValue > xValue && closest > 0) {
-                    --closest;
-                }
-            }
-
-            // Search by closest to y-value
-            if (!Float.isNaN(closestToY)) {
-                while (closest > 0 && mEntries.get(closest - 1).getX() == closestXValue)
-                    closest -= 1;
-
-                float closestYValue = mEntries.get(closest).getY();
-                int closestYIndex = closest;
-
-                while (true) {
-                    closest += 1;
-                    if (closest >= mEntries.size())
-                        break;
-
-                    final Entry value = mEntries.get(closest);
-
-                    if (value.getX() != closestXValue)
-                        break;
-
-                    if (Math.abs(value.getY() - closestToY) <= Math.abs(closestYValue - closestToY)) {
-                        closestYValue = closestToY;
-                        closestYIndex = closest;
-                    }
-                }
-
-                closest = closestYIndex;
-            }
-        }
+        return EntryIndexSearch.getEntryIndex(mIndexValues, xValue, closestToY, rounding);
+    }
 
-        return closest;
+    /**
+     * Writes the indices of the first and last Entry covering the given x-range into the
+     * provided array: outRange[0] is the index of the Entry at (or closest below) fromX,
+     * outRange[1] the index of the Entry at (or closest above) toX. Both are -1 if the DataSet
+     * is empty. Uses one binary search per bound and is therefore suited for per-frame use.
+     * Not part of IDataSet, so that existing implementations of it keep compiling.
+     *
+     * @param fromX    the lowest x-value of the range
+     * @param toX      the highest x-value of the range
+     * @param outRange array of (at least) size 2 the indices are written to
+     */
+    public void getEntryIndexRange(float fromX, float toX, int[] outRange) {
+        outRange[0] = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        outRange[1] = getEntryIndex(toX, Float.NaN, Rounding.UP);
     }
 
     @Override
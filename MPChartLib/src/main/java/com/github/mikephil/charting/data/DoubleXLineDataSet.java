@@ -0,0 +1,278 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDoubleXDataSet;
+
+import java.util.List;
+
+/**
+ * Columnar LineDataSet that keeps its x-values in double precision, meant for time series with
+ * epoch timestamps. Next to the absolute x-values it holds their float distance to the
+ * x-origin, which is what the renderers, the axis and Entries handed out by this DataSet see.
+ * Set the origin once (see BarLineChartBase.setXOrigin(...)) instead of rewriting the
+ * x-value of every Entry.
+ */
+public class DoubleXLineDataSet extends ColumnarLineDataSet implements IDoubleXDataSet {
+
+    /**
+     * the same list as mColumns
+     */
+    protected DoubleXColumns mDoubleColumns;
+
+    /**
+     * Creates an empty DataSet with an x-origin of 0.
+     *
+     * @param label
+     */
+    public DoubleXLineDataSet(String label) {
+        this(new double[16], new float[16], 0, 0.0, label);
+    }
+
+    /**
+     * Creates a DataSet with the given values. The arrays are NOT copied and must not be
+     * modified afterwards. The x-values need to be sorted ascending.
+     *
+     * @param xValues the absolute x-values
+     * @param yValues
+     * @param count   the number of valid values in both arrays
+     * @param origin  the x-origin, see setXOrigin(...)
+     * @param label
+     */
+    public DoubleXLineDataSet(double[] xValues, float[] yValues, int count, double origin, String label) {
+        super(new DoubleXColumns(xValues, yValues, count, origin), label);
+
+        mDoubleColumns = (DoubleXColumns) mColumns;
+    }
+
+    @Override
+    public double getXOrigin() {
+        return mDoubleColumns.getOrigin();
+    }
+
+    @Override
+    public void setXOrigin(double origin) {
+
+        if (origin == mDoubleColumns.getOrigin())
+            return;
+
+        mDoubleColumns.setOrigin(origin);
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public double getAbsoluteXForIndex(int index) {
+        return mDoubleColumns.getAbsoluteX(index);
+    }
+
+    /**
+     * Adds the given values to the end of this DataSet without creating an Entry. Named
+     * differently from addEntry(float, float), which takes an x-value relative to the origin
+     * and would be picked for long timestamps.
+     *
+     * @param x the absolute x-value
+     * @param y
+     */
+    public void addAbsoluteEntry(double x, float y) {
+
+        mDoubleColumns.addAbsolute(mDoubleColumns.size(), x, y);
+
+        float relativeX = mDoubleColumns.getX(mDoubleColumns.size() - 1);
+
+        if (relativeX < mXMin)
+            mXMin = relativeX;
+        if (relativeX > mXMax)
+            mXMax = relativeX;
+        if (y < mYMin)
+            mYMin = y;
+        if (y > mYMax)
+            mYMax = y;
+
+        if (mMinMaxPyramid != null)
+            mMinMaxPyramid.update();
+    }
+
+    @Override
+    public int getEntryIndex(double xValue, float closestToY, Rounding rounding) {
+        return mDoubleColumns.getEntryIndex(xValue, closestToY, rounding);
+    }
+
+    @Override
+    public Entry getEntryForXValue(double xValue, float closestToY, Rounding rounding) {
+
+        int index = getEntryIndex(xValue, closestToY, rounding);
+        if (index > -1)
+            return mEntries.get(index);
+        return null;
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+
+        int count = mDoubleColumns.size();
+        double[] x = new double[Math.max(count, 1)];
+        float[] y = new float[Math.max(count, 1)];
+
+        for (int i = 0; i < count; i++) {
+            x[i] = mDoubleColumns.getAbsoluteX(i);
+            y[i] = mDoubleColumns.getY(i);
+        }
+
+        DoubleXLineDataSet copied = new DoubleXLineDataSet(x, y, count, getXOrigin(), getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Columns that hold the absolute x-values next to the float x-values relative to the
+     * origin. Entries added through the List interface carry relative x-values.
+     */
+    protected static class DoubleXColumns extends ColumnarEntryList<Entry> {
+
+        private double[] mAbsoluteXValues;
+
+        private double mOrigin;
+
+        /**
+         * the absolute x-values as seen by the index search
+         */
+        private final EntryIndexSearch.Values mAbsoluteIndexValues = new EntryIndexSearch.Values() {
+
+            @Override
+            public int size() {
+                return mSize;
+            }
+
+            @Override
+            public double getX(int index) {
+                return mAbsoluteXValues[index];
+            }
+
+            @Override
+            public float getY(int index) {
+                return mYValues[index];
+            }
+        };
+
+        DoubleXColumns(double[] xValues, float[] yValues, int count, double origin) {
+            super(new float[Math.max(xValues.length, 1)], yValues, count);
+
+            mAbsoluteXValues = xValues;
+            setOrigin(origin);
+        }
+
+        @Override
+        protected Entry createEntry(float x, float y) {
+            return new Entry(x, y);
+        }
+
+        public double getOrigin() {
+            return mOrigin;
+        }
+
+        /**
+         * Sets the origin and recalculates all relative x-values.
+         *
+         * @param origin
+         */
+        public void setOrigin(double origin) {
+
+            mOrigin = origin;
+
+            for (int i = 0; i < mSize; i++) {
+                mXValues[i] = (float) (mAbsoluteXValues[i] - origin);
+            }
+        }
+
+        /**
+         * Returns the absolute x-value at the given index.
+         *
+         * @param index
+         * @return
+         */
+        public double getAbsoluteX(int index) {
+            return mAbsoluteXValues[index];
+        }
+
+        /**
+         * Inserts the given values at the given position.
+         *
+         * @param index
+         * @param x     the absolute x-value
+         * @param y
+         */
+        public void addAbsolute(int index, double x, float y) {
+
+            // grows both arrays and checks the index
+            super.add(index, (float) (x - mOrigin), y);
+
+            int moved = mSize - index - 1;
+
+            if (moved > 0)
+                System.arraycopy(mAbsoluteXValues, index, mAbsoluteXValues, index + 1, moved);
+
+            mAbsoluteXValues[index] = x;
+        }
+
+        @Override
+        public void add(int index, float x, float y) {
+            addAbsolute(index, mOrigin + x, y);
+        }
+
+        @Override
+        public Entry set(int index, Entry e) {
+
+            Entry previous = super.set(index, e);
+            mAbsoluteXValues[index] = mOrigin + e.getX();
+
+            return previous;
+        }
+
+        @Override
+        public Entry remove(int index) {
+
+            Entry previous = super.remove(index);
+
+            int moved = mSize - index;
+
+            if (moved > 0)
+                System.arraycopy(mAbsoluteXValues, index + 1, mAbsoluteXValues, index, moved);
+
+            return previous;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+
+            int moved = mSize - toIndex;
+
+            super.removeRange(fromIndex, toIndex);
+
+            if (moved > 0)
+                System.arraycopy(mAbsoluteXValues, toIndex, mAbsoluteXValues, fromIndex, moved);
+        }
+
+        @Override
+        public void ensureCapacity(int capacity) {
+
+            super.ensureCapacity(capacity);
+
+            if (mAbsoluteXValues.length < mXValues.length) {
+
+                double[] x = new double[mXValues.length];
+                System.arraycopy(mAbsoluteXValues, 0, x, 0, mSize);
+                mAbsoluteXValues = x;
+            }
+        }
+
+        /**
+         * Same as getEntryIndex(float, float, Rounding), on the absolute x-values.
+         *
+         * @param xValue
+         * @param closestToY
+         * @param rounding
+         * @return
+         */
+        public int getEntryIndex(double xValue, float closestToY, DataSet.Rounding rounding) {
+            return EntryIndexSearch.getEntryIndex(mAbsoluteIndexValues, xValue, closestToY, rounding);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * The binary search behind {@link DataSet#getEntryIndex(float, float, DataSet.Rounding)},
+ * shared by all DataSets and value lists. It reads the values through an index accessor, so
+ * that DataSets which do not hold Entry objects can use it without creating any.
+ */
+public final class EntryIndexSearch {
+
+    /**
+     * Index based access to values sorted ascending by their x-value.
+     */
+    public interface Values {
+
+        /**
+         * Returns the number of values.
+         *
+         * @return
+         */
+        int size();
+
+        /**
+         * Returns the x-value at the given index. Double, so that absolute x-values can be
+         * searched without a loss of precision.
+         *
+         * @param index
+         * @return
+         */
+        double getX(int index);
+
+        /**
+         * Returns the y-value at the given index.
+         *
+         * @param index
+         * @return
+         */
+        float getY(int index);
+    }
+
+    private EntryIndexSearch() {
+    }
+
+    /**
+     * Returns the index of the value closest to the given x-value, see
+     * {@link DataSet#getEntryIndex(float, float, DataSet.Rounding)}. Returns -1 if there are
+     * no values.
+     *
+     * @param values
+     * @param xValue     the x-value to search for
+     * @param closestToY If there are multiple values for the found x-value, the one closest
+     *                   to this y-value is picked, the last one of equally close ones. NaN to
+     *                   ignore the y-values.
+     * @param rounding   determine to round up/down/closest if there is no value at the exact
+     *                   x-value
+     * @return
+     */
+    public static int getEntryIndex(Values values, double xValue, float closestToY,
+                                    DataSet.Rounding rounding) {
+
+        final int size = values.size();
+
+        if (size == 0)
+            return -1;
+
+        int low = 0;
+        int high = size - 1;
+        int closest = high;
+
+        while (low < high) {
+            int m = (low + high) / 2;
+
+            final double d1 = values.getX(m) - xValue,
+                    d2 = values.getX(m + 1) - xValue,
+                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
+
+            if (ad2 < ad1) {
+                // [m + 1] is closer to xValue
+                // Search in an higher place
+                low = m + 1;
+            } else if (ad1 < ad2) {
+                // [m] is closer to xValue
+                // Search in a lower place
+                high = m;
+            } else {
+                // We have multiple sequential x-value with same distance
+
+                if (d1 >= 0.0) {
+                    // Search in a lower place
+                    high = m;
+                } else {
+                    // Search in an higher place
+                    low = m + 1;
+                }
+            }
+
+            closest = high;
+        }
+
+        double closestXValue = values.getX(closest);
+
+        if (rounding == DataSet.Rounding.UP) {
+            // If rounding up, and found x-value is lower than specified x, and we can go upper...
+            if (closestXValue < xValue && closest < size - 1) {
+                ++closest;
+            }
+        } else if (rounding == DataSet.Rounding.DOWN) {
+            // If rounding down, and found x-value is upper than specified x, and we can go lower...
+            if (closestXValue > xValue && closest > 0) {
+                --closest;
+            }
+        }
+
+        // Search by closest to y-value
+        if (!Float.isNaN(closestToY)) {
+            while (closest > 0 && values.getX(closest - 1) == closestXValue)
+                closest -= 1;
+
+            float closestYValue = values.getY(closest);
+            int closestYIndex = closest;
+
+            while (true) {
+                closest += 1;
+                if (closest >= size)
+                    break;
+
+                if (values.getX(closest) != closestXValue)
+                    break;
+
+                if (Math.abs(values.getY(closest) - closestToY) <= Math.abs(closestYValue - closestToY)) {
+                    closestYValue = closestToY;
+                    closestYIndex = closest;
+                }
+            }
+
+            closest = closestYIndex;
+        }
+
+        return closest;
+    }
+}
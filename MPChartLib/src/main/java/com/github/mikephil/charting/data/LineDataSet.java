@@ -9,7 +9,7 @@ import android.util.Log;
 import com.github.mikephil.charting.formatter.DefaultFillFormatter;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
-import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.ColorList;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
@@ -25,7 +25,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
     /**
      * List representing all colors that are used for the circles
      */
-    private List<Integer> mCircleColors = null;
+    private ColorList mCircleColors = null;
 
     /**
      * the color of the inner circles
@@ -64,6 +64,11 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * if true, the visible line is reduced to at most 4 points per pixel column
+     */
+    private boolean mDecimationEnabled = false;
+
 
     public LineDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
@@ -72,14 +77,14 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         // mLineWidth = Utils.convertDpToPixel(1f);
 
         if (mCircleColors == null) {
-            mCircleColors = new ArrayList<Integer>();
+            mCircleColors = new ColorList();
         }
         mCircleColors.clear();
 
         // default colors
         // mColors.add(Color.rgb(192, 255, 140));
         // mColors.add(Color.rgb(255, 247, 140));
-        mCircleColors.add(Color.rgb(140, 234, 255));
+        mCircleColors.addColor(Color.rgb(140, 234, 255));
     }
 
     @Override
@@ -105,6 +110,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.mDecimationEnabled = mDecimationEnabled;
     }
 
     /**
@@ -281,7 +287,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     @Override
     public int getCircleColor(int index) {
-        return mCircleColors.get(index);
+        return mCircleColors.getColor(index);
     }
 
     @Override
@@ -299,7 +305,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      * @param colors
      */
     public void setCircleColors(List<Integer> colors) {
-        mCircleColors = colors;
+        mCircleColors = new ColorList(colors);
     }
 
     /**
@@ -312,7 +318,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      * @param colors
      */
     public void setCircleColors(int... colors) {
-        this.mCircleColors = ColorTemplate.createColors(colors);
+        this.mCircleColors = new ColorList(colors);
     }
 
     /**
@@ -327,17 +333,11 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     public void setCircleColors(int[] colors, Context c) {
 
-        List<Integer> clrs = mCircleColors;
-        if (clrs == null) {
-            clrs = new ArrayList<>();
-        }
-        clrs.clear();
+        resetCircleColors();
 
         for (int color : colors) {
-            clrs.add(c.getResources().getColor(color));
+            mCircleColors.addColor(c.getResources().getColor(color));
         }
-
-        mCircleColors = clrs;
     }
 
     /**
@@ -348,7 +348,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     public void setCircleColor(int color) {
         resetCircleColors();
-        mCircleColors.add(color);
+        mCircleColors.addColor(color);
     }
 
     /**
@@ -356,7 +356,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
      */
     public void resetCircleColors() {
         if (mCircleColors == null) {
-            mCircleColors = new ArrayList<Integer>();
+            mCircleColors = new ColorList();
         }
         mCircleColors.clear();
     }
@@ -389,6 +389,29 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mDrawCircleHole;
     }
 
+    /**
+     * Set this to true to reduce the visible part of the line to at most four points (first,
+     * min, max and last) per horizontal pixel column before drawing. The drawn line looks the
+     * same, peaks are kept pixel-exact, but the number of drawn segments no longer depends on the
+     * number of visible entries. Only applies to single-colored lines in LINEAR mode.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setDecimationEnabled(boolean enabled) {
+        mDecimationEnabled = enabled;
+    }
+
+    /**
+     * Returns true if the visible line is reduced to at most four points per pixel column
+     * (first, min, max, last) before drawing.
+     *
+     * @return
+     */
+    public boolean isDecimationEnabled() {
+        return mDecimationEnabled;
+    }
+
     /**
      * Sets a custom IFillFormatter to the chart that handles the position of the
      * filled-line for each DataSet. Set this to null to use the default logic.
@@ -0,0 +1,375 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
+import com.github.mikephil.charting.utils.BinaryEntryFile;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Read-only LineDataSet that reads its values straight from a memory-mapped file in the format
+ * of BinaryEntryFile, for series that do not fit into the heap. The values are never copied
+ * into arrays, the renderers read them through the mapping, so only the pages of the file
+ * around the viewport are loaded by the system. The file is scanned once when the DataSet is
+ * created to find its min and max values.
+ * Entries handed out by this DataSet (e.g. to listeners or markers) are created on demand, the
+ * most recently used ones are cached. They only carry the x- and y-value and must not be
+ * modified. Entries can not be added or removed.
+ */
+public class MappedLineDataSet extends LineDataSet implements IColumnarDataSet {
+
+    /**
+     * number of values per mapped region, a single mapping can not hold more than 2GB
+     */
+    private static final int REGION_SIZE = 1 << 24;
+
+    /**
+     * number of Entries kept in the cache
+     */
+    private static final int ENTRY_CACHE_SIZE = 64;
+
+    /**
+     * the values this DataSet represents, also serves as mEntries
+     */
+    protected MappedColumns mColumns;
+
+    /**
+     * Maps the given file in the format of BinaryEntryFile. The x-values need to be sorted
+     * ascending and stored in single precision. The file is not locked, it must not be modified
+     * while the DataSet is in use.
+     *
+     * @param file
+     * @param label
+     * @throws IOException if the file can not be mapped or is not in the right format
+     */
+    public MappedLineDataSet(File file, String label) throws IOException {
+        this(new MappedColumns(file), label);
+    }
+
+    protected MappedLineDataSet(MappedColumns columns, String label) {
+        super(null, label);
+
+        mColumns = columns;
+        mEntries = mColumns;
+
+        calcMinMax();
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mColumns.getX(index);
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mColumns.getY(index);
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        // called by the super constructor before the columns exist
+        if (mColumns == null || mColumns.size() == 0)
+            return;
+
+        // sorted by x
+        mXMin = mColumns.getX(0);
+        mXMax = mColumns.getX(mColumns.size() - 1);
+
+        calcMinMaxYForIndexRange(0, mColumns.size() - 1);
+    }
+
+    @Override
+    protected void calcMinMaxYForIndexRange(int indexFrom, int indexTo) {
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            float y = mColumns.getY(i);
+
+            if (y < mYMin)
+                mYMin = y;
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    protected float getEntryYLow(int index) {
+        return mColumns.getY(index);
+    }
+
+    @Override
+    protected float getEntryYHigh(int index) {
+        return mColumns.getY(index);
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return mColumns.getEntryIndex(xValue, closestToY, rounding);
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return mColumns.contains(e);
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only.");
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only.");
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only.");
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only.");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only.");
+    }
+
+    @Override
+    public void setEntries(List<Entry> entries) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only.");
+    }
+
+    /**
+     * Returns a DataSet sharing the mapping of this one.
+     *
+     * @return
+     */
+    @Override
+    public DataSet<Entry> copy() {
+
+        MappedLineDataSet copied = new MappedLineDataSet(mColumns, getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Read-only list of the mapped values, with a small cache of the Entries handed out.
+     */
+    protected static class MappedColumns extends AbstractList<Entry> implements RandomAccess {
+
+        private final FloatBuffer[] mXRegions;
+
+        private final FloatBuffer[] mYRegions;
+
+        private final int mSize;
+
+        /**
+         * the most recently requested Entries by their index
+         */
+        private final Map<Integer, Entry> mEntryCache =
+                new LinkedHashMap<Integer, Entry>(ENTRY_CACHE_SIZE, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                        return size() > ENTRY_CACHE_SIZE;
+                    }
+                };
+
+        /**
+         * the mapped values as seen by the index search
+         */
+        private final EntryIndexSearch.Values mIndexValues = new EntryIndexSearch.Values() {
+
+            @Override
+            public int size() {
+                return mSize;
+            }
+
+            @Override
+            public double getX(int index) {
+                return MappedColumns.this.getX(index);
+            }
+
+            @Override
+            public float getY(int index) {
+                return MappedColumns.this.getY(index);
+            }
+        };
+
+        MappedColumns(File file) throws IOException {
+
+            FileInputStream in = new FileInputStream(file);
+
+            // the mappings stay valid after the channel is closed
+            try {
+                FileChannel channel = in.getChannel();
+
+                ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                        BinaryEntryFile.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+                if (header.getInt() != BinaryEntryFile.MAGIC
+                        || header.getInt() != BinaryEntryFile.VERSION)
+                    throw new IOException("Not a supported binary entry file.");
+
+                if ((header.getInt() & BinaryEntryFile.FLAG_DOUBLE_X) != 0)
+                    throw new IOException("Double x-values can not be mapped.");
+
+                header.getInt(); // stack size, the stack columns are not needed
+
+                mSize = header.getInt();
+
+                final long columnSize = mSize * 4L;
+
+                if (mSize < 0 || channel.size() < BinaryEntryFile.HEADER_SIZE + columnSize * 2)
+                    throw new IOException("Binary entry file is truncated.");
+
+                mXRegions = map(channel, BinaryEntryFile.HEADER_SIZE);
+                mYRegions = map(channel, BinaryEntryFile.HEADER_SIZE + columnSize);
+
+            } finally {
+                in.close();
+            }
+        }
+
+        /**
+         * Maps the column starting at the given position in regions of REGION_SIZE values.
+         */
+        private FloatBuffer[] map(FileChannel channel, long position) throws IOException {
+
+            FloatBuffer[] regions = new FloatBuffer[(mSize + REGION_SIZE - 1) / REGION_SIZE];
+
+            for (int i = 0; i < regions.length; i++) {
+
+                int values = Math.min(REGION_SIZE, mSize - i * REGION_SIZE);
+
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position + (long) i * REGION_SIZE * 4, values * 4L)
+                        .order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            }
+
+            return regions;
+        }
+
+        /**
+         * Returns the x-value at the given index without creating an Entry.
+         *
+         * @param index
+         * @return
+         */
+        public float getX(int index) {
+            return mXRegions[index / REGION_SIZE].get(index % REGION_SIZE);
+        }
+
+        /**
+         * Returns the y-value at the given index without creating an Entry.
+         *
+         * @param index
+         * @return
+         */
+        public float getY(int index) {
+            return mYRegions[index / REGION_SIZE].get(index % REGION_SIZE);
+        }
+
+        @Override
+        public Entry get(int index) {
+
+            if (index < 0 || index >= mSize)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+            synchronized (mEntryCache) {
+
+                Entry e = mEntryCache.get(index);
+
+                if (e == null) {
+                    e = new Entry(getX(index), getY(index));
+                    mEntryCache.put(index, e);
+                }
+
+                return e;
+            }
+        }
+
+        @Override
+        public int size() {
+            return mSize;
+        }
+
+        /**
+         * Entries are matched by their x- and y-value instead of their identity.
+         *
+         * @param o
+         * @return
+         */
+        @Override
+        public int indexOf(Object o) {
+
+            if (!(o instanceof Entry))
+                return -1;
+
+            final Entry e = (Entry) o;
+            final float x = e.getX();
+
+            int low = 0;
+            int high = mSize;
+
+            // find the first index with an x-value >= x
+            while (low < high) {
+                int m = (low + high) >>> 1;
+
+                if (getX(m) < x)
+                    low = m + 1;
+                else
+                    high = m;
+            }
+
+            for (int i = low; i < mSize && getX(i) == x; i++) {
+                if (getY(i) == e.getY())
+                    return i;
+            }
+
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        /**
+         * Returns the index of the value closest to the given x-value, see
+         * {@link DataSet#getEntryIndex(float, float, DataSet.Rounding)}. Reads the mapping
+         * directly and does not create any Entry objects.
+         *
+         * @param xValue
+         * @param closestToY
+         * @param rounding
+         * @return
+         */
+        public int getEntryIndex(float xValue, float closestToY, DataSet.Rounding rounding) {
+            return EntryIndexSearch.getEntryIndex(mIndexValues, xValue, closestToY, rounding);
+        }
+    }
+}
@@ -0,0 +1,498 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Level-of-detail index over the y-values of a DataSet. Every level divides the entries into
+ * buckets of a power-of-two size (16 entries on the finest level, doubling with each level) and
+ * holds the minimum and maximum y-value of every bucket together with their indices. The first
+ * and last entry of a bucket are given by its position (bucket * size and bucket * size + size - 1).
+ * Range queries combine the coarsest buckets that fit into the range and only read single
+ * entries at both ends, which makes them logarithmic in the size of the range.
+ * Entries appended to the DataSet are added incrementally, removing the first or last entry
+ * is handled in logarithmic time. Any other modification makes the index rebuild itself on the
+ * next query.
+ */
+public class MinMaxPyramid {
+
+    /**
+     * the buckets of the finest level hold 1 << BASE_SHIFT entries
+     */
+    private static final int BASE_SHIFT = 4;
+
+    /**
+     * the DataSet this index belongs to
+     */
+    private final DataSet<?> mDataSet;
+
+    /**
+     * per level and bucket the lowest and highest y-value
+     */
+    private float[][] mMin = new float[0][];
+    private float[][] mMax = new float[0][];
+
+    /**
+     * per level and bucket the index of the entry with the lowest and highest y-value
+     */
+    private int[][] mMinIndex = new int[0][];
+    private int[][] mMaxIndex = new int[0][];
+
+    /**
+     * number of buckets in use per level
+     */
+    private int[] mBucketCount = new int[0];
+
+    /**
+     * number of levels in use
+     */
+    private int mLevelCount = 0;
+
+    /**
+     * number of entries the index covers, -1 if it needs to be rebuilt
+     */
+    private int mEntryCount = -1;
+
+    /**
+     * number of entries removed from the front since the last rebuild, the entry at index i is
+     * stored at position i + mOffset
+     */
+    private int mOffset = 0;
+
+    public MinMaxPyramid(DataSet<?> dataSet) {
+        this.mDataSet = dataSet;
+    }
+
+    /**
+     * Makes the index rebuild itself on the next query. Needs to be called whenever entries are
+     * inserted or modified.
+     */
+    public void invalidate() {
+        mEntryCount = -1;
+    }
+
+    /**
+     * Adds the entries appended to the DataSet since the last update to the index.
+     */
+    public void update() {
+
+        int count = mDataSet.getEntryCount();
+
+        if (mEntryCount < 0 || count < mEntryCount) {
+            mLevelCount = 0;
+            mEntryCount = 0;
+            mOffset = 0;
+        }
+
+        for (int i = mEntryCount; i < count; i++) {
+            add(i + mOffset, mDataSet.getEntryYLow(i), mDataSet.getEntryYHigh(i));
+        }
+
+        mEntryCount = count;
+    }
+
+    /**
+     * Updates the index after the entry at the given index has been removed from the DataSet.
+     * Removing the first or last entry is handled in logarithmic time, any other removal makes
+     * the index rebuild itself on the next query.
+     *
+     * @param index
+     */
+    public void remove(int index) {
+
+        if (mEntryCount < 0)
+            return;
+
+        if (mEntryCount <= 1 || (index != 0 && index != mEntryCount - 1)) {
+            invalidate();
+            return;
+        }
+
+        if (index == 0) {
+
+            // queries never cover positions before the offset, no need to touch the buckets
+            mOffset++;
+            mEntryCount--;
+
+            // rebuild once more than half of the positions are unused
+            if (mOffset > mEntryCount)
+                invalidate();
+
+        } else {
+
+            mEntryCount--;
+            removeLast(mOffset + mEntryCount);
+        }
+    }
+
+    /**
+     * Recalculates the last bucket of every level after the entry at the given position has
+     * been removed.
+     */
+    private void removeLast(int position) {
+
+        for (int level = 0; level < mLevelCount; level++) {
+
+            int shift = BASE_SHIFT + level;
+            int bucket = position >> shift;
+            int start = bucket << shift;
+
+            mBucketCount[level] = bucket;
+
+            // the removed entry was the only one in the bucket
+            if (start == position)
+                continue;
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+            int minIndex = position - 1;
+            int maxIndex = position - 1;
+
+            if (level == 0) {
+
+                for (int p = Math.max(start, mOffset); p < position; p++) {
+
+                    float low = mDataSet.getEntryYLow(p - mOffset);
+                    float high = mDataSet.getEntryYHigh(p - mOffset);
+
+                    if (low < min) {
+                        min = low;
+                        minIndex = p;
+                    }
+
+                    if (high > max) {
+                        max = high;
+                        maxIndex = p;
+                    }
+                }
+
+            } else {
+
+                for (int child = bucket * 2; child < mBucketCount[level - 1]; child++) {
+
+                    if (mMin[level - 1][child] < min) {
+                        min = mMin[level - 1][child];
+                        minIndex = mMinIndex[level - 1][child];
+                    }
+
+                    if (mMax[level - 1][child] > max) {
+                        max = mMax[level - 1][child];
+                        maxIndex = mMaxIndex[level - 1][child];
+                    }
+                }
+            }
+
+            mMin[level][bucket] = min;
+            mMax[level][bucket] = max;
+            mMinIndex[level][bucket] = minIndex;
+            mMaxIndex[level][bucket] = maxIndex;
+            mBucketCount[level] = bucket + 1;
+        }
+    }
+
+    private void add(int position, float low, float high) {
+
+        for (int level = 0; ; level++) {
+
+            if (level == mLevelCount) {
+
+                // the top level holds a single bucket
+                if (level > 0 && mBucketCount[level - 1] <= 1)
+                    break;
+
+                addLevel();
+            }
+
+            int bucket = position >> (BASE_SHIFT + level);
+
+            if (bucket >= mBucketCount[level]) {
+
+                ensureCapacity(level, bucket + 1);
+
+                mMin[level][bucket] = Float.MAX_VALUE;
+                mMax[level][bucket] = -Float.MAX_VALUE;
+                mMinIndex[level][bucket] = position;
+                mMaxIndex[level][bucket] = position;
+                mBucketCount[level] = bucket + 1;
+            }
+
+            if (low < mMin[level][bucket]) {
+                mMin[level][bucket] = low;
+                mMinIndex[level][bucket] = position;
+            }
+
+            if (high > mMax[level][bucket]) {
+                mMax[level][bucket] = high;
+                mMaxIndex[level][bucket] = position;
+            }
+        }
+    }
+
+    private void addLevel() {
+
+        if (mLevelCount == mBucketCount.length) {
+
+            int capacity = mLevelCount + 4;
+
+            mMin = copyOf(mMin, capacity);
+            mMax = copyOf(mMax, capacity);
+            mMinIndex = copyOf(mMinIndex, capacity);
+            mMaxIndex = copyOf(mMaxIndex, capacity);
+
+            int[] counts = new int[capacity];
+            System.arraycopy(mBucketCount, 0, counts, 0, mLevelCount);
+            mBucketCount = counts;
+        }
+
+        if (mMin[mLevelCount] == null) {
+            mMin[mLevelCount] = new float[16];
+            mMax[mLevelCount] = new float[16];
+            mMinIndex[mLevelCount] = new int[16];
+            mMaxIndex[mLevelCount] = new int[16];
+        }
+
+        mBucketCount[mLevelCount] = 0;
+
+        // a new level is added once the level below gets its second bucket, the first bucket
+        // of the new level starts out with the values of the single one below
+        if (mLevelCount > 0) {
+
+            int below = mLevelCount - 1;
+
+            mMin[mLevelCount][0] = mMin[below][0];
+            mMax[mLevelCount][0] = mMax[below][0];
+            mMinIndex[mLevelCount][0] = mMinIndex[below][0];
+            mMaxIndex[mLevelCount][0] = mMaxIndex[below][0];
+            mBucketCount[mLevelCount] = 1;
+        }
+
+        mLevelCount++;
+    }
+
+    private void ensureCapacity(int level, int buckets) {
+
+        int length = mMin[level].length;
+
+        if (buckets <= length)
+            return;
+
+        int capacity = Math.max(buckets, length + (length >> 1));
+
+        float[] min = new float[capacity];
+        float[] max = new float[capacity];
+        int[] minIndex = new int[capacity];
+        int[] maxIndex = new int[capacity];
+
+        int count = mBucketCount[level];
+
+        System.arraycopy(mMin[level], 0, min, 0, count);
+        System.arraycopy(mMax[level], 0, max, 0, count);
+        System.arraycopy(mMinIndex[level], 0, minIndex, 0, count);
+        System.arraycopy(mMaxIndex[level], 0, maxIndex, 0, count);
+
+        mMin[level] = min;
+        mMax[level] = max;
+        mMinIndex[level] = minIndex;
+        mMaxIndex[level] = maxIndex;
+    }
+
+    private static float[][] copyOf(float[][] array, int length) {
+        float[][] copy = new float[length][];
+        System.arraycopy(array, 0, copy, 0, array.length);
+        return copy;
+    }
+
+    private static int[][] copyOf(int[][] array, int length) {
+        int[][] copy = new int[length][];
+        System.arraycopy(array, 0, copy, 0, array.length);
+        return copy;
+    }
+
+    /**
+     * Calculates the lowest and highest y-value of the entries between the given indices
+     * (both inclusive). If the range holds no entries, min is Float.MAX_VALUE and max is
+     * -Float.MAX_VALUE.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param outMinMax array of size 2 the minimum and maximum are written to
+     */
+    public void getMinMax(int fromIndex, int toIndex, float[] outMinMax) {
+
+        update();
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        int to = Math.min(toIndex, mEntryCount - 1) + mOffset;
+
+        int p = Math.max(fromIndex, 0) + mOffset;
+
+        while (p <= to) {
+
+            int level = getLevelAt(p, to);
+
+            if (level < 0) {
+
+                float low = mDataSet.getEntryYLow(p - mOffset);
+                float high = mDataSet.getEntryYHigh(p - mOffset);
+
+                if (low < min)
+                    min = low;
+                if (high > max)
+                    max = high;
+
+                p++;
+
+            } else {
+
+                int bucket = p >> (BASE_SHIFT + level);
+
+                if (mMin[level][bucket] < min)
+                    min = mMin[level][bucket];
+                if (mMax[level][bucket] > max)
+                    max = mMax[level][bucket];
+
+                p += getBucketSize(level);
+            }
+        }
+
+        outMinMax[0] = min;
+        outMinMax[1] = max;
+    }
+
+    /**
+     * Returns the coarsest level whose bucket starts at the given position and ends at or
+     * before the to-position, -1 if there is none.
+     */
+    private int getLevelAt(int position, int to) {
+
+        int level = -1;
+
+        while (level + 1 < mLevelCount) {
+
+            int size = getBucketSize(level + 1);
+
+            if ((position & (size - 1)) != 0 || position + size - 1 > to)
+                break;
+
+            level++;
+        }
+
+        return level;
+    }
+
+    /**
+     * Returns the coarsest level whose buckets hold at most the given number of entries, -1 if
+     * even the buckets of the finest level are larger.
+     *
+     * @param maxEntriesPerBucket
+     * @return
+     */
+    public int getLevelForBucketSize(int maxEntriesPerBucket) {
+
+        update();
+
+        int level = -1;
+
+        while (level + 1 < mLevelCount && getBucketSize(level + 1) <= maxEntriesPerBucket)
+            level++;
+
+        return level;
+    }
+
+    /**
+     * Same as getLevelForBucketSize(int), but does not update the index first and only
+     * considers the given number of levels. Meant for reading the index on another thread
+     * than the one modifying the DataSet, which captures the level count with getLevelCount()
+     * after its last modification. Unlike the other queries it never modifies the index.
+     *
+     * @param maxEntriesPerBucket
+     * @param levelCount          the number of levels the index had when it was last updated
+     * @return
+     */
+    public int getLevelForBucketSize(int maxEntriesPerBucket, int levelCount) {
+
+        int level = -1;
+
+        while (level + 1 < levelCount && getBucketSize(level + 1) <= maxEntriesPerBucket)
+            level++;
+
+        return level;
+    }
+
+    /**
+     * Returns the number of levels.
+     *
+     * @return
+     */
+    public int getLevelCount() {
+        update();
+        return mLevelCount;
+    }
+
+    /**
+     * Returns the number of entries a bucket of the given level holds.
+     *
+     * @param level
+     * @return
+     */
+    public int getBucketSize(int level) {
+        return 1 << (BASE_SHIFT + level);
+    }
+
+    /**
+     * Returns true if a bucket of the given level starts at the entry with the given index.
+     * The bucket accessors below take the index of the first entry of a bucket.
+     *
+     * @param level
+     * @param index
+     * @return
+     */
+    public boolean isBucketStart(int level, int index) {
+        return ((index + mOffset) & (getBucketSize(level) - 1)) == 0;
+    }
+
+    /**
+     * Returns the index of the entry with the lowest y-value in the bucket starting at the
+     * given entry index.
+     *
+     * @param level
+     * @param index
+     * @return
+     */
+    public int getMinIndex(int level, int index) {
+        return mMinIndex[level][(index + mOffset) >> (BASE_SHIFT + level)] - mOffset;
+    }
+
+    /**
+     * Returns the index of the entry with the highest y-value in the bucket starting at the
+     * given entry index.
+     *
+     * @param level
+     * @param index
+     * @return
+     */
+    public int getMaxIndex(int level, int index) {
+        return mMaxIndex[level][(index + mOffset) >> (BASE_SHIFT + level)] - mOffset;
+    }
+
+    /**
+     * Returns the lowest y-value in the bucket starting at the given entry index.
+     *
+     * @param level
+     * @param index
+     * @return
+     */
+    public float getMin(int level, int index) {
+        return mMin[level][(index + mOffset) >> (BASE_SHIFT + level)];
+    }
+
+    /**
+     * Returns the highest y-value in the bucket starting at the given entry index.
+     *
+     * @param level
+     * @param index
+     * @return
+     */
+    public float getMax(int level, int index) {
+        return mMax[level][(index + mOffset) >> (BASE_SHIFT + level)];
+    }
+}
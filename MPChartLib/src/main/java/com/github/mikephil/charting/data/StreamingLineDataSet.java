@@ -0,0 +1,453 @@
+package com.github.mikephil.charting.data;
+
+import android.util.Log;
+
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * LineDataSet for real-time charts that holds a fixed number of values in a primitive ring
+ * buffer. Appending a value to a full DataSet evicts the oldest one, both in constant time and
+ * without allocating memory. The minimum and maximum y-value are maintained incrementally, so
+ * no rescan of the values is needed when values come and go.
+ * Values need to be appended in ascending x-order. Entries handed out by this DataSet are
+ * created on demand and only carry the x- and y-value.
+ */
+public class StreamingLineDataSet extends LineDataSet implements IColumnarDataSet {
+
+    /**
+     * the maximum number of values this DataSet holds
+     */
+    private final int mCapacity;
+
+    /**
+     * ring buffers of the values, the value at index i is stored at (mHead + i) % mCapacity
+     */
+    private final float[] mXValues;
+    private final float[] mYValues;
+
+    /**
+     * position of the oldest value in the ring buffers
+     */
+    private int mHead = 0;
+
+    /**
+     * number of values held
+     */
+    private int mSize = 0;
+
+    /**
+     * sequence number of the oldest value, increases with every evicted value
+     */
+    private long mFirstSequence = 0;
+
+    /**
+     * the ring buffers as seen by the index search
+     */
+    private final EntryIndexSearch.Values mRingIndexValues = new EntryIndexSearch.Values() {
+
+        @Override
+        public int size() {
+            return mSize;
+        }
+
+        @Override
+        public double getX(int index) {
+            return getXForIndex(index);
+        }
+
+        @Override
+        public float getY(int index) {
+            return getYForIndex(index);
+        }
+    };
+
+    /**
+     * candidates for the minimum and maximum y-value, ordered by age
+     */
+    private final ExtremaDeque mYMinDeque;
+    private final ExtremaDeque mYMaxDeque;
+
+    /**
+     * Creates an empty DataSet that holds at most the given number of values.
+     *
+     * @param capacity
+     * @param label
+     */
+    public StreamingLineDataSet(int capacity, String label) {
+        super(null, label);
+
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+
+        mCapacity = capacity;
+        mXValues = new float[capacity];
+        mYValues = new float[capacity];
+        mYMinDeque = new ExtremaDeque(capacity, false);
+        mYMaxDeque = new ExtremaDeque(capacity, true);
+
+        mEntries = new RingEntries();
+
+        calcMinMax();
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet holds.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    private int getSlot(int index) {
+        int slot = mHead + index;
+        return slot >= mCapacity ? slot - mCapacity : slot;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mXValues[getSlot(index)];
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mYValues[getSlot(index)];
+    }
+
+    /**
+     * Appends the given values. If the DataSet is full, the oldest value is evicted.
+     * The x-value must not be lower than the x-value of the previously added value.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+
+        if (mSize == mCapacity)
+            evictFirst();
+
+        int slot = getSlot(mSize);
+
+        mXValues[slot] = x;
+        mYValues[slot] = y;
+        mSize++;
+
+        long sequence = mFirstSequence + mSize - 1;
+        mYMinDeque.add(sequence, y);
+        mYMaxDeque.add(sequence, y);
+
+        updateMinMax();
+
+        if (mMinMaxPyramid != null)
+            mMinMaxPyramid.update();
+    }
+
+    private void evictFirst() {
+
+        mYMinDeque.evict(mFirstSequence);
+        mYMaxDeque.evict(mFirstSequence);
+
+        mHead = getSlot(1);
+        mFirstSequence++;
+        mSize--;
+
+        if (mMinMaxPyramid != null)
+            mMinMaxPyramid.remove(0);
+    }
+
+    private void updateMinMax() {
+
+        if (mSize == 0) {
+            mXMin = Float.MAX_VALUE;
+            mXMax = -Float.MAX_VALUE;
+        } else {
+            mXMin = getXForIndex(0);
+            mXMax = getXForIndex(mSize - 1);
+        }
+
+        mYMin = mYMinDeque.isEmpty() ? Float.MAX_VALUE : mYMinDeque.peek();
+        mYMax = mYMaxDeque.isEmpty() ? -Float.MAX_VALUE : mYMaxDeque.peek();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        addEntry(e.getX(), e.getY());
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        if (mSize > 0 && e.getX() < getXForIndex(mSize - 1)) {
+            Log.e("MPAndroidChart", "StreamingLineDataSet only supports appending entries in ascending x-order");
+            return;
+        }
+
+        addEntry(e.getX(), e.getY());
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        int index = mEntries.indexOf(e);
+
+        if (index < 0)
+            return false;
+
+        if (index == 0) {
+
+            evictFirst();
+            updateMinMax();
+            return true;
+        }
+
+        // close the gap, the following values keep their order
+        for (int i = index; i < mSize - 1; i++) {
+            mXValues[getSlot(i)] = getXForIndex(i + 1);
+            mYValues[getSlot(i)] = getYForIndex(i + 1);
+        }
+
+        mSize--;
+
+        if (mMinMaxPyramid != null)
+            mMinMaxPyramid.remove(index);
+
+        calcMinMax();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        mSize = 0;
+        mHead = 0;
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        // called by the super constructor before the ring buffers exist
+        if (mYMinDeque == null)
+            return;
+
+        mYMinDeque.clear();
+        mYMaxDeque.clear();
+
+        for (int i = 0; i < mSize; i++) {
+            mYMinDeque.add(mFirstSequence + i, getYForIndex(i));
+            mYMaxDeque.add(mFirstSequence + i, getYForIndex(i));
+        }
+
+        updateMinMax();
+    }
+
+    @Override
+    protected void calcMinMaxYForIndexRange(int indexFrom, int indexTo) {
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            float y = getYForIndex(i);
+
+            if (y < mYMin)
+                mYMin = y;
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    protected float getEntryYLow(int index) {
+        return getYForIndex(index);
+    }
+
+    @Override
+    protected float getEntryYHigh(int index) {
+        return getYForIndex(index);
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return mEntries.indexOf(e) >= 0;
+    }
+
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        if (entries != mEntries) {
+
+            mSize = 0;
+            mHead = 0;
+
+            for (Entry e : entries) {
+                addEntry(e.getX(), e.getY());
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return EntryIndexSearch.getEntryIndex(mRingIndexValues, xValue, closestToY, rounding);
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+
+        StreamingLineDataSet copied = new StreamingLineDataSet(mCapacity, getLabel());
+
+        for (int i = 0; i < mSize; i++) {
+            copied.addEntry(getXForIndex(i), getYForIndex(i));
+        }
+
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Read-only list view of the ring buffers, serves as mEntries.
+     */
+    private class RingEntries extends AbstractList<Entry> implements RandomAccess {
+
+        @Override
+        public Entry get(int index) {
+
+            if (index < 0 || index >= mSize)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+            return new Entry(getXForIndex(index), getYForIndex(index));
+        }
+
+        @Override
+        public int size() {
+            return mSize;
+        }
+
+        /**
+         * Entries handed out are views, match them by their values instead of their identity.
+         */
+        @Override
+        public int indexOf(Object o) {
+
+            if (!(o instanceof Entry))
+                return -1;
+
+            Entry e = (Entry) o;
+
+            int low = 0;
+            int high = mSize;
+
+            // find the first index with an x-value >= x
+            while (low < high) {
+                int m = (low + high) >>> 1;
+
+                if (getXForIndex(m) < e.getX())
+                    low = m + 1;
+                else
+                    high = m;
+            }
+
+            for (int i = low; i < mSize && getXForIndex(i) == e.getX(); i++) {
+                if (getYForIndex(i) == e.getY())
+                    return i;
+            }
+
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+    }
+
+    /**
+     * Monotonic deque holding the candidates for the minimum (or maximum) of a sliding window.
+     * Values that can never become the extreme again, because a newer value is lower (or higher),
+     * are dropped when added. The front always holds the current extreme.
+     */
+    private static class ExtremaDeque {
+
+        private final long[] mSequences;
+        private final float[] mValues;
+        private final boolean mMax;
+
+        private int mFront = 0;
+        private int mCount = 0;
+
+        ExtremaDeque(int capacity, boolean max) {
+            mSequences = new long[capacity];
+            mValues = new float[capacity];
+            mMax = max;
+        }
+
+        void add(long sequence, float value) {
+
+            if (Float.isNaN(value))
+                return;
+
+            while (mCount > 0) {
+
+                float back = mValues[slot(mCount - 1)];
+
+                if (mMax ? back > value : back < value)
+                    break;
+
+                mCount--;
+            }
+
+            int slot = slot(mCount);
+            mSequences[slot] = sequence;
+            mValues[slot] = value;
+            mCount++;
+        }
+
+        /**
+         * Removes the value with the given sequence number if it is at the front.
+         */
+        void evict(long sequence) {
+
+            if (mCount > 0 && mSequences[mFront] == sequence) {
+                mFront = slot(1);
+                mCount--;
+            }
+        }
+
+        float peek() {
+            return mValues[mFront];
+        }
+
+        boolean isEmpty() {
+            return mCount == 0;
+        }
+
+        void clear() {
+            mFront = 0;
+            mCount = 0;
+        }
+
+        private int slot(int index) {
+            int slot = mFront + index;
+            return slot >= mSequences.length ? slot - mSequences.length : slot;
+        }
+    }
+}
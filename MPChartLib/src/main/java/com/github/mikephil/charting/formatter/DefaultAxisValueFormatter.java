@@ -15,6 +15,16 @@ public class DefaultAxisValueFormatter implements IAxisValueFormatter
      */
     protected DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat without the overhead of the DecimalFormat
+     */
+    protected FastDecimalFormat mFastFormat;
+
+    /**
+     * the texts of recently formatted values, the labels stay the same while panning
+     */
+    protected FormattedValueCache mCache = new FormattedValueCache();
+
     /**
      * the number of decimal digits this formatter uses
      */
@@ -37,12 +47,27 @@ public class DefaultAxisValueFormatter implements IAxisValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mFastFormat = new FastDecimalFormat(mFormat);
     }
 
     @Override
     public String getFormattedValue(float value, AxisBase axis) {
         // avoid memory allocations here (for performance)
-        return mFormat.format(value);
+
+        // subclasses may have replaced the format
+        if (mFastFormat.getFormat() != mFormat) {
+            mFastFormat = new FastDecimalFormat(mFormat);
+            mCache.clear();
+        }
+
+        String text = mCache.get(value);
+
+        if (text == null) {
+            text = mFastFormat.format(value);
+            mCache.put(value, text);
+        }
+
+        return text;
     }
 
     /**
@@ -20,6 +20,16 @@ public class DefaultValueFormatter implements IValueFormatter
      */
     protected DecimalFormat mFormat;
 
+    /**
+     * formats like mFormat without the overhead of the DecimalFormat
+     */
+    protected FastDecimalFormat mFastFormat;
+
+    /**
+     * the texts of recently formatted values, values are formatted again and again while panning
+     */
+    protected FormattedValueCache mCache = new FormattedValueCache();
+
     protected int mDecimalDigits;
 
     /**
@@ -49,6 +59,8 @@ public class DefaultValueFormatter implements IValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+        mFastFormat = new FastDecimalFormat(mFormat);
+        mCache.clear();
     }
 
     @Override
@@ -57,7 +69,20 @@ public class DefaultValueFormatter implements IValueFormatter
         // put more logic here ...
         // avoid memory allocations here (for performance reasons)
 
-        return mFormat.format(value);
+        // subclasses may have replaced the format
+        if (mFastFormat.getFormat() != mFormat) {
+            mFastFormat = new FastDecimalFormat(mFormat);
+            mCache.clear();
+        }
+
+        String text = mCache.get(value);
+
+        if (text == null) {
+            text = mFastFormat.format(value);
+            mCache.put(value, text);
+        }
+
+        return text;
     }
 
     /**
@@ -0,0 +1,146 @@
+package com.github.mikephil.charting.formatter;
+
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Formats floats exactly like a given DecimalFormat with a fixed number of decimal digits
+ * ("###,###,###,##0.00" and the like), but writes the digits into a reusable char buffer
+ * instead of going through the BigDecimal based formatting of the DecimalFormat. Values and
+ * patterns the fast path can not represent exactly are handed to the DecimalFormat. Not
+ * thread-safe, like the DecimalFormat itself.
+ */
+public class FastDecimalFormat {
+
+    /**
+     * float * 10^digits is exact in double precision up to this number of digits
+     */
+    private static final int MAX_DIGITS = 12;
+
+    /**
+     * scaled values below this limit can be rounded to a long without losing precision
+     */
+    private static final double MAX_SCALED = 9e15;
+
+    private static final double[] POW_10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12
+    };
+
+    private final DecimalFormat mFormat;
+
+    private final boolean mFastPathEnabled;
+
+    private final int mDigits;
+    private final int mGroupingSize;
+
+    private final char mZeroDigit;
+    private final char mDecimalSeparator;
+    private final char mGroupingSeparator;
+
+    private final String mPositivePrefix;
+    private final String mPositiveSuffix;
+    private final String mNegativePrefix;
+    private final String mNegativeSuffix;
+
+    private final char[] mBuffer;
+
+    /**
+     * @param format the format to replicate, must not be modified afterwards
+     */
+    public FastDecimalFormat(DecimalFormat format) {
+
+        mFormat = format;
+
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+
+        mDigits = format.getMaximumFractionDigits();
+        mGroupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+
+        mZeroDigit = symbols.getZeroDigit();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+
+        mPositivePrefix = format.getPositivePrefix();
+        mPositiveSuffix = format.getPositiveSuffix();
+        mNegativePrefix = format.getNegativePrefix();
+        mNegativeSuffix = format.getNegativeSuffix();
+
+        mFastPathEnabled = mDigits <= MAX_DIGITS
+                && format.getMinimumFractionDigits() == mDigits
+                && format.getMinimumIntegerDigits() == 1
+                && format.getMultiplier() == 1
+                && format.getRoundingMode() == RoundingMode.HALF_EVEN
+                && !format.isDecimalSeparatorAlwaysShown()
+                && format.toPattern().indexOf('E') < 0;
+
+        // sign, digits, separators, prefix and suffix
+        mBuffer = new char[48 + mDigits
+                + Math.max(mPositivePrefix.length() + mPositiveSuffix.length(),
+                mNegativePrefix.length() + mNegativeSuffix.length())];
+    }
+
+    /**
+     * Returns the DecimalFormat this format replicates.
+     *
+     * @return
+     */
+    public DecimalFormat getFormat() {
+        return mFormat;
+    }
+
+    /**
+     * Formats the given value, the result equals DecimalFormat.format(value).
+     *
+     * @param value
+     * @return
+     */
+    public String format(float value) {
+
+        if (!mFastPathEnabled || Float.isNaN(value) || Float.isInfinite(value))
+            return mFormat.format(value);
+
+        boolean negative = Float.floatToRawIntBits(value) < 0;
+
+        double scaled = Math.abs((double) value) * POW_10[mDigits];
+
+        if (scaled >= MAX_SCALED)
+            return mFormat.format(value);
+
+        // half-even, like the DecimalFormat
+        long digits = (long) Math.rint(scaled);
+
+        char[] buffer = mBuffer;
+        int pos = buffer.length;
+
+        String suffix = negative ? mNegativeSuffix : mPositiveSuffix;
+        pos -= suffix.length();
+        suffix.getChars(0, suffix.length(), buffer, pos);
+
+        for (int i = 0; i < mDigits; i++) {
+            buffer[--pos] = (char) (mZeroDigit + (int) (digits % 10));
+            digits /= 10;
+        }
+
+        if (mDigits > 0)
+            buffer[--pos] = mDecimalSeparator;
+
+        int integerDigits = 0;
+
+        do {
+            if (mGroupingSize > 0 && integerDigits > 0 && integerDigits % mGroupingSize == 0)
+                buffer[--pos] = mGroupingSeparator;
+
+            buffer[--pos] = (char) (mZeroDigit + (int) (digits % 10));
+            digits /= 10;
+            integerDigits++;
+
+        } while (digits != 0);
+
+        String prefix = negative ? mNegativePrefix : mPositivePrefix;
+        pos -= prefix.length();
+        prefix.getChars(0, prefix.length(), buffer, pos);
+
+        return new String(buffer, pos, buffer.length - pos);
+    }
+}
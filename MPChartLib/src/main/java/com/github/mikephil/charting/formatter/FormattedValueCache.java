@@ -0,0 +1,85 @@
+package com.github.mikephil.charting.formatter;
+
+/**
+ * Small fixed-size cache that maps values to their formatted text. Each slot holds the text of
+ * one value, a value that maps to an occupied slot replaces the text stored there. Lookups do
+ * not allocate, which makes the cache suitable for formatters that are called for every drawn
+ * label on every frame. Only use it for formatters whose output depends on the value alone.
+ */
+public class FormattedValueCache {
+
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private final Slot[] mSlots;
+
+    private final int mShift;
+
+    public FormattedValueCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity number of slots, rounded up to the next power of two
+     */
+    public FormattedValueCache(int capacity) {
+
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+
+        mSlots = new Slot[size];
+        mShift = 32 - Integer.numberOfTrailingZeros(size);
+    }
+
+    /**
+     * Returns the cached text of the given value or null if there is none.
+     *
+     * @param value
+     * @return
+     */
+    public String get(float value) {
+
+        int bits = Float.floatToRawIntBits(value);
+        Slot slot = mSlots[indexOf(bits)];
+
+        return slot != null && slot.bits == bits ? slot.text : null;
+    }
+
+    /**
+     * Stores the text of the given value.
+     *
+     * @param value
+     * @param text
+     */
+    public void put(float value, String text) {
+
+        int bits = Float.floatToRawIntBits(value);
+        mSlots[indexOf(bits)] = new Slot(bits, text);
+    }
+
+    /**
+     * Removes all cached texts, call this when the formatter is reconfigured.
+     */
+    public void clear() {
+
+        for (int i = 0; i < mSlots.length; i++) {
+            mSlots[i] = null;
+        }
+    }
+
+    private int indexOf(int bits) {
+        return (bits * 0x9E3779B9) >>> mShift;
+    }
+
+    /**
+     * immutable so that a slot can be read without locking
+     */
+    private static final class Slot {
+
+        final int bits;
+        final String text;
+
+        Slot(int bits, String text) {
+            this.bits = bits;
+            this.text = text;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
 
 /**
  * Predefined value-formatter that formats large numbers in a pretty way.
@@ -27,8 +29,28 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
     private DecimalFormat mFormat;
     private String mText = "";
 
+    /**
+     * true if the DecimalFormat uses plain digits and exponent, only then makePretty(...)
+     * can skip the DecimalFormat
+     */
+    private boolean mFastPathEnabled;
+    private char mDecimalSeparator;
+    private char[] mBuffer = new char[32];
+
+    private FormattedValueCache mCache = new FormattedValueCache();
+
     public LargeValueFormatter() {
         mFormat = new DecimalFormat("###E00");
+
+        DecimalFormatSymbols symbols = mFormat.getDecimalFormatSymbols();
+
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mFastPathEnabled = symbols.getZeroDigit() == '0'
+                && "E".equals(symbols.getExponentSeparator())
+                && "-".equals(mFormat.getNegativePrefix())
+                && mFormat.getNegativeSuffix().isEmpty()
+                && mFormat.getPositivePrefix().isEmpty()
+                && mFormat.getPositiveSuffix().isEmpty();
     }
 
     /**
@@ -44,13 +66,32 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
     // IValueFormatter
     @Override
     public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
-        return makePretty(value) + mText;
+        return format(value);
     }
 
     // IAxisValueFormatter
     @Override
     public String getFormattedValue(float value, AxisBase axis) {
-        return makePretty(value) + mText;
+        return format(value);
+    }
+
+    private String format(float value) {
+
+        String text = mCache.get(value);
+
+        if (text == null) {
+
+            int length = makePrettyFast(value);
+
+            if (length >= 0)
+                text = new String(mBuffer, 0, length);
+            else
+                text = makePretty(value) + mText;
+
+            mCache.put(value, text);
+        }
+
+        return text;
     }
 
     /**
@@ -60,6 +101,7 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
      */
     public void setAppendix(String appendix) {
         this.mText = appendix;
+        mCache.clear();
     }
 
     /**
@@ -70,10 +112,12 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
      */
     public void setSuffix(String[] suffix) {
         this.mSuffix = suffix;
+        mCache.clear();
     }
 
     public void setMaxLength(int maxLength) {
         this.mMaxLength = maxLength;
+        mCache.clear();
     }
 
     /**
@@ -97,6 +141,150 @@ public class LargeValueFormatter implements IValueFormatter, IAxisValueFormatter
         return r;
     }
 
+    /**
+     * Produces the same text as makePretty(number) + appendix without the DecimalFormat and the
+     * regular expressions. Writes the text to the buffer and returns its length, or returns -1
+     * for the values that are left to makePretty(...): values between -1 and 1 (except 0),
+     * values of 10^15 and above and everything the suffix array has no entry for.
+     */
+    private int makePrettyFast(float number) {
+
+        if (!mFastPathEnabled || Float.isNaN(number) || Float.isInfinite(number))
+            return -1;
+
+        double abs = Math.abs((double) number);
+
+        if ((abs < 1.0 && abs != 0.0) || abs >= 1e15)
+            return -1;
+
+        // 3 significant digits, rounded half-even like the DecimalFormat
+        int integerDigits = 1;
+        long mantissa = 0;
+
+        if (abs != 0.0) {
+
+            double pow = 10.0;
+
+            while (abs >= pow) {
+                integerDigits++;
+                pow *= 10.0;
+            }
+
+            // multiplying a float by 10 or 100 is exact, dividing by a power of ten is exact
+            // enough to never move a float across a rounding boundary below 10^15
+            double scaled = integerDigits <= 3
+                    ? abs * (integerDigits == 1 ? 100.0 : integerDigits == 2 ? 10.0 : 1.0)
+                    : abs / (pow / 1000.0);
+
+            // the DecimalFormat does not round ties consistently in scientific notation
+            if (Math.abs(scaled - Math.floor(scaled) - 0.5) <= scaled * 1e-7)
+                return -1;
+
+            mantissa = (long) Math.rint(scaled);
+
+            if (mantissa >= 1000) {
+                mantissa /= 10;
+                integerDigits++;
+            }
+        }
+
+        int exponent = (integerDigits - 1) / 3 * 3;
+
+        if (exponent / 3 >= mSuffix.length)
+            return -1;
+
+        String suffix = mSuffix[exponent / 3];
+
+        // suffixes are inserted with replaceAll(...), which interprets these
+        if (suffix.indexOf('$') >= 0 || suffix.indexOf('\\') >= 0)
+            return -1;
+
+        int length = 0;
+
+        if (Float.floatToRawIntBits(number) < 0)
+            length = put(length, '-');
+
+        if (abs == 0.0) {
+            length = put(length, '0');
+        } else {
+
+            int mantissaIntegerDigits = integerDigits - exponent;
+            int last = 2;
+
+            // trailing zeros of the fraction are not shown
+            while (last >= mantissaIntegerDigits && digitAt(mantissa, last) == 0)
+                last--;
+
+            for (int i = 0; i <= last; i++) {
+
+                if (i == mantissaIntegerDigits)
+                    length = put(length, mDecimalSeparator);
+
+                length = put(length, (char) ('0' + digitAt(mantissa, i)));
+            }
+        }
+
+        length = append(length, suffix);
+
+        while (length > mMaxLength || matchesShortDecimal(length)) {
+
+            if (length < 2)
+                return -1;
+
+            // drop the second last character
+            mBuffer[length - 2] = mBuffer[length - 1];
+            length--;
+        }
+
+        return append(length, mText);
+    }
+
+    /**
+     * Returns the given digit (0 being the most significant) of the 3 digit mantissa.
+     */
+    private static int digitAt(long mantissa, int digit) {
+        return (int) (digit == 0 ? mantissa / 100 : digit == 1 ? mantissa / 10 % 10 : mantissa % 10);
+    }
+
+    /**
+     * Same as matching the text in the buffer against "[0-9]+\\.[a-z]".
+     */
+    private boolean matchesShortDecimal(int length) {
+
+        if (length < 3 || mBuffer[length - 2] != '.')
+            return false;
+
+        char last = mBuffer[length - 1];
+
+        if (last < 'a' || last > 'z')
+            return false;
+
+        for (int i = 0; i < length - 2; i++) {
+            if (mBuffer[i] < '0' || mBuffer[i] > '9')
+                return false;
+        }
+
+        return true;
+    }
+
+    private int put(int length, char c) {
+
+        if (length == mBuffer.length)
+            mBuffer = Arrays.copyOf(mBuffer, length * 2);
+
+        mBuffer[length] = c;
+        return length + 1;
+    }
+
+    private int append(int length, String text) {
+
+        for (int i = 0; i < text.length(); i++) {
+            length = put(length, text.charAt(i));
+        }
+
+        return length;
+    }
+
     public int getDecimalDigits() {
         return 0;
     }
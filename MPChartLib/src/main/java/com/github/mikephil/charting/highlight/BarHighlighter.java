@@ -17,8 +17,8 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
     }
 
     @Override
-    public Highlight getHighlight(float x, float y) {
-        Highlight high = super.getHighlight(x, y);
+    protected Highlight findHighlight(float x, float y) {
+        Highlight high = super.findHighlight(x, y);
 
         if(high == null) {
             return null;
@@ -31,7 +31,7 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
         IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
         if (set.isStacked()) {
 
-            return getStackedHighlight(high,
+            high = getStackedHighlight(high,
                     set,
                     (float) pos.x,
                     (float) pos.y);
@@ -44,7 +44,7 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
     /**
      * This method creates the Highlight object that also indicates which value of a stacked BarEntry has been
-     * selected.
+     * selected. The returned object comes from the pool of this highlighter and is reused by the next touch.
      *
      * @param high the Highlight to work with looking for stacked values
      * @param set
@@ -68,20 +68,20 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
             if (ranges.length > 0) {
                 int stackIndex = getClosestStackIndex(ranges, yVal);
 
-                MPPointD pixels = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(high.getX(), ranges[stackIndex].to);
+                getPixelForValues(mChart.getTransformer(set.getAxisDependency()),
+                        high.getX(), ranges[stackIndex].to, mPixelBuffer);
 
-                Highlight stackedHigh = new Highlight(
+                Highlight stackedHigh = obtainHighlight();
+                stackedHigh.set(
                         entry.getX(),
                         entry.getY(),
-                        (float) pixels.x,
-                        (float) pixels.y,
+                        mPixelBuffer[0],
+                        mPixelBuffer[1],
                         high.getDataSetIndex(),
                         stackIndex,
                         high.getAxis()
                 );
 
-                MPPointD.recycleInstance(pixels);
-
                 return stackedHigh;
             }
         }
@@ -3,10 +3,11 @@ package com.github.mikephil.charting.highlight;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.DataSet;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,12 +28,44 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * reusable Highlight objects for the candidates of a single touch, see obtainHighlight()
+     */
+    protected List<Highlight> mHighlightPool = new ArrayList<Highlight>();
+
+    /**
+     * number of objects of the pool in use by the current touch
+     */
+    protected int mHighlightPoolUsed = 0;
+
+    /**
+     * the Highlight returned by the last call to getHighlight(...)
+     */
+    protected Highlight mLastHighlight;
+
+    /**
+     * buffer for transforming values to pixels
+     */
+    protected float[] mPixelBuffer = new float[2];
+
     public ChartHighlighter(T chart) {
         this.mChart = chart;
     }
 
     @Override
     public Highlight getHighlight(float x, float y) {
+        return getResultHighlight(findHighlight(x, y));
+    }
+
+    /**
+     * Returns the Highlight closest to the given touch-position in pixels. The returned object
+     * may be one of the reusable candidates and is only valid until the next touch.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    protected Highlight findHighlight(float x, float y) {
 
         MPPointD pos = getValsForTouch(x, y);
         float xVal = (float) pos.x;
@@ -42,6 +75,49 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
         return high;
     }
 
+    /**
+     * Turns the found candidate into the Highlight handed out to the chart. Returns the
+     * previous result if it highlights the same value at the same pixel position, a copy of
+     * the candidate otherwise, so the result is never modified afterwards and repeated touches
+     * on the same value do not allocate anything. The pixel position is compared as well, after
+     * panning or zooming the same value is drawn elsewhere.
+     *
+     * @param candidate
+     * @return
+     */
+    protected Highlight getResultHighlight(Highlight candidate) {
+
+        if (candidate == null)
+            return null;
+
+        if (candidate == mLastHighlight)
+            return candidate;
+
+        if (candidate.equalTo(mLastHighlight)
+                && Float.compare(candidate.getY(), mLastHighlight.getY()) == 0
+                && candidate.getAxis() == mLastHighlight.getAxis()
+                && Float.compare(candidate.getXPx(), mLastHighlight.getXPx()) == 0
+                && Float.compare(candidate.getYPx(), mLastHighlight.getYPx()) == 0)
+            return mLastHighlight;
+
+        mLastHighlight = candidate.copy();
+        return mLastHighlight;
+    }
+
+    /**
+     * Returns a Highlight object from the pool of this highlighter. The objects are reused for
+     * every touch, do not keep references to them.
+     *
+     * @return
+     */
+    protected Highlight obtainHighlight() {
+
+        if (mHighlightPoolUsed == mHighlightPool.size())
+            mHighlightPool.add(new Highlight(Float.NaN, Float.NaN, -1));
+
+        return mHighlightPool.get(mHighlightPoolUsed++);
+    }
+
     /**
      * Returns a recyclable MPPointD instance.
      * Returns the corresponding xPos for a given touch-position in pixels.
@@ -128,6 +204,7 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
     protected List<Highlight> getHighlightsAtXValue(float xVal, float x, float y) {
 
         mHighlightBuffer.clear();
+        mHighlightPoolUsed = 0;
 
         BarLineScatterCandleBubbleData data = getData();
 
@@ -142,12 +219,60 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
             if (!dataSet.isHighlightEnabled())
                 continue;
 
-            mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
+            buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST, mHighlightBuffer);
         }
 
         return mHighlightBuffer;
     }
 
+    /**
+     * Adds a Highlight for every entry of the given DataSet at the selected xValue to the given
+     * list. If there is no entry at exactly this xValue, the entries at the closest xValue
+     * (according to the rounding) are used. The added objects come from the pool of this
+     * highlighter, entries are looked up by index and nothing is allocated.
+     *
+     * @param set
+     * @param dataSetIndex
+     * @param xVal
+     * @param rounding
+     * @param outHighlights
+     */
+    protected void buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding,
+                                   List<Highlight> outHighlights) {
+
+        int index = set.getEntryIndex(xVal, Float.NaN, rounding);
+
+        if (index < 0)
+            return;
+
+        final IColumnarDataSet columns = set instanceof IColumnarDataSet ? (IColumnarDataSet) set : null;
+        final float closestX = getX(set, columns, index);
+
+        // all entries at the closest x-value
+        int first = index;
+        while (first > 0 && getX(set, columns, first - 1) == closestX)
+            first--;
+
+        final Transformer trans = mChart.getTransformer(set.getAxisDependency());
+
+        for (int i = first, count = set.getEntryCount(); i < count; i++) {
+
+            float x = getX(set, columns, i);
+
+            if (x != closestX)
+                break;
+
+            float y = columns != null ? columns.getYForIndex(i) : set.getEntryForIndex(i).getY();
+
+            getPixelForValues(trans, x, y, mPixelBuffer);
+
+            Highlight high = obtainHighlight();
+            high.set(x, y, mPixelBuffer[0], mPixelBuffer[1], dataSetIndex, -1, set.getAxisDependency());
+
+            outHighlights.add(high);
+        }
+    }
+
     /**
      * An array of `Highlight` objects corresponding to the selected xValue and dataSetIndex.
      *
@@ -156,39 +281,50 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      * @param xVal
      * @param rounding
      * @return
+     * @deprecated Use {@link #buildHighlights(IDataSet, int, float, DataSet.Rounding, List)},
+     * which does not allocate.
      */
+    @Deprecated
     protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
 
         ArrayList<Highlight> highlights = new ArrayList<>();
 
-        //noinspection unchecked
-        List<Entry> entries = set.getEntriesForXValue(xVal);
-        if (entries.size() == 0) {
-            // Try to find closest x-value and take all entries for that x-value
-            final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
-            if (closest != null)
-            {
-                //noinspection unchecked
-                entries = set.getEntriesForXValue(closest.getX());
-            }
-        }
+        final int poolUsed = mHighlightPoolUsed;
 
-        if (entries.size() == 0)
-            return highlights;
+        buildHighlights(set, dataSetIndex, xVal, rounding, highlights);
 
-        for (Entry e : entries) {
-            MPPointD pixels = mChart.getTransformer(
-                    set.getAxisDependency()).getPixelForValues(e.getX(), e.getY());
+        // hand out copies, the pooled objects are reused by the next touch
+        for (int i = 0; i < highlights.size(); i++) {
 
-            highlights.add(new Highlight(
-                    e.getX(), e.getY(),
-                    (float) pixels.x, (float) pixels.y,
-                    dataSetIndex, set.getAxisDependency()));
+            Highlight h = highlights.get(i);
+
+            highlights.set(i, new Highlight(h.getX(), h.getY(), h.getXPx(), h.getYPx(),
+                    h.getDataSetIndex(), h.getAxis()));
         }
 
+        mHighlightPoolUsed = poolUsed;
+
         return highlights;
     }
 
+    private static float getX(IDataSet set, IColumnarDataSet columns, int index) {
+        return columns != null ? columns.getXForIndex(index) : set.getEntryForIndex(index).getX();
+    }
+
+    /**
+     * Transforms the given values to pixels and writes them to the given array.
+     *
+     * @param trans
+     * @param x
+     * @param y
+     * @param outPixels
+     */
+    protected void getPixelForValues(Transformer trans, float x, float y, float[] outPixels) {
+        outPixels[0] = x;
+        outPixels[1] = y;
+        trans.pointValuesToPixel(outPixels);
+    }
+
     /**
      * Returns the Highlight of the DataSet that contains the closest value on the
      * y-axis.
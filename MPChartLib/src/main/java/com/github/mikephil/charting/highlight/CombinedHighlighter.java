@@ -8,6 +8,7 @@ import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.dataprovider.CombinedDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -28,12 +29,20 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
         barHighlighter = barChart.getBarData() == null ? null : new BarHighlighter(barChart);
     }
 
+    /**
+     * buffer for the data objects of the chart
+     */
+    protected List<BarLineScatterCandleBubbleData> mDataObjects = new ArrayList<BarLineScatterCandleBubbleData>();
+
     @Override
     protected List<Highlight> getHighlightsAtXValue(float xVal, float x, float y) {
 
         mHighlightBuffer.clear();
+        mHighlightPoolUsed = 0;
 
-        List<BarLineScatterCandleBubbleData> dataObjects = mChart.getCombinedData().getAllData();
+        List<BarLineScatterCandleBubbleData> dataObjects = mDataObjects;
+        dataObjects.clear();
+        mChart.getCombinedData().getAllData(dataObjects);
 
         for (int i = 0; i < dataObjects.size(); i++) {
 
@@ -41,7 +50,7 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
 
             // in case of BarData, let the BarHighlighter take over
             if (barHighlighter != null && dataObject instanceof BarData) {
-                Highlight high = barHighlighter.getHighlight(x, y);
+                Highlight high = barHighlighter.findHighlight(x, y);
 
                 if (high != null) {
                     high.setDataIndex(i);
@@ -57,16 +66,19 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
                     if (!dataSet.isHighlightEnabled())
                         continue;
 
-                    List<Highlight> highs = buildHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST);
-                    for (Highlight high : highs)
-                    {
-                        high.setDataIndex(i);
-                        mHighlightBuffer.add(high);
+                    int start = mHighlightBuffer.size();
+
+                    buildHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST, mHighlightBuffer);
+
+                    for (int k = start; k < mHighlightBuffer.size(); k++) {
+                        mHighlightBuffer.get(k).setDataIndex(i);
                     }
                 }
             }
         }
 
+        dataObjects.clear();
+
         return mHighlightBuffer;
     }
 
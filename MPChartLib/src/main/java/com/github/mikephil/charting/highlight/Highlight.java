@@ -109,6 +109,34 @@ public class Highlight {
         this.mStackIndex = stackIndex;
     }
 
+    /**
+     * Sets all values of this Highlight, used by the highlighters to reuse instances while
+     * searching for the closest value.
+     */
+    void set(float x, float y, float xPx, float yPx, int dataSetIndex, int stackIndex, YAxis.AxisDependency axis) {
+        this.mX = x;
+        this.mY = y;
+        this.mXPx = xPx;
+        this.mYPx = yPx;
+        this.mDataSetIndex = dataSetIndex;
+        this.mDataIndex = -1;
+        this.mStackIndex = stackIndex;
+        this.axis = axis;
+    }
+
+    /**
+     * Returns a new Highlight with the same values as this one.
+     *
+     * @return
+     */
+    Highlight copy() {
+        Highlight h = new Highlight(mX, mY, mXPx, mYPx, mDataSetIndex, mStackIndex, axis);
+        h.mDataIndex = mDataIndex;
+        h.mDrawX = mDrawX;
+        h.mDrawY = mDrawY;
+        return h;
+    }
+
     /**
      * returns the x-value of the highlighted value
      *
@@ -7,6 +7,7 @@ import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,23 +22,23 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 	}
 
 	@Override
-	public Highlight getHighlight(float x, float y) {
+	protected Highlight findHighlight(float x, float y) {
 
 		BarData barData = mChart.getBarData();
 
 		MPPointD pos = getValsForTouch(y, x);
 
 		Highlight high = getHighlightForX((float) pos.y, y, x);
-		if (high == null)
-			return null;
+		if (high != null) {
 
-		IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
-		if (set.isStacked()) {
+			IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
+			if (set.isStacked()) {
 
-			return getStackedHighlight(high,
-					set,
-					(float) pos.y,
-					(float) pos.x);
+				high = getStackedHighlight(high,
+						set,
+						(float) pos.y,
+						(float) pos.x);
+			}
 		}
 
 		MPPointD.recycleInstance(pos);
@@ -46,36 +47,9 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 	}
 
 	@Override
-	protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
-
-		ArrayList<Highlight> highlights = new ArrayList<>();
-
-		//noinspection unchecked
-		List<Entry> entries = set.getEntriesForXValue(xVal);
-		if (entries.size() == 0) {
-			// Try to find closest x-value and take all entries for that x-value
-			final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
-			if (closest != null)
-			{
-				//noinspection unchecked
-				entries = set.getEntriesForXValue(closest.getX());
-			}
-		}
-
-		if (entries.size() == 0)
-			return highlights;
-
-		for (Entry e : entries) {
-			MPPointD pixels = mChart.getTransformer(
-					set.getAxisDependency()).getPixelForValues(e.getY(), e.getX());
-
-			highlights.add(new Highlight(
-					e.getX(), e.getY(),
-					(float) pixels.x, (float) pixels.y,
-					dataSetIndex, set.getAxisDependency()));
-		}
-
-		return highlights;
+	protected void getPixelForValues(Transformer trans, float x, float y, float[] outPixels) {
+		// the x-axis is vertical
+		super.getPixelForValues(trans, y, x, outPixels);
 	}
 
 	@Override
@@ -0,0 +1,25 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+/**
+ * Interface for DataSets that store their x- and y-values in primitive arrays instead of
+ * Entry objects. Renderers check for this interface to read values directly without
+ * creating an Entry for every drawn point.
+ */
+public interface IColumnarDataSet {
+
+    /**
+     * Returns the x-value at the given index (NOT xIndex) in the values array.
+     *
+     * @param index
+     * @return
+     */
+    float getXForIndex(int index);
+
+    /**
+     * Returns the y-value at the given index (NOT xIndex) in the values array.
+     *
+     * @param index
+     * @return
+     */
+    float getYForIndex(int index);
+}
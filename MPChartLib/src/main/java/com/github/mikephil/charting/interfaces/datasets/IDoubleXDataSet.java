@@ -0,0 +1,61 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+
+/**
+ * Interface for DataSets that keep their x-values in double precision, e.g. epoch millisecond
+ * timestamps that do not fit into a float. The x-values seen by the rest of the chart (Entries,
+ * min / max, the float getXForIndex(...)) are relative to the x-origin of the DataSet, the
+ * methods of this interface work on the absolute x-values.
+ */
+public interface IDoubleXDataSet {
+
+    /**
+     * Returns the absolute x-value all float x-values of this DataSet are relative to.
+     *
+     * @return
+     */
+    double getXOrigin();
+
+    /**
+     * Sets the absolute x-value all float x-values of this DataSet are relative to. Pick a value
+     * close to the data (e.g. the first timestamp) to keep the full float precision. All
+     * DataSets of a chart need to use the same origin, see BarLineChartBase.setXOrigin(...).
+     *
+     * @param origin
+     */
+    void setXOrigin(double origin);
+
+    /**
+     * Returns the absolute x-value at the given index (NOT xIndex) in the values array.
+     *
+     * @param index
+     * @return
+     */
+    double getAbsoluteXForIndex(int index);
+
+    /**
+     * Returns the index of the value closest to the given absolute x-value, same as
+     * IDataSet.getEntryIndex(float, float, Rounding) but without the loss of precision.
+     *
+     * @param xValue     the absolute x-value
+     * @param closestToY If there are multiple y-values for the specified x-value,
+     * @param rounding   determine whether to round up/down/closest
+     *                   if there is no Entry matching the provided x-value
+     * @return
+     */
+    int getEntryIndex(double xValue, float closestToY, DataSet.Rounding rounding);
+
+    /**
+     * Returns the Entry closest to the given absolute x-value, see
+     * getEntryIndex(double, float, Rounding). The x-value of the Entry is relative to the origin.
+     *
+     * @param xValue     the absolute x-value
+     * @param closestToY If there are multiple y-values for the specified x-value,
+     * @param rounding   determine whether to round up/down/closest
+     *                   if there is no Entry matching the provided x-value
+     * @return
+     */
+    Entry getEntryForXValue(double xValue, float closestToY, DataSet.Rounding rounding);
+}
@@ -8,6 +8,7 @@ import android.graphics.Paint.Style;
 
 import com.github.mikephil.charting.components.AxisBase;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.TextMeasureCache;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -35,6 +36,11 @@ public abstract class AxisRenderer extends Renderer {
      */
     protected Paint mAxisLabelPaint;
 
+    /**
+     * cache for the measured sizes of texts drawn with mAxisLabelPaint
+     */
+    protected TextMeasureCache mAxisLabelMeasureCache = new TextMeasureCache();
+
     /**
      * paint for the line surrounding the chart
      */
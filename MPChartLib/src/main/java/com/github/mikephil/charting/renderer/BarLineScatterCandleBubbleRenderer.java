@@ -44,9 +44,19 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
         if (e == null)
             return false;
 
-        float entryIndex = set.getEntryIndex(e);
+        return isInBoundsX(set.getEntryIndex(e), set);
+    }
+
+    /**
+     * Checks if the entry at the provided index is in bounds for drawing considering the current animation phase.
+     *
+     * @param entryIndex
+     * @param set
+     * @return
+     */
+    protected boolean isInBoundsX(int entryIndex, IBarLineScatterCandleBubbleDataSet set) {
 
-        if (e == null || entryIndex >= set.getEntryCount() * mAnimator.getPhaseX()) {
+        if (entryIndex < 0 || entryIndex >= set.getEntryCount() * mAnimator.getPhaseX()) {
             return false;
         } else {
             return true;
@@ -73,6 +83,11 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
          */
         public int range;
 
+        /**
+         * buffer for the index range query
+         */
+        private int[] indexRange = new int[2];
+
         /**
          * Calculates the minimum and maximum x values as well as the range between them.
          *
@@ -85,11 +100,22 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
             float low = chart.getLowestVisibleX();
             float high = chart.getHighestVisibleX();
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+            if (dataSet instanceof DataSet) {
+
+                ((DataSet<?>) dataSet).getEntryIndexRange(low, high, indexRange);
+
+                min = Math.max(indexRange[0], 0);
+                max = Math.max(indexRange[1], 0);
+            } else {
+
+                // other IDataSet implementations only offer the entry lookup
+                Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
+                Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+
+                min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
+                max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            }
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
             range = (int) ((max - min) * phaseX);
         }
     }
@@ -9,6 +9,7 @@ import android.graphics.drawable.Drawable;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.BubbleData;
 import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
@@ -55,8 +56,14 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         }
     }
 
+    /**
+     * number of bubble positions that are transformed to pixels at once
+     */
+    private static final int POINTS_PER_CHUNK = 64;
+
     private float[] sizeBuffer = new float[4];
     private float[] pointBuffer = new float[2];
+    private float[] mPointsBuffer = new float[POINTS_PER_CHUNK * 2];
 
     protected float getShapeSize(float entrySize, float maxSize, float reference, boolean normalizeSize) {
         final float factor = normalizeSize ? ((maxSize == 0f) ? 1f : (float) Math.sqrt(entrySize / maxSize)) :
@@ -88,30 +95,47 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         final float maxBubbleHeight = Math.abs(mViewPortHandler.contentBottom() - mViewPortHandler.contentTop());
         final float referenceSize = Math.min(maxBubbleHeight, maxBubbleWidth);
 
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        final float maxSize = dataSet.getMaxSize();
+        int to = mXBounds.range + mXBounds.min + 1;
 
-            final BubbleEntry entry = dataSet.getEntryForIndex(j);
+        for (int from = mXBounds.min; from < to; from += POINTS_PER_CHUNK) {
 
-            pointBuffer[0] = entry.getX();
-            pointBuffer[1] = (entry.getY()) * phaseY;
-            trans.pointValuesToPixel(pointBuffer);
+            int count = Math.min(POINTS_PER_CHUNK, to - from);
 
-            float shapeHalf = getShapeSize(entry.getSize(), dataSet.getMaxSize(), referenceSize, normalizeSize) / 2f;
+            for (int k = 0; k < count; k++) {
 
-            if (!mViewPortHandler.isInBoundsTop(pointBuffer[1] + shapeHalf)
-                    || !mViewPortHandler.isInBoundsBottom(pointBuffer[1] - shapeHalf))
-                continue;
+                final BubbleEntry entry = dataSet.getEntryForIndex(from + k);
 
-            if (!mViewPortHandler.isInBoundsLeft(pointBuffer[0] + shapeHalf))
-                continue;
+                mPointsBuffer[k * 2] = entry.getX();
+                mPointsBuffer[k * 2 + 1] = (entry.getY()) * phaseY;
+            }
 
-            if (!mViewPortHandler.isInBoundsRight(pointBuffer[0] - shapeHalf))
-                break;
+            trans.pointValuesToPixel(mPointsBuffer, count * 2);
 
-            final int color = dataSet.getColor(j);
+            for (int k = 0; k < count; k++) {
 
-            mRenderPaint.setColor(color);
-            c.drawCircle(pointBuffer[0], pointBuffer[1], shapeHalf, mRenderPaint);
+                final int j = from + k;
+                final float x = mPointsBuffer[k * 2];
+                final float y = mPointsBuffer[k * 2 + 1];
+
+                float shapeHalf = getShapeSize(dataSet.getEntryForIndex(j).getSize(), maxSize,
+                        referenceSize, normalizeSize) / 2f;
+
+                if (!mViewPortHandler.isInBoundsTop(y + shapeHalf)
+                        || !mViewPortHandler.isInBoundsBottom(y - shapeHalf))
+                    continue;
+
+                if (!mViewPortHandler.isInBoundsLeft(x + shapeHalf))
+                    continue;
+
+                if (!mViewPortHandler.isInBoundsRight(x - shapeHalf))
+                    return;
+
+                final int color = dataSet.getColor(j);
+
+                mRenderPaint.setColor(color);
+                c.drawCircle(x, y, shapeHalf, mRenderPaint);
+            }
         }
     }
 
@@ -128,7 +152,7 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
             final List<IBubbleDataSet> dataSets = bubbleData.getDataSets();
 
-            float lineHeight = Utils.calcTextHeight(mValuePaint, "1");
+            float lineHeight = mValueMeasureCache.calcTextHeight(mValuePaint, "1");
 
             for (int i = 0; i < dataSets.size(); i++) {
 
@@ -215,12 +239,14 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            final BubbleEntry entry = set.getEntryForXValue(high.getX(), high.getY());
+            int entryIndex = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (entry.getY() != high.getY())
+            if (!isInBoundsX(entryIndex, set))
                 continue;
 
-            if (!isInBoundsX(entry, set))
+            final BubbleEntry entry = set.getEntryForIndex(entryIndex);
+
+            if (entry.getY() != high.getY())
                 continue;
 
             Transformer trans = mChart.getTransformer(set.getAxisDependency());
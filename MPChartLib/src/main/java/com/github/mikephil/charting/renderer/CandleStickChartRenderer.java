@@ -8,6 +8,7 @@ import android.graphics.drawable.Drawable;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.CandleData;
 import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
@@ -24,11 +25,15 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
     protected CandleDataProvider mChart;
 
-    private float[] mShadowBuffers = new float[8];
-    private float[] mBodyBuffers = new float[4];
-    private float[] mRangeBuffers = new float[4];
-    private float[] mOpenBuffers = new float[4];
-    private float[] mCloseBuffers = new float[4];
+    /**
+     * the shadow line (0-7) and the body (8-11) of a candle, transformed at once
+     */
+    private float[] mShadowBuffers = new float[12];
+
+    /**
+     * the range (0-3), open (4-7) and close (8-11) line of an ohlc bar, transformed at once
+     */
+    private float[] mRangeBuffers = new float[12];
 
     public CandleStickChartRenderer(CandleDataProvider chart, ChartAnimator animator,
                                     ViewPortHandler viewPortHandler) {
@@ -107,6 +112,13 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                     mShadowBuffers[7] = mShadowBuffers[3];
                 }
 
+                // calculate the body
+
+                mShadowBuffers[8] = xPos - 0.5f + barSpace;
+                mShadowBuffers[9] = close * phaseY;
+                mShadowBuffers[10] = (xPos + 0.5f - barSpace);
+                mShadowBuffers[11] = open * phaseY;
+
                 trans.pointValuesToPixel(mShadowBuffers);
 
                 // draw the shadows
@@ -144,16 +156,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mRenderPaint.setStyle(Paint.Style.STROKE);
 
-                c.drawLines(mShadowBuffers, mRenderPaint);
-
-                // calculate the body
-
-                mBodyBuffers[0] = xPos - 0.5f + barSpace;
-                mBodyBuffers[1] = close * phaseY;
-                mBodyBuffers[2] = (xPos + 0.5f - barSpace);
-                mBodyBuffers[3] = open * phaseY;
-
-                trans.pointValuesToPixel(mBodyBuffers);
+                c.drawLines(mShadowBuffers, 0, 8, mRenderPaint);
 
                 // draw body differently for increasing and decreasing entry
                 if (open > close) { // decreasing
@@ -167,8 +170,8 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                     mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
 
                     c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[3],
-                            mBodyBuffers[2], mBodyBuffers[1],
+                            mShadowBuffers[8], mShadowBuffers[11],
+                            mShadowBuffers[10], mShadowBuffers[9],
                             mRenderPaint);
 
                 } else if (open < close) {
@@ -182,8 +185,8 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                     mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
 
                     c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
+                            mShadowBuffers[8], mShadowBuffers[9],
+                            mShadowBuffers[10], mShadowBuffers[11],
                             mRenderPaint);
                 } else { // equal values
 
@@ -194,8 +197,8 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                     }
 
                     c.drawLine(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
+                            mShadowBuffers[8], mShadowBuffers[9],
+                            mShadowBuffers[10], mShadowBuffers[11],
                             mRenderPaint);
                 }
             } else {
@@ -205,19 +208,17 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                 mRangeBuffers[2] = xPos;
                 mRangeBuffers[3] = low * phaseY;
 
-                mOpenBuffers[0] = xPos - 0.5f + barSpace;
-                mOpenBuffers[1] = open * phaseY;
-                mOpenBuffers[2] = xPos;
-                mOpenBuffers[3] = open * phaseY;
+                mRangeBuffers[4] = xPos - 0.5f + barSpace;
+                mRangeBuffers[5] = open * phaseY;
+                mRangeBuffers[6] = xPos;
+                mRangeBuffers[7] = open * phaseY;
 
-                mCloseBuffers[0] = xPos + 0.5f - barSpace;
-                mCloseBuffers[1] = close * phaseY;
-                mCloseBuffers[2] = xPos;
-                mCloseBuffers[3] = close * phaseY;
+                mRangeBuffers[8] = xPos + 0.5f - barSpace;
+                mRangeBuffers[9] = close * phaseY;
+                mRangeBuffers[10] = xPos;
+                mRangeBuffers[11] = close * phaseY;
 
                 trans.pointValuesToPixel(mRangeBuffers);
-                trans.pointValuesToPixel(mOpenBuffers);
-                trans.pointValuesToPixel(mCloseBuffers);
 
                 // draw the ranges
                 int barColor;
@@ -236,18 +237,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                             : dataSet.getNeutralColor();
 
                 mRenderPaint.setColor(barColor);
-                c.drawLine(
-                        mRangeBuffers[0], mRangeBuffers[1],
-                        mRangeBuffers[2], mRangeBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mOpenBuffers[0], mOpenBuffers[1],
-                        mOpenBuffers[2], mOpenBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mCloseBuffers[0], mCloseBuffers[1],
-                        mCloseBuffers[2], mCloseBuffers[3],
-                        mRenderPaint);
+                c.drawLines(mRangeBuffers, mRenderPaint);
             }
         }
     }
@@ -343,11 +333,13 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            CandleEntry e = set.getEntryForXValue(high.getX(), high.getY());
+            int entryIndex = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(entryIndex, set))
                 continue;
 
+            CandleEntry e = set.getEntryForIndex(entryIndex);
+
             float lowValue = e.getLow() * mAnimator.getPhaseY();
             float highValue = e.getHigh() * mAnimator.getPhaseY();
             float y = (lowValue + highValue) / 2f;
@@ -152,6 +152,14 @@ public class CombinedChartRenderer extends DataRenderer {
             return mRenderers.get(index);
     }
 
+    @Override
+    public void setVectorOutput(boolean enabled) {
+        super.setVectorOutput(enabled);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setVectorOutput(enabled);
+    }
+
     /**
      * Returns all sub-renderers.
      *
@@ -15,6 +15,7 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.TextMeasureCache;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -48,6 +49,16 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * cache for the measured sizes of texts drawn with mValuePaint
+     */
+    protected TextMeasureCache mValueMeasureCache = new TextMeasureCache();
+
+    /**
+     * true while drawing for an output that keeps what is drawn, see setVectorOutput(...)
+     */
+    protected boolean mVectorOutput = false;
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -68,6 +79,28 @@ public abstract class DataRenderer extends Renderer {
         mHighlightPaint.setColor(Color.rgb(255, 187, 115));
     }
 
+    /**
+     * Set this to true while drawing on a canvas that keeps what is drawn instead of
+     * rasterizing it right away, e.g. while recording a Picture or writing an SVG document
+     * (see SvgCanvas). The renderer then draws everything directly on the given canvas and
+     * does not draw any of its reused bitmaps, which would be rasterized into the SVG or be
+     * referenced by the Picture and change with the next frame.
+     *
+     * @param enabled
+     */
+    public void setVectorOutput(boolean enabled) {
+        mVectorOutput = enabled;
+    }
+
+    /**
+     * Returns true if the renderer currently draws for an output that keeps what is drawn.
+     *
+     * @return
+     */
+    public boolean isVectorOutput() {
+        return mVectorOutput;
+    }
+
     protected boolean isDrawingValuesAllowed(ChartInterface chart) {
         return chart.getData().getEntryCount() < chart.getMaxVisibleCount()
                 * mViewPortHandler.getScaleX();
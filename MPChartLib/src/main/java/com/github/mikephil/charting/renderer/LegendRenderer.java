@@ -17,6 +17,7 @@ import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.FSize;
+import com.github.mikephil.charting.utils.TextMeasureCache;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -31,6 +32,11 @@ public class LegendRenderer extends Renderer {
      */
     protected Paint mLegendLabelPaint;
 
+    /**
+     * cache for the measured sizes of texts drawn with mLegendLabelPaint
+     */
+    protected TextMeasureCache mLegendLabelMeasureCache = new TextMeasureCache();
+
     /**
      * paint used for the legend forms
      */
@@ -248,7 +254,7 @@ public class LegendRenderer extends Renderer {
         float labelLineHeight = Utils.getLineHeight(mLegendLabelPaint, legendFontMetrics);
         float labelLineSpacing = Utils.getLineSpacing(mLegendLabelPaint, legendFontMetrics)
                 + Utils.convertDpToPixel(mLegend.getYEntrySpace());
-        float formYOffset = labelLineHeight - Utils.calcTextHeight(mLegendLabelPaint, "ABC") / 2.f;
+        float formYOffset = labelLineHeight - mLegendLabelMeasureCache.calcTextHeight(mLegendLabelPaint, "ABC") / 2.f;
 
         LegendEntry[] entries = mLegend.getEntries();
 
@@ -451,7 +457,7 @@ public class LegendRenderer extends Renderer {
                             posX = originPosX;
 
                         if (direction == Legend.LegendDirection.RIGHT_TO_LEFT)
-                            posX -= Utils.calcTextWidth(mLegendLabelPaint, e.label);
+                            posX -= mLegendLabelMeasureCache.calcTextWidth(mLegendLabelPaint, e.label);
 
                         if (!wasStacked) {
                             drawLabel(c, posX, posY + labelLineHeight, e.label);
@@ -9,11 +9,13 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
@@ -24,8 +26,12 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 public class LineChartRenderer extends LineRadarRenderer {
 
@@ -68,11 +74,29 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     @Override
     public void initBuffers() {
+
+        if (mGeometryPipeline != null)
+            mGeometryPipeline.invalidate();
     }
 
     @Override
     public void drawData(Canvas c) {
 
+        // vector output keeps the lines as vectors instead of drawing them into a bitmap
+        if (mVectorOutput) {
+
+            Canvas bitmapCanvas = mBitmapCanvas;
+            mBitmapCanvas = c;
+
+            try {
+                drawDataSets(c);
+            } finally {
+                mBitmapCanvas = bitmapCanvas;
+            }
+
+            return;
+        }
+
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
@@ -92,15 +116,215 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         drawBitmap.eraseColor(Color.TRANSPARENT);
 
+        drawDataSets(c);
+
+        c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+    }
+
+    /**
+     * Draws all visible DataSets, parts of them on the mBitmapCanvas.
+     *
+     * @param c
+     */
+    private void drawDataSets(Canvas c) {
+
         LineData lineData = mChart.getLineData();
 
+        prepareInParallel(lineData.getDataSets());
+
         for (ILineDataSet set : lineData.getDataSets()) {
 
             if (set.isVisible())
                 drawDataSet(c, set);
         }
 
-        c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+        // the results are only valid for this frame
+        Arrays.fill(mParallelSets, 0, mParallelCount, null);
+        mParallelCount = 0;
+    }
+
+    /**
+     * executor the decimation of multiple DataSets is spread across, null if disabled
+     */
+    protected Executor mParallelExecutor = null;
+
+    /**
+     * minimum number of visible entries of all decimated DataSets together for which the
+     * decimation runs in parallel
+     */
+    protected int mParallelThreshold = 100000;
+
+    /**
+     * the DataSets decimated in parallel for the current frame, with their parameters and
+     * results, the tasks only read and write their own index
+     */
+    private ILineDataSet[] mParallelSets = new ILineDataSet[0];
+    private LineDecimator[] mParallelDecimators = new LineDecimator[0];
+    private DecimateTask[] mParallelTasks = new DecimateTask[0];
+    private int[] mParallelMin = new int[0];
+    private int[] mParallelMax = new int[0];
+    private double[] mParallelScaleX = new double[0];
+    private double[] mParallelOffsetX = new double[0];
+    private int[] mParallelResults = new int[0];
+    private int[] mParallelLevels = new int[0];
+    private int mParallelCount = 0;
+    private float mParallelPhaseY;
+    private float mParallelContentWidth;
+    private CountDownLatch mParallelLatch;
+
+    /**
+     * Sets an executor the decimation of the visible lines is spread across if a chart has
+     * multiple decimated DataSets with at least the given number of visible entries in total.
+     * The visible ranges are still searched and the lines transformed and drawn in order on
+     * the UI thread, which waits for the executor and produces the same result as without it.
+     * Not used together with a geometry pipeline. Null disables it (default).
+     *
+     * @param executor
+     * @param minVisibleEntries
+     */
+    public void setParallelExecutor(Executor executor, int minVisibleEntries) {
+        mParallelExecutor = executor;
+        mParallelThreshold = minVisibleEntries;
+    }
+
+    /**
+     * Decimates the visible part of all decimated single-colored DataSets in parallel if there
+     * are more than one and they are large enough. drawLinear(...) picks up the results.
+     *
+     * @param dataSets
+     */
+    protected void prepareInParallel(List<ILineDataSet> dataSets) {
+
+        mParallelCount = 0;
+
+        if (mParallelExecutor == null || mGeometryPipeline != null || dataSets.size() < 2)
+            return;
+
+        ensureParallelCapacity(dataSets.size());
+
+        long visibleEntries = 0;
+
+        for (ILineDataSet set : dataSets) {
+
+            if (!set.isVisible() || set.getEntryCount() < 1 || !isDecimationEnabled(set)
+                    || set.isDrawSteppedEnabled() || set.getColors().size() > 1
+                    || set.getMode() != LineDataSet.Mode.LINEAR)
+                continue;
+
+            // the same values drawLinear(...) and generateDecimatedLine(...) work with
+            Transformer trans = mChart.getTransformer(set.getAxisDependency());
+
+            MPPointD origin = trans.getPixelForValues(0f, 0f);
+            MPPointD unit = trans.getPixelForValues(1f, 0f);
+
+            final int k = mParallelCount++;
+
+            mParallelScaleX[k] = unit.x - origin.x;
+            mParallelOffsetX[k] = origin.x;
+
+            MPPointD.recycleInstance(origin);
+            MPPointD.recycleInstance(unit);
+
+            mXBounds.set(mChart, set);
+            mParallelMin[k] = mXBounds.min;
+            mParallelMax[k] = mXBounds.min + mXBounds.range;
+            mParallelSets[k] = set;
+
+            // the level-of-detail index is updated here, the workers only read it
+            mParallelLevels[k] = LineDecimator.getPyramidLevels(set);
+
+            visibleEntries += mXBounds.range + 1;
+        }
+
+        if (mParallelCount < 2 || visibleEntries < mParallelThreshold) {
+            mParallelCount = 0;
+            return;
+        }
+
+        final int count = mParallelCount;
+
+        mParallelPhaseY = mAnimator.getPhaseY();
+        mParallelContentWidth = mViewPortHandler.contentWidth();
+        mParallelLatch = new CountDownLatch(count);
+
+        for (int k = 0; k < count - 1; k++) {
+            try {
+                mParallelExecutor.execute(mParallelTasks[k]);
+            } catch (RejectedExecutionException e) {
+                mParallelTasks[k].run();
+            }
+        }
+
+        // the last DataSet is decimated on this thread while the executor works on the others
+        mParallelTasks[count - 1].run();
+
+        // the workers write the decimators and results until they counted down, wait for all
+        // of them even if interrupted, the interrupt is restored afterwards
+        boolean interrupted = false;
+
+        while (true) {
+            try {
+                mParallelLatch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    private void ensureParallelCapacity(int size) {
+
+        if (mParallelSets.length >= size)
+            return;
+
+        int oldSize = mParallelSets.length;
+
+        mParallelSets = new ILineDataSet[size];
+        mParallelDecimators = Arrays.copyOf(mParallelDecimators, size);
+        mParallelTasks = Arrays.copyOf(mParallelTasks, size);
+        mParallelMin = new int[size];
+        mParallelMax = new int[size];
+        mParallelScaleX = new double[size];
+        mParallelOffsetX = new double[size];
+        mParallelResults = new int[size];
+        mParallelLevels = new int[size];
+
+        for (int k = oldSize; k < size; k++) {
+            mParallelDecimators[k] = new LineDecimator();
+            mParallelTasks[k] = new DecimateTask(k);
+        }
+    }
+
+    /**
+     * Decimates one of the DataSets of prepareInParallel(...).
+     */
+    private class DecimateTask implements Runnable {
+
+        private final int mIndex;
+
+        DecimateTask(int index) {
+            mIndex = index;
+        }
+
+        @Override
+        public void run() {
+
+            final int k = mIndex;
+
+            try {
+                mParallelResults[k] = mParallelDecimators[k].decimate(mParallelSets[k],
+                        mParallelMin[k], mParallelMax[k], mParallelScaleX[k], mParallelOffsetX[k],
+                        mParallelContentWidth, mParallelPhaseY, mParallelLevels[k]);
+            } catch (RuntimeException e) {
+                // decimated again while drawing
+                mParallelResults[k] = -1;
+            } finally {
+                mParallelLatch.countDown();
+            }
+        }
     }
 
     protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
@@ -130,6 +354,13 @@ public class LineChartRenderer extends LineRadarRenderer {
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * Buffer for the points of the spline, the start point followed by the two control points
+     * and the end point of each cubic segment. Transformed to pixels once and shared by the line
+     * and its fill.
+     */
+    private float[] mCubicBuffer = new float[8];
+
     protected void drawHorizontalBezier(ILineDataSet dataSet) {
 
         float phaseY = mAnimator.getPhaseY();
@@ -138,15 +369,18 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
-        cubicPath.reset();
+        int count = 0;
 
         if (mXBounds.range >= 1) {
 
+            float[] buffer = ensureCubicCapacity(2 + mXBounds.range * 6);
+
             Entry prev = dataSet.getEntryForIndex(mXBounds.min);
             Entry cur = prev;
 
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            buffer[count++] = cur.getX();
+            buffer[count++] = cur.getY() * phaseY;
 
             for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
 
@@ -156,31 +390,16 @@ public class LineChartRenderer extends LineRadarRenderer {
                 final float cpx = (prev.getX())
                         + (cur.getX() - prev.getX()) / 2.0f;
 
-                cubicPath.cubicTo(
-                        cpx, prev.getY() * phaseY,
-                        cpx, cur.getY() * phaseY,
-                        cur.getX(), cur.getY() * phaseY);
+                buffer[count++] = cpx;
+                buffer[count++] = prev.getY() * phaseY;
+                buffer[count++] = cpx;
+                buffer[count++] = cur.getY() * phaseY;
+                buffer[count++] = cur.getX();
+                buffer[count++] = cur.getY() * phaseY;
             }
         }
 
-        // if filled is enabled, close the path
-        if (dataSet.isDrawFilledEnabled()) {
-
-            cubicFillPath.reset();
-            cubicFillPath.addPath(cubicPath);
-            // create a new path, this is bad for performance
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
-        }
-
-        mRenderPaint.setColor(dataSet.getColor());
-
-        mRenderPaint.setStyle(Paint.Style.STROKE);
-
-        trans.pathValueToPixel(cubicPath);
-
-        mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
-
-        mRenderPaint.setPathEffect(null);
+        drawCubicSpline(dataSet, trans, count);
     }
 
     protected void drawCubicBezier(ILineDataSet dataSet) {
@@ -193,7 +412,7 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         float intensity = dataSet.getCubicIntensity();
 
-        cubicPath.reset();
+        int count = 0;
 
         if (mXBounds.range >= 1) {
 
@@ -218,8 +437,11 @@ public class LineChartRenderer extends LineRadarRenderer {
 
             if (cur == null) return;
 
+            float[] buffer = ensureCubicCapacity(2 + mXBounds.range * 6);
+
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            buffer[count++] = cur.getX();
+            buffer[count++] = cur.getY() * phaseY;
 
             for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
 
@@ -235,32 +457,75 @@ public class LineChartRenderer extends LineRadarRenderer {
                 curDx = (next.getX() - prev.getX()) * intensity;
                 curDy = (next.getY() - prev.getY()) * intensity;
 
-                cubicPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY,
-                        cur.getX() - curDx,
-                        (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
+                buffer[count++] = prev.getX() + prevDx;
+                buffer[count++] = (prev.getY() + prevDy) * phaseY;
+                buffer[count++] = cur.getX() - curDx;
+                buffer[count++] = (cur.getY() - curDy) * phaseY;
+                buffer[count++] = cur.getX();
+                buffer[count++] = cur.getY() * phaseY;
             }
         }
 
-        // if filled is enabled, close the path
-        if (dataSet.isDrawFilledEnabled()) {
+        drawCubicSpline(dataSet, trans, count);
+    }
+
+    private float[] ensureCubicCapacity(int size) {
+
+        if (mCubicBuffer.length < size)
+            mCubicBuffer = new float[size];
+
+        return mCubicBuffer;
+    }
+
+    /**
+     * Transforms the first count values of the spline buffer to pixels and draws the spline and
+     * its fill from them. The control points of a cubic segment can be transformed instead of
+     * the segment, because the value to pixel matrices are affine.
+     *
+     * @param dataSet
+     * @param trans
+     * @param count
+     */
+    private void drawCubicSpline(ILineDataSet dataSet, Transformer trans, int count) {
 
-            cubicFillPath.reset();
-            cubicFillPath.addPath(cubicPath);
+        trans.pointValuesToPixel(mCubicBuffer, count);
 
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
+        if (count > 0 && dataSet.isDrawFilledEnabled()) {
+            drawCubicFillPx(mBitmapCanvas, dataSet, mCubicBuffer, count, trans, mXBounds);
         }
 
+        cubicPath.reset();
+        addSpline(cubicPath, mCubicBuffer, count);
+
         mRenderPaint.setColor(dataSet.getColor());
 
         mRenderPaint.setStyle(Paint.Style.STROKE);
 
-        trans.pathValueToPixel(cubicPath);
-
         mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
 
         mRenderPaint.setPathEffect(null);
     }
 
+    private static void addSpline(Path path, float[] spline, int count) {
+
+        if (count < 2)
+            return;
+
+        path.moveTo(spline[0], spline[1]);
+
+        for (int i = 2; i + 5 < count; i += 6) {
+            path.cubicTo(spline[i], spline[i + 1],
+                    spline[i + 2], spline[i + 3],
+                    spline[i + 4], spline[i + 5]);
+        }
+    }
+
+    /**
+     * @deprecated The splines are now drawn from points that are already transformed to
+     * pixels, see {@link #drawCubicFillPx(Canvas, ILineDataSet, float[], int, Transformer, XBounds)}.
+     * This is no longer called by the renderer.
+     */
+    @Deprecated
     protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
 
         float fillMin = dataSet.getFillFormatter()
@@ -282,6 +547,50 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    private float[] mCubicFillBuffer = new float[4];
+
+    /**
+     * Draws the fill of a spline that is given as points already transformed to pixels: the
+     * start point followed by the two control points and the end point of each cubic segment.
+     * The fill is built straight from these points and closed along the fill line.
+     *
+     * @param c
+     * @param dataSet
+     * @param spline
+     * @param count   the number of values of the spline
+     * @param trans
+     * @param bounds
+     */
+    protected void drawCubicFillPx(Canvas c, ILineDataSet dataSet, float[] spline, int count,
+                                   Transformer trans, XBounds bounds) {
+
+        float fillMin = dataSet.getFillFormatter()
+                .getFillLinePosition(dataSet, mChart);
+
+        mCubicFillBuffer[0] = dataSet.getEntryForIndex(bounds.min + bounds.range).getX();
+        mCubicFillBuffer[1] = fillMin;
+        mCubicFillBuffer[2] = dataSet.getEntryForIndex(bounds.min).getX();
+        mCubicFillBuffer[3] = fillMin;
+
+        trans.pointValuesToPixel(mCubicFillBuffer);
+
+        cubicFillPath.reset();
+        addSpline(cubicFillPath, spline, count);
+
+        cubicFillPath.lineTo(mCubicFillBuffer[0], mCubicFillBuffer[1]);
+        cubicFillPath.lineTo(mCubicFillBuffer[2], mCubicFillBuffer[3]);
+        cubicFillPath.close();
+
+        final Drawable drawable = dataSet.getFillDrawable();
+        if (drawable != null) {
+
+            drawFilledPath(c, cubicFillPath, drawable);
+        } else {
+
+            drawFilledPath(c, cubicFillPath, dataSet.getFillColor(), dataSet.getFillAlpha());
+        }
+    }
+
     private float[] mLineBuffer = new float[4];
 
     /**
@@ -315,91 +624,62 @@ public class LineChartRenderer extends LineRadarRenderer {
         mXBounds.set(mChart, dataSet);
 
         // if drawing filled is enabled
-        if (dataSet.isDrawFilledEnabled() && entryCount > 0) {
-            drawLinearFill(c, dataSet, trans, mXBounds);
-        }
+        final boolean isFilled = dataSet.isDrawFilledEnabled() && entryCount > 0;
 
         // more than 1 color
         if (dataSet.getColors().size() > 1) {
 
-            int numberOfFloats = pointsPerEntryPair * 2;
+            if (isFilled)
+                drawLinearFill(c, dataSet, trans, mXBounds);
 
-            if (mLineBuffer.length <= numberOfFloats)
-                mLineBuffer = new float[numberOfFloats * 2];
+            drawLinearMultiColor(canvas, dataSet, trans, phaseY, isDrawSteppedEnabled);
 
-            int max = mXBounds.min + mXBounds.range;
+        } else { // only one color per dataset
 
-            for (int j = mXBounds.min; j < max; j++) {
+            final boolean isDecimated = isDecimationEnabled(dataSet) && !isDrawSteppedEnabled;
 
-                Entry e = dataSet.getEntryForIndex(j);
-                if (e == null) continue;
+            if (!isDecimated && mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
+                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
 
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
+            int j = 0;
 
-                if (j < mXBounds.max) {
+            // the decimated line may be drawn from a decimator's own buffer
+            float[] points = mLineBuffer;
 
-                    e = dataSet.getEntryForIndex(j + 1);
+            if (isDecimated) {
 
-                    if (e == null) break;
+                j = generateDecimatedLine(dataSet, trans, phaseY);
+                points = mDecimatedLine;
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = mLineBuffer[1];
-                        mLineBuffer[4] = mLineBuffer[2];
-                        mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
-                    } else {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = e.getY() * phaseY;
-                    }
-
-                } else {
-                    mLineBuffer[2] = mLineBuffer[0];
-                    mLineBuffer[3] = mLineBuffer[1];
-                }
-
-                // Determine the start and end coordinates of the line, and make sure they differ.
-                float firstCoordinateX = mLineBuffer[0];
-                float firstCoordinateY = mLineBuffer[1];
-                float lastCoordinateX = mLineBuffer[numberOfFloats - 2];
-                float lastCoordinateY = mLineBuffer[numberOfFloats - 1];
+            } else if (dataSet instanceof IColumnarDataSet) {
 
-                if (firstCoordinateX == lastCoordinateX &&
-                        firstCoordinateY == lastCoordinateY)
-                    continue;
+                // read the values straight from the columns, no need to create any entries
+                final IColumnarDataSet columns = (IColumnarDataSet) dataSet;
 
-                trans.pointValuesToPixel(mLineBuffer);
-
-                if (!mViewPortHandler.isInBoundsRight(firstCoordinateX))
-                    break;
-
-                // make sure the lines don't do shitty things outside
-                // bounds
-                if (!mViewPortHandler.isInBoundsLeft(lastCoordinateX) ||
-                        !mViewPortHandler.isInBoundsTop(Math.max(firstCoordinateY, lastCoordinateY)) ||
-                        !mViewPortHandler.isInBoundsBottom(Math.min(firstCoordinateY, lastCoordinateY)))
-                    continue;
-
-                // get the color that is set for this line-segment
-                mRenderPaint.setColor(dataSet.getColor(j));
+                for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
 
-                canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
-            }
+                    final int prev = x == 0 ? 0 : (x - 1);
+                    final float prevY = columns.getYForIndex(prev) * phaseY;
+                    final float curX = columns.getXForIndex(x);
 
-        } else { // only one color per dataset
+                    mLineBuffer[j++] = columns.getXForIndex(prev);
+                    mLineBuffer[j++] = prevY;
 
-            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
-                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
+                    if (isDrawSteppedEnabled) {
+                        mLineBuffer[j++] = curX;
+                        mLineBuffer[j++] = prevY;
+                        mLineBuffer[j++] = curX;
+                        mLineBuffer[j++] = prevY;
+                    }
 
-            Entry e1, e2;
+                    mLineBuffer[j++] = curX;
+                    mLineBuffer[j++] = columns.getYForIndex(x) * phaseY;
+                }
 
-            e1 = dataSet.getEntryForIndex(mXBounds.min);
+            } else if (dataSet.getEntryForIndex(mXBounds.min) != null) {
 
-            if (e1 != null) {
+                Entry e1, e2;
 
-                int j = 0;
                 for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
 
                     e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
@@ -420,26 +700,282 @@ public class LineChartRenderer extends LineRadarRenderer {
                     mLineBuffer[j++] = e2.getX();
                     mLineBuffer[j++] = e2.getY() * phaseY;
                 }
+            }
 
-                if (j > 0) {
-                    trans.pointValuesToPixel(mLineBuffer);
+            if (j > 0) {
+                trans.pointValuesToPixel(points, j);
 
-                    final int size = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
+                // the fill follows the transformed line, it is drawn below it
+                if (isFilled)
+                    drawLinearFill(c, dataSet, trans, points, j);
 
-                    mRenderPaint.setColor(dataSet.getColor());
+                mRenderPaint.setColor(dataSet.getColor());
 
-                    canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
-                }
+                canvas.drawLines(points, 0, j, mRenderPaint);
             }
         }
 
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * maximum number of line segments transformed and drawn at once by drawLinearMultiColor(...)
+     */
+    private static final int SEGMENTS_PER_BATCH = 256;
+
+    /**
+     * Draws the line of a DataSet with more than one color. Consecutive segments of the same
+     * color are collected, transformed and drawn with a single call, a new batch is started
+     * whenever the color changes.
+     *
+     * @param canvas
+     * @param dataSet
+     * @param trans
+     * @param phaseY
+     * @param isDrawSteppedEnabled
+     */
+    protected void drawLinearMultiColor(Canvas canvas, ILineDataSet dataSet, Transformer trans, float phaseY,
+                                        boolean isDrawSteppedEnabled) {
+
+        final int floatsPerSegment = isDrawSteppedEnabled ? 8 : 4;
+
+        if (mLineBuffer.length < SEGMENTS_PER_BATCH * floatsPerSegment)
+            mLineBuffer = new float[SEGMENTS_PER_BATCH * floatsPerSegment];
+
+        final IColumnarDataSet columns = dataSet instanceof IColumnarDataSet ? (IColumnarDataSet) dataSet : null;
+        final float[] buffer = mLineBuffer;
+
+        int count = 0;
+        int batchColor = 0;
+
+        // range instead of max, the x-animation phase limits the drawn segments
+        for (int j = mXBounds.min; j < mXBounds.min + mXBounds.range; j++) {
+
+            float x1, y1, x2, y2;
+
+            if (columns != null) {
+                x1 = columns.getXForIndex(j);
+                y1 = columns.getYForIndex(j) * phaseY;
+                x2 = columns.getXForIndex(j + 1);
+                y2 = columns.getYForIndex(j + 1) * phaseY;
+            } else {
+
+                Entry e = dataSet.getEntryForIndex(j);
+                if (e == null) continue;
+
+                x1 = e.getX();
+                y1 = e.getY() * phaseY;
+
+                e = dataSet.getEntryForIndex(j + 1);
+                if (e == null) break;
+
+                x2 = e.getX();
+                y2 = e.getY() * phaseY;
+            }
+
+            // make sure the start and end of the segment differ
+            if (x1 == x2 && y1 == y2)
+                continue;
+
+            // get the color that is set for this line-segment
+            final int color = dataSet.getColor(j);
+
+            if (count > 0 && (color != batchColor || count + floatsPerSegment > buffer.length)) {
+
+                if (!drawLineBatch(canvas, trans, count, floatsPerSegment, batchColor))
+                    return;
+
+                count = 0;
+            }
+
+            batchColor = color;
+
+            buffer[count++] = x1;
+            buffer[count++] = y1;
+
+            if (isDrawSteppedEnabled) {
+                buffer[count++] = x2;
+                buffer[count++] = y1;
+                buffer[count++] = x2;
+                buffer[count++] = y1;
+            }
+
+            buffer[count++] = x2;
+            buffer[count++] = y2;
+        }
+
+        if (count > 0)
+            drawLineBatch(canvas, trans, count, floatsPerSegment, batchColor);
+    }
+
+    /**
+     * Transforms the first count values of the line buffer, drops the segments outside of the
+     * content rect and draws the remaining ones with the given color.
+     *
+     * @return false if a segment beyond the right edge of the content rect was reached
+     */
+    private boolean drawLineBatch(Canvas canvas, Transformer trans, int count, int floatsPerSegment, int color) {
+
+        final float[] buffer = mLineBuffer;
+
+        trans.pointValuesToPixel(buffer, count);
+
+        boolean inBoundsRight = true;
+        int kept = 0;
+
+        for (int i = 0; i < count; i += floatsPerSegment) {
+
+            final float firstX = buffer[i];
+            final float firstY = buffer[i + 1];
+            final float lastX = buffer[i + floatsPerSegment - 2];
+            final float lastY = buffer[i + floatsPerSegment - 1];
+
+            if (!mViewPortHandler.isInBoundsRight(firstX)) {
+                inBoundsRight = false;
+                break;
+            }
+
+            // make sure the lines don't do shitty things outside bounds
+            if (!mViewPortHandler.isInBoundsLeft(lastX) ||
+                    !mViewPortHandler.isInBoundsTop(Math.max(firstY, lastY)) ||
+                    !mViewPortHandler.isInBoundsBottom(Math.min(firstY, lastY)))
+                continue;
+
+            if (kept != i)
+                System.arraycopy(buffer, i, buffer, kept, floatsPerSegment);
+
+            kept += floatsPerSegment;
+        }
+
+        if (kept > 0) {
+            mRenderPaint.setColor(color);
+            canvas.drawLines(buffer, 0, kept, mRenderPaint);
+        }
+
+        return inBoundsRight;
+    }
+
+    /**
+     * Returns true if the line of the given DataSet is decimated, see
+     * LineDataSet.setDecimationEnabled(...). Not part of ILineDataSet, so that existing
+     * implementations of it keep compiling.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean isDecimationEnabled(ILineDataSet dataSet) {
+        return dataSet instanceof LineDataSet && ((LineDataSet) dataSet).isDecimationEnabled();
+    }
+
+    /**
+     * decimates the lines on the UI thread if no geometry pipeline is set
+     */
+    protected LineDecimator mDecimator = new LineDecimator();
+
+    /**
+     * prepares the decimated lines on a background thread, null if disabled
+     */
+    protected LineGeometryPipeline mGeometryPipeline = null;
+
+    /**
+     * Sets the pipeline the decimated lines are prepared with off the UI thread, null to
+     * decimate them while drawing (default).
+     *
+     * @param pipeline
+     */
+    public void setGeometryPipeline(LineGeometryPipeline pipeline) {
+        mGeometryPipeline = pipeline;
+    }
+
+    public LineGeometryPipeline getGeometryPipeline() {
+        return mGeometryPipeline;
+    }
+
+    /**
+     * the array generateDecimatedLine(...) wrote its segments to, either the line-buffer or the
+     * buffer of a decimator, which is never assigned to the line-buffer
+     */
+    protected float[] mDecimatedLine = mLineBuffer;
+
+    /**
+     * Writes the segments of the visible range to mDecimatedLine, reduced to at most four
+     * points per horizontal pixel column: the first, the lowest, the highest and the last one.
+     * The values are NOT transformed yet. Returns the number of values written to the buffer.
+     * If a geometry pipeline is set, the latest prepared segments are used, which may have
+     * been prepared for a slightly different viewport, and none if nothing is prepared yet.
+     *
+     * @param dataSet
+     * @param trans
+     * @param phaseY
+     * @return
+     */
+    protected int generateDecimatedLine(ILineDataSet dataSet, Transformer trans, float phaseY) {
+
+        // the x-axis is only scaled and translated, the pixel column is linear in x
+        MPPointD origin = trans.getPixelForValues(0f, 0f);
+        MPPointD unit = trans.getPixelForValues(1f, 0f);
+
+        final double scaleX = unit.x - origin.x;
+        final double offsetX = origin.x;
+
+        MPPointD.recycleInstance(origin);
+        MPPointD.recycleInstance(unit);
+
+        final int min = mXBounds.min;
+        final int max = mXBounds.min + mXBounds.range;
+        final float contentWidth = mViewPortHandler.contentWidth();
+
+        for (int i = 0; i < mParallelCount; i++) {
+
+            if (mParallelSets[i] == dataSet && mParallelResults[i] >= 0) {
+                mDecimatedLine = mParallelDecimators[i].getBuffer();
+                return mParallelResults[i];
+            }
+        }
+
+        if (mGeometryPipeline == null) {
+
+            int count = mDecimator.decimate(dataSet, min, max, scaleX, offsetX, contentWidth, phaseY);
+
+            // the decimator only writes its buffer during decimate(...), it can be drawn directly
+            mDecimatedLine = mDecimator.getBuffer();
+            return count;
+        }
+
+        LineGeometryPipeline.Snapshot snapshot = mGeometryPipeline.request(dataSet, min, max,
+                scaleX, offsetX, contentWidth, phaseY);
+
+        if (snapshot == null)
+            return 0;
+
+        // the snapshot is shared with the pipeline, transform a copy
+        if (mLineBuffer.length < snapshot.count)
+            mLineBuffer = new float[snapshot.count];
+
+        mDecimatedLine = mLineBuffer;
+
+        System.arraycopy(snapshot.points, 0, mLineBuffer, 0, snapshot.count);
+
+        return snapshot.count;
+    }
+
     protected Path mGenerateFilledPathBuffer = new Path();
 
     /**
-     * Draws a filled linear path on the canvas.
+     * number of points a filled path is made of at most, larger fills are drawn in chunks
+     */
+    private static final int FILL_POINTS_PER_CHUNK = 128;
+
+    /**
+     * the outline of the fill in pixels (x, y pairs), reused for every DataSet
+     */
+    private float[] mFillPoints = new float[FILL_POINTS_PER_CHUNK * 2];
+
+    private float[] mFillLineBuffer = new float[2];
+
+    /**
+     * Draws a filled linear path on the canvas, for DataSets whose line is not drawn from a
+     * single buffer (e.g. more than one color).
      *
      * @param c
      * @param dataSet
@@ -448,88 +984,159 @@ public class LineChartRenderer extends LineRadarRenderer {
      */
     protected void drawLinearFill(Canvas c, ILineDataSet dataSet, Transformer trans, XBounds bounds) {
 
-        final Path filled = mGenerateFilledPathBuffer;
-
-        final int startingIndex = bounds.min;
-        final int endingIndex = bounds.range + bounds.min;
-        final int indexInterval = 128;
+        final int from = bounds.min;
+        final int count = bounds.range + 1;
+        final float phaseY = mAnimator.getPhaseY();
 
-        int currentStartIndex = 0;
-        int currentEndIndex = indexInterval;
-        int iterations = 0;
+        if (mFillPoints.length < count * 2)
+            mFillPoints = new float[count * 2];
 
-        // Doing this iteratively in order to avoid OutOfMemory errors that can happen on large bounds sets.
-        do {
-            currentStartIndex = startingIndex + (iterations * indexInterval);
-            currentEndIndex = currentStartIndex + indexInterval;
-            currentEndIndex = currentEndIndex > endingIndex ? endingIndex : currentEndIndex;
+        final float[] points = mFillPoints;
+        final IColumnarDataSet columns = dataSet instanceof IColumnarDataSet ? (IColumnarDataSet) dataSet : null;
 
-            if (currentStartIndex <= currentEndIndex) {
-                generateFilledPath(dataSet, currentStartIndex, currentEndIndex, filled);
+        int pointCount = 0;
 
-                trans.pathValueToPixel(filled);
+        for (int i = from; i < from + count; i++) {
 
-                final Drawable drawable = dataSet.getFillDrawable();
-                if (drawable != null) {
+            if (columns != null) {
+                points[pointCount * 2] = columns.getXForIndex(i);
+                points[pointCount * 2 + 1] = columns.getYForIndex(i) * phaseY;
+            } else {
+                Entry e = dataSet.getEntryForIndex(i);
 
-                    drawFilledPath(c, filled, drawable);
-                } else {
+                if (e == null)
+                    continue;
 
-                    drawFilledPath(c, filled, dataSet.getFillColor(), dataSet.getFillAlpha());
-                }
+                points[pointCount * 2] = e.getX();
+                points[pointCount * 2 + 1] = e.getY() * phaseY;
             }
 
-            iterations++;
+            pointCount++;
+        }
 
-        } while (currentStartIndex <= currentEndIndex);
+        trans.pointValuesToPixel(points, pointCount * 2);
 
+        drawFill(c, dataSet, trans, points, pointCount, dataSet.isDrawSteppedEnabled());
     }
 
     /**
-     * Generates a path that is used for filled drawing.
+     * Draws a filled linear path below the given line segments (x1, y1, x2, y2), which are
+     * already transformed to pixels, so the line and its fill are only transformed once.
      *
-     * @param dataSet    The dataset from which to read the entries.
-     * @param startIndex The index from which to start reading the dataset
-     * @param endIndex   The index from which to stop reading the dataset
-     * @param outputPath The path object that will be assigned the chart data.
-     * @return
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param segments consecutive segments, each one starting where the previous one ended
+     * @param count    number of values in the segments buffer
      */
-    private void generateFilledPath(final ILineDataSet dataSet, final int startIndex, final int endIndex, final Path outputPath) {
+    protected void drawLinearFill(Canvas c, ILineDataSet dataSet, Transformer trans, float[] segments, int count) {
 
-        final float fillMin = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
-        final float phaseY = mAnimator.getPhaseY();
-        final boolean isDrawSteppedEnabled = dataSet.getMode() == LineDataSet.Mode.STEPPED;
+        final int pointCount = count / 4 + 1;
 
-        final Path filled = outputPath;
-        filled.reset();
+        if (mFillPoints.length < pointCount * 2)
+            mFillPoints = new float[pointCount * 2];
 
-        final Entry entry = dataSet.getEntryForIndex(startIndex);
+        final float[] points = mFillPoints;
 
-        filled.moveTo(entry.getX(), fillMin);
-        filled.lineTo(entry.getX(), entry.getY() * phaseY);
+        // the start of the first segment, then the end of every segment
+        points[0] = segments[0];
+        points[1] = segments[1];
 
-        // create a new path
-        Entry currentEntry = null;
-        Entry previousEntry = entry;
-        for (int x = startIndex + 1; x <= endIndex; x++) {
+        for (int i = 2, j = 2; i < count; i += 4, j += 2) {
+            points[j] = segments[i];
+            points[j + 1] = segments[i + 1];
+        }
 
-            currentEntry = dataSet.getEntryForIndex(x);
+        drawFill(c, dataSet, trans, points, pointCount, false);
+    }
 
-            if (isDrawSteppedEnabled) {
-                filled.lineTo(currentEntry.getX(), previousEntry.getY() * phaseY);
+    /**
+     * Draws the area between the given points (in pixels, sorted by x) and the fill line of the
+     * DataSet. The area is drawn in chunks to keep the paths small, chunks that are completely
+     * outside the content rect are skipped.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param points
+     * @param pointCount
+     * @param isDrawSteppedEnabled true to connect the points with horizontal and vertical lines
+     */
+    private void drawFill(Canvas c, ILineDataSet dataSet, Transformer trans, float[] points,
+                          int pointCount, boolean isDrawSteppedEnabled) {
+
+        if (pointCount < 1)
+            return;
+
+        // the fill line is horizontal, its pixel does not depend on the x-value
+        mFillLineBuffer[0] = 0f;
+        mFillLineBuffer[1] = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
+        trans.pointValuesToPixel(mFillLineBuffer);
+
+        final float fillY = mFillLineBuffer[1];
+        final Path filled = mGenerateFilledPathBuffer;
+        final Drawable drawable = dataSet.getFillDrawable();
+
+        // consecutive chunks share their first and last point
+        for (int first = 0; ; ) {
+
+            final int last = Math.min(first + FILL_POINTS_PER_CHUNK, pointCount - 1);
+
+            if (points[first * 2] > mViewPortHandler.contentRight())
+                break;
+
+            if (points[last * 2] >= mViewPortHandler.contentLeft()
+                    && !isAboveOrBelowContent(points, first, last, fillY)) {
+
+                filled.reset();
+                filled.moveTo(points[first * 2], fillY);
+                filled.lineTo(points[first * 2], points[first * 2 + 1]);
+
+                for (int i = first + 1; i <= last; i++) {
+
+                    if (isDrawSteppedEnabled)
+                        filled.lineTo(points[i * 2], points[i * 2 - 1]);
+
+                    filled.lineTo(points[i * 2], points[i * 2 + 1]);
+                }
+
+                filled.lineTo(points[last * 2], fillY);
+                filled.close();
+
+                if (drawable != null) {
+                    drawFilledPath(c, filled, drawable);
+                } else {
+                    drawFilledPath(c, filled, dataSet.getFillColor(), dataSet.getFillAlpha());
+                }
             }
 
-            filled.lineTo(currentEntry.getX(), currentEntry.getY() * phaseY);
+            if (last == pointCount - 1)
+                break;
 
-            previousEntry = currentEntry;
+            first = last;
         }
+    }
+
+    /**
+     * Returns true if the points between the given indices and the fill line are all above or
+     * all below the content rect.
+     */
+    private boolean isAboveOrBelowContent(float[] points, int first, int last, float fillY) {
+
+        float top = fillY;
+        float bottom = fillY;
+
+        for (int i = first; i <= last; i++) {
 
-        // close up
-        if (currentEntry != null) {
-            filled.lineTo(currentEntry.getX(), fillMin);
+            final float y = points[i * 2 + 1];
+
+            if (y < top)
+                top = y;
+            if (y > bottom)
+                bottom = y;
         }
 
-        filled.close();
+        return bottom < mViewPortHandler.contentTop() || top > mViewPortHandler.contentBottom();
     }
 
     @Override
@@ -613,10 +1220,15 @@ public class LineChartRenderer extends LineRadarRenderer {
      */
     private HashMap<IDataSet, DataSetImageCache> mImageCaches = new HashMap<>();
 
+    /**
+     * number of circle positions that are transformed to pixels at once
+     */
+    private static final int CIRCLES_PER_CHUNK = 128;
+
     /**
      * buffer for drawing the circles
      */
-    private float[] mCirclesBuffer = new float[2];
+    private float[] mCirclesBuffer = new float[CIRCLES_PER_CHUNK * 2];
 
     protected void drawCircles(Canvas c) {
 
@@ -624,9 +1236,6 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         float phaseY = mAnimator.getPhaseY();
 
-        mCirclesBuffer[0] = 0;
-        mCirclesBuffer[1] = 0;
-
         List<ILineDataSet> dataSets = mChart.getLineData().getDataSets();
 
         for (int i = 0; i < dataSets.size(); i++) {
@@ -651,6 +1260,11 @@ public class LineChartRenderer extends LineRadarRenderer {
             boolean drawTransparentCircleHole = drawCircleHole &&
                     dataSet.getCircleHoleColor() == ColorTemplate.COLOR_NONE;
 
+            if (mVectorOutput) {
+                drawVectorCircles(c, dataSet, trans, phaseY, drawCircleHole, drawTransparentCircleHole);
+                continue;
+            }
+
             DataSetImageCache imageCache;
 
             if (mImageCaches.containsKey(dataSet)) {
@@ -667,33 +1281,114 @@ public class LineChartRenderer extends LineRadarRenderer {
                 imageCache.fill(dataSet, drawCircleHole, drawTransparentCircleHole);
             }
 
-            int boundsRangeCount = mXBounds.range + mXBounds.min;
+            int to = mXBounds.range + mXBounds.min + 1;
 
-            for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
+            chunks:
+            for (int from = mXBounds.min; from < to; from += CIRCLES_PER_CHUNK) {
 
-                Entry e = dataSet.getEntryForIndex(j);
+                int count = 0;
 
-                if (e == null) break;
+                for (; count < CIRCLES_PER_CHUNK && from + count < to; count++) {
+
+                    Entry e = dataSet.getEntryForIndex(from + count);
+
+                    if (e == null) break;
+
+                    mCirclesBuffer[count * 2] = e.getX();
+                    mCirclesBuffer[count * 2 + 1] = e.getY() * phaseY;
+                }
+
+                trans.pointValuesToPixel(mCirclesBuffer, count * 2);
 
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+                for (int k = 0; k < count; k++) {
 
-                trans.pointValuesToPixel(mCirclesBuffer);
+                    float x = mCirclesBuffer[k * 2];
+                    float y = mCirclesBuffer[k * 2 + 1];
 
-                if (!mViewPortHandler.isInBoundsRight(mCirclesBuffer[0]))
+                    if (!mViewPortHandler.isInBoundsRight(x))
+                        break chunks;
+
+                    if (!mViewPortHandler.isInBoundsLeft(x) ||
+                            !mViewPortHandler.isInBoundsY(y))
+                        continue;
+
+                    Bitmap circleBitmap = imageCache.getBitmap(from + k);
+
+                    if (circleBitmap != null) {
+                        c.drawBitmap(circleBitmap, x - circleRadius, y - circleRadius, null);
+                    }
+                }
+
+                // a missing entry ends the data set
+                if (count < CIRCLES_PER_CHUNK && from + count < to)
                     break;
+            }
+        }
+    }
+
+    /**
+     * Draws the circles of the given DataSet as shapes instead of cached bitmaps, for vector
+     * output.
+     */
+    private void drawVectorCircles(Canvas c, ILineDataSet dataSet, Transformer trans, float phaseY,
+                                   boolean drawCircleHole, boolean drawTransparentCircleHole) {
+
+        float circleRadius = dataSet.getCircleRadius();
+        float circleHoleRadius = dataSet.getCircleHoleRadius();
+        int colorCount = dataSet.getCircleColorCount();
+
+        // a transparent hole is a ring around it
+        if (drawTransparentCircleHole) {
+            mRenderPaint.setStyle(Paint.Style.STROKE);
+            mRenderPaint.setStrokeWidth(circleRadius - circleHoleRadius);
+        }
+
+        float radius = drawTransparentCircleHole ? (circleRadius + circleHoleRadius) / 2f : circleRadius;
+
+        int to = mXBounds.range + mXBounds.min + 1;
+
+        chunks:
+        for (int from = mXBounds.min; from < to; from += CIRCLES_PER_CHUNK) {
+
+            int count = 0;
+
+            for (; count < CIRCLES_PER_CHUNK && from + count < to; count++) {
+
+                Entry e = dataSet.getEntryForIndex(from + count);
+
+                if (e == null) break;
 
-                if (!mViewPortHandler.isInBoundsLeft(mCirclesBuffer[0]) ||
-                        !mViewPortHandler.isInBoundsY(mCirclesBuffer[1]))
+                mCirclesBuffer[count * 2] = e.getX();
+                mCirclesBuffer[count * 2 + 1] = e.getY() * phaseY;
+            }
+
+            trans.pointValuesToPixel(mCirclesBuffer, count * 2);
+
+            for (int k = 0; k < count; k++) {
+
+                float x = mCirclesBuffer[k * 2];
+                float y = mCirclesBuffer[k * 2 + 1];
+
+                if (!mViewPortHandler.isInBoundsRight(x))
+                    break chunks;
+
+                if (!mViewPortHandler.isInBoundsLeft(x) ||
+                        !mViewPortHandler.isInBoundsY(y))
                     continue;
 
-                Bitmap circleBitmap = imageCache.getBitmap(j);
+                mRenderPaint.setColor(dataSet.getCircleColor((from + k) % colorCount));
+                c.drawCircle(x, y, radius, mRenderPaint);
 
-                if (circleBitmap != null) {
-                    c.drawBitmap(circleBitmap, mCirclesBuffer[0] - circleRadius, mCirclesBuffer[1] - circleRadius, null);
-                }
+                if (drawCircleHole && !drawTransparentCircleHole)
+                    c.drawCircle(x, y, circleHoleRadius, mCirclePaintInner);
             }
+
+            // a missing entry ends the data set
+            if (count < CIRCLES_PER_CHUNK && from + count < to)
+                break;
         }
+
+        mRenderPaint.setStyle(Paint.Style.FILL);
     }
 
     @Override
@@ -708,11 +1403,13 @@ public class LineChartRenderer extends LineRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            Entry e = set.getEntryForXValue(high.getX(), high.getY());
+            int entryIndex = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(entryIndex, set))
                 continue;
 
+            Entry e = set.getEntryForIndex(entryIndex);
+
             MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(e.getX(), e.getY() * mAnimator
                     .getPhaseY());
 
@@ -0,0 +1,261 @@
+package com.github.mikephil.charting.renderer;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.MinMaxPyramid;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import java.util.Arrays;
+
+/**
+ * Reduces the visible part of a line to at most four points per horizontal pixel column: the
+ * first, the lowest, the highest and the last one. Works in data space only, the pixel columns
+ * are given as a linear mapping of the x-values, so the decimation does not depend on the
+ * Transformer and can run on any thread. An instance (and its buffer) must only be used by one
+ * thread at a time.
+ */
+public class LineDecimator {
+
+    /**
+     * the decimated segments (x1, y1, x2, y2), NOT transformed
+     */
+    private float[] mBuffer = new float[4];
+
+    /**
+     * Returns the buffer holding the segments of the last call to decimate(...). The buffer is
+     * reused by the next call.
+     *
+     * @return
+     */
+    public float[] getBuffer() {
+        return mBuffer;
+    }
+
+    /**
+     * Updates the level-of-detail index of the given DataSet, if it has one, and returns its
+     * number of levels. Call this on the thread that modifies the DataSet before decimating it
+     * on another one, the index is never modified while decimating with the returned count.
+     *
+     * @param dataSet
+     * @return
+     */
+    public static int getPyramidLevels(ILineDataSet dataSet) {
+
+        final MinMaxPyramid pyramid = dataSet instanceof DataSet
+                ? ((DataSet) dataSet).getMinMaxPyramid() : null;
+
+        return pyramid == null ? 0 : pyramid.getLevelCount();
+    }
+
+    /**
+     * Fills the buffer with the decimated segments between the given indices (both inclusive).
+     * Returns the number of values written to the buffer. Updates the level-of-detail index of
+     * the DataSet, call this on the thread that modifies the DataSet.
+     *
+     * @param dataSet
+     * @param min          the first index
+     * @param max          the last index
+     * @param scaleX       pixels per x-value
+     * @param offsetX      pixel of the x-value 0
+     * @param contentWidth width of the content rect in pixels
+     * @param phaseY
+     * @return
+     */
+    public int decimate(ILineDataSet dataSet, int min, int max, double scaleX, double offsetX,
+                        float contentWidth, float phaseY) {
+        return decimate(dataSet, min, max, scaleX, offsetX, contentWidth, phaseY,
+                getPyramidLevels(dataSet));
+    }
+
+    /**
+     * Same as decimate(...) above, but only reads the level-of-detail index of the DataSet and
+     * can therefore run on another thread than the one modifying the DataSet.
+     *
+     * @param dataSet
+     * @param min           the first index
+     * @param max           the last index
+     * @param scaleX        pixels per x-value
+     * @param offsetX       pixel of the x-value 0
+     * @param contentWidth  width of the content rect in pixels
+     * @param phaseY
+     * @param pyramidLevels the level count returned by getPyramidLevels(...) for the DataSet
+     * @return
+     */
+    public int decimate(ILineDataSet dataSet, int min, int max, double scaleX, double offsetX,
+                        float contentWidth, float phaseY, int pyramidLevels) {
+
+        // up to 4 points for each visible column and the entries just outside both edges
+        final int maxPoints = ((int) Math.ceil(contentWidth) + 4) * 4;
+
+        if (mBuffer.length < maxPoints * 4)
+            mBuffer = new float[maxPoints * 4];
+
+        final IColumnarDataSet columns = dataSet instanceof IColumnarDataSet ? (IColumnarDataSet) dataSet : null;
+
+        // whole buckets of the level-of-detail index are merged at once if they fall into a
+        // single pixel column, use the coarsest level not wider than the entries per column
+        final MinMaxPyramid pyramid = dataSet instanceof DataSet
+                ? ((DataSet) dataSet).getMinMaxPyramid() : null;
+
+        int level = -1;
+
+        if (pyramid != null) {
+            float entriesPerColumn = (max - min) / Math.max(contentWidth, 1f);
+            level = pyramid.getLevelForBucketSize((int) entriesPerColumn, pyramidLevels);
+        }
+
+        final int bucketSize = level < 0 ? 1 : pyramid.getBucketSize(level);
+
+        int points = 0;
+        long column = Long.MIN_VALUE;
+        int first = -1, last = -1, lowest = -1, highest = -1;
+        float lowestY = 0f, highestY = 0f;
+
+        for (int i = min; i <= max; ) {
+
+            long c = Long.MIN_VALUE;
+            int low, high, end;
+            float lowY, highY;
+
+            boolean isWholeBucket = false;
+
+            if (level >= 0 && pyramid.isBucketStart(level, i) && i + bucketSize - 1 <= max) {
+                c = getColumn(dataSet, columns, i, scaleX, offsetX);
+                isWholeBucket = c == getColumn(dataSet, columns, i + bucketSize - 1, scaleX, offsetX);
+            }
+
+            if (isWholeBucket) {
+
+                low = pyramid.getMinIndex(level, i);
+                lowY = pyramid.getMin(level, i);
+                high = pyramid.getMaxIndex(level, i);
+                highY = pyramid.getMax(level, i);
+                end = i + bucketSize - 1;
+
+            } else {
+
+                float x, y;
+
+                if (columns != null) {
+                    x = columns.getXForIndex(i);
+                    y = columns.getYForIndex(i);
+                } else {
+                    Entry e = dataSet.getEntryForIndex(i);
+
+                    if (e == null) {
+                        i++;
+                        continue;
+                    }
+
+                    x = e.getX();
+                    y = e.getY();
+                }
+
+                c = (long) Math.floor(x * scaleX + offsetX);
+                low = high = end = i;
+                lowY = highY = y;
+            }
+
+            if (c != column || first < 0) {
+
+                if (first >= 0)
+                    points = addColumn(dataSet, columns, points, phaseY, first, lowest, highest, last);
+
+                column = c;
+                first = i;
+                lowest = low;
+                highest = high;
+                lowestY = lowY;
+                highestY = highY;
+            }
+
+            if (lowY < lowestY) {
+                lowest = low;
+                lowestY = lowY;
+            }
+
+            if (highY > highestY) {
+                highest = high;
+                highestY = highY;
+            }
+
+            last = end;
+            i = end + 1;
+        }
+
+        if (first >= 0)
+            points = addColumn(dataSet, columns, points, phaseY, first, lowest, highest, last);
+
+        // every point but the first one ends a segment
+        return Math.max(points - 1, 0) * 4;
+    }
+
+    /**
+     * Returns the pixel column of the entry at the given index.
+     */
+    private long getColumn(ILineDataSet dataSet, IColumnarDataSet columns, int index,
+                           double scaleX, double offsetX) {
+
+        float x = columns != null ? columns.getXForIndex(index) : dataSet.getEntryForIndex(index).getX();
+
+        return (long) Math.floor(x * scaleX + offsetX);
+    }
+
+    /**
+     * Adds the points of one pixel column to the buffer in the order of their index, skipping
+     * duplicates. Returns the new number of points in the buffer.
+     */
+    private int addColumn(ILineDataSet dataSet, IColumnarDataSet columns, int points,
+                          float phaseY, int first, int lowest, int highest, int last) {
+
+        int min = Math.min(lowest, highest);
+        int max = Math.max(lowest, highest);
+
+        points = addPoint(dataSet, columns, points, phaseY, first);
+
+        if (min != first)
+            points = addPoint(dataSet, columns, points, phaseY, min);
+
+        if (max != min && max != first)
+            points = addPoint(dataSet, columns, points, phaseY, max);
+
+        if (last != max && last != first)
+            points = addPoint(dataSet, columns, points, phaseY, last);
+
+        return points;
+    }
+
+    /**
+     * Adds the entry at the given index as the next point of the line. The buffer holds
+     * segments (x1, y1, x2, y2), so each point is the end of the previous segment and the start
+     * of the next one.
+     */
+    private int addPoint(ILineDataSet dataSet, IColumnarDataSet columns, int points,
+                         float phaseY, int index) {
+
+        float x, y;
+
+        if (columns != null) {
+            x = columns.getXForIndex(index);
+            y = columns.getYForIndex(index) * phaseY;
+        } else {
+            Entry e = dataSet.getEntryForIndex(index);
+            x = e.getX();
+            y = e.getY() * phaseY;
+        }
+
+        if (mBuffer.length < points * 4 + 2)
+            mBuffer = Arrays.copyOf(mBuffer, mBuffer.length * 2);
+
+        if (points > 0) {
+            mBuffer[points * 4 - 2] = x;
+            mBuffer[points * 4 - 1] = y;
+        }
+
+        mBuffer[points * 4] = x;
+        mBuffer[points * 4 + 1] = y;
+
+        return points + 1;
+    }
+}
@@ -0,0 +1,265 @@
+package com.github.mikephil.charting.renderer;
+
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Prepares the decimated lines of LineDataSets on a background Executor, so that large
+ * DataSets do not block the UI thread while the viewport or the data change. The renderer
+ * requests the geometry for the current viewport on every draw and gets the latest finished
+ * snapshot back, which is in data space and therefore still correct (but possibly decimated for
+ * a slightly different viewport) after the viewport moved. Once the geometry for the requested
+ * viewport is ready, the given callback is run, usually to invalidate the chart.
+ * The DataSets are read on the executor's thread, their level-of-detail index is only updated
+ * by request(...) on the UI thread. The data should not be modified while a preparation is
+ * running. If it is, and invalidate() is called or the entry count changes before the
+ * preparation ends, the result is thrown away and prepared again.
+ */
+public class LineGeometryPipeline {
+
+    /**
+     * Immutable result of the preparation of one DataSet.
+     */
+    public static final class Snapshot {
+
+        /**
+         * the decimated segments (x1, y1, x2, y2) in data space, must not be modified
+         */
+        public final float[] points;
+
+        /**
+         * number of valid values in the points array
+         */
+        public final int count;
+
+        private final Params params;
+
+        private Snapshot(float[] points, int count, Params params) {
+            this.points = points;
+            this.count = count;
+            this.params = params;
+        }
+    }
+
+    /**
+     * The values a snapshot depends on.
+     */
+    private static final class Params {
+
+        final int min, max, entryCount, version, pyramidLevels;
+        final double scaleX, offsetX;
+        final float contentWidth, phaseY;
+
+        Params(int min, int max, int entryCount, int version, int pyramidLevels, double scaleX,
+               double offsetX, float contentWidth, float phaseY) {
+            this.min = min;
+            this.max = max;
+            this.entryCount = entryCount;
+            this.version = version;
+            this.pyramidLevels = pyramidLevels;
+            this.scaleX = scaleX;
+            this.offsetX = offsetX;
+            this.contentWidth = contentWidth;
+            this.phaseY = phaseY;
+        }
+
+        boolean matches(int min, int max, int entryCount, int version, double scaleX,
+                        double offsetX, float contentWidth, float phaseY) {
+            return this.min == min && this.max == max && this.entryCount == entryCount
+                    && this.version == version && this.scaleX == scaleX
+                    && this.offsetX == offsetX && this.contentWidth == contentWidth
+                    && this.phaseY == phaseY;
+        }
+    }
+
+    /**
+     * The state of one DataSet, shared between the UI thread and the executor.
+     */
+    private static final class Slot {
+
+        /**
+         * the latest finished geometry
+         */
+        volatile Snapshot snapshot;
+
+        /**
+         * the parameters of the latest request
+         */
+        volatile Params wanted;
+
+        /**
+         * true while a preparation is scheduled or running
+         */
+        final AtomicBoolean running = new AtomicBoolean(false);
+
+        /**
+         * only used on the executor's thread
+         */
+        final LineDecimator decimator = new LineDecimator();
+    }
+
+    private final Executor mExecutor;
+
+    private final Runnable mOnPrepared;
+
+    /**
+     * only accessed on the UI thread
+     */
+    private final Map<ILineDataSet, Slot> mSlots = new WeakHashMap<>();
+
+    /**
+     * incremented when the data changed, snapshots of an older version are outdated
+     */
+    private volatile int mVersion = 0;
+
+    /**
+     * @param executor   the executor the geometry is prepared on
+     * @param onPrepared run on the executor's thread whenever new geometry is ready
+     */
+    public LineGeometryPipeline(Executor executor, Runnable onPrepared) {
+        mExecutor = executor;
+        mOnPrepared = onPrepared;
+    }
+
+    /**
+     * Returns the latest prepared geometry of the given DataSet and schedules the preparation
+     * for the given viewport if that geometry was prepared for a different one. Returns null
+     * if no geometry is ready yet. Must be called on the UI thread.
+     *
+     * @param dataSet
+     * @param min          the first visible index
+     * @param max          the last visible index
+     * @param scaleX       pixels per x-value
+     * @param offsetX      pixel of the x-value 0
+     * @param contentWidth width of the content rect in pixels
+     * @param phaseY
+     * @return
+     */
+    public Snapshot request(ILineDataSet dataSet, int min, int max, double scaleX, double offsetX,
+                            float contentWidth, float phaseY) {
+
+        Slot slot = mSlots.get(dataSet);
+
+        if (slot == null) {
+            slot = new Slot();
+            mSlots.put(dataSet, slot);
+        }
+
+        final int entryCount = dataSet.getEntryCount();
+        final int version = mVersion;
+
+        Snapshot snapshot = slot.snapshot;
+
+        if (snapshot != null && snapshot.params.matches(min, max, entryCount, version, scaleX,
+                offsetX, contentWidth, phaseY))
+            return snapshot;
+
+        Params wanted = slot.wanted;
+
+        if (wanted == null || !wanted.matches(min, max, entryCount, version, scaleX, offsetX,
+                contentWidth, phaseY)) {
+            // the index is only updated here, on the UI thread, the executor just reads it
+            slot.wanted = new Params(min, max, entryCount, version,
+                    LineDecimator.getPyramidLevels(dataSet), scaleX, offsetX, contentWidth, phaseY);
+        }
+
+        if (slot.running.compareAndSet(false, true)) {
+            try {
+                mExecutor.execute(new PrepareTask(dataSet, slot));
+            } catch (RejectedExecutionException e) {
+                // not scheduled, tried again with the next request
+                slot.running.set(false);
+            }
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Marks all prepared geometry as outdated, call this when the data changed. The outdated
+     * snapshots are still handed out until the new ones are ready.
+     */
+    public void invalidate() {
+        mVersion++;
+    }
+
+    /**
+     * Prepares the wanted geometry of one DataSet until it is up to date.
+     */
+    private class PrepareTask implements Runnable {
+
+        private final ILineDataSet mDataSet;
+        private final Slot mSlot;
+
+        PrepareTask(ILineDataSet dataSet, Slot slot) {
+            mDataSet = dataSet;
+            mSlot = slot;
+        }
+
+        @Override
+        public void run() {
+
+            boolean prepared;
+
+            do {
+
+                try {
+                    prepared = prepareWanted();
+                } finally {
+                    mSlot.running.set(false);
+                }
+
+                // a request may have come in after the last check, it did not schedule a task
+            } while (prepared && !isUpToDate() && mSlot.running.compareAndSet(false, true));
+        }
+
+        private boolean isUpToDate() {
+            Snapshot snapshot = mSlot.snapshot;
+            return snapshot != null && snapshot.params == mSlot.wanted;
+        }
+
+        /**
+         * Returns false if the preparation failed.
+         */
+        private boolean prepareWanted() {
+
+            while (!isUpToDate()) {
+
+                final Params params = mSlot.wanted;
+                final LineDecimator decimator = mSlot.decimator;
+
+                final int version = mVersion;
+                final int entryCount = mDataSet.getEntryCount();
+
+                int count;
+
+                try {
+                    count = decimator.decimate(mDataSet, params.min, params.max,
+                            params.scaleX, params.offsetX, params.contentWidth, params.phaseY,
+                            params.pyramidLevels);
+                } catch (RuntimeException e) {
+                    // the data was modified while reading it, prepared again with the next request
+                    return false;
+                }
+
+                // the data was modified while reading it without failing, the result may mix
+                // old and new values
+                if (version != mVersion || entryCount != mDataSet.getEntryCount())
+                    return false;
+
+                mSlot.snapshot = new Snapshot(Arrays.copyOf(decimator.getBuffer(), count), count, params);
+
+                if (mOnPrepared != null)
+                    mOnPrepared.run();
+            }
+
+            return true;
+        }
+    }
+}
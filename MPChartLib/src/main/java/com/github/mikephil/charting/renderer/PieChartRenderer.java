@@ -123,6 +123,20 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawData(Canvas c) {
 
+        PieData pieData = mChart.getData();
+
+        // the slices are drawn directly on the canvas, see getSliceCanvas(...)
+        if (mVectorOutput) {
+
+            for (IPieDataSet set : pieData.getDataSets()) {
+
+                if (set.isVisible() && set.getEntryCount() > 0)
+                    drawDataSet(c, set);
+            }
+
+            return;
+        }
+
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
@@ -142,8 +156,6 @@ public class PieChartRenderer extends DataRenderer {
 
         drawBitmap.eraseColor(Color.TRANSPARENT);
 
-        PieData pieData = mChart.getData();
-
         for (IPieDataSet set : pieData.getDataSets()) {
 
             if (set.isVisible() && set.getEntryCount() > 0)
@@ -396,7 +408,7 @@ public class PieChartRenderer extends DataRenderer {
 
             mPathBuffer.close();
 
-            mBitmapCanvas.drawPath(mPathBuffer, mRenderPaint);
+            getSliceCanvas(c).drawPath(mPathBuffer, mRenderPaint);
 
             angle += sliceAngle * phaseX;
         }
@@ -462,7 +474,7 @@ public class PieChartRenderer extends DataRenderer {
             // apply the text-styling defined by the DataSet
             applyValueTextStyle(dataSet);
 
-            float lineHeight = Utils.calcTextHeight(mValuePaint, "Q")
+            float lineHeight = mValueMeasureCache.calcTextHeight(mValuePaint, "Q")
                     + Utils.convertDpToPixel(4f);
 
             IValueFormatter formatter = dataSet.getValueFormatter();
@@ -674,10 +686,24 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawExtras(Canvas c) {
         drawHole(c);
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+
+        if (!mVectorOutput)
+            c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+
         drawCenterText(c);
     }
 
+    /**
+     * Returns the canvas the slices, the highlights and the hole are drawn on: the given one
+     * for vector output, the one of the bitmap drawn in drawExtras(...) otherwise.
+     *
+     * @param c
+     * @return
+     */
+    protected Canvas getSliceCanvas(Canvas c) {
+        return mVectorOutput ? c : mBitmapCanvas;
+    }
+
     private Path mHoleCirclePath = new Path();
 
     /**
@@ -686,7 +712,9 @@ public class PieChartRenderer extends DataRenderer {
      */
     protected void drawHole(Canvas c) {
 
-        if (mChart.isDrawHoleEnabled() && mBitmapCanvas != null) {
+        final Canvas holeCanvas = getSliceCanvas(c);
+
+        if (mChart.isDrawHoleEnabled() && holeCanvas != null) {
 
             float radius = mChart.getRadius();
             float holeRadius = radius * (mChart.getHoleRadius() / 100);
@@ -694,7 +722,7 @@ public class PieChartRenderer extends DataRenderer {
 
             if (Color.alpha(mHolePaint.getColor()) > 0) {
                 // draw the hole-circle
-                mBitmapCanvas.drawCircle(
+                holeCanvas.drawCircle(
                         center.x, center.y,
                         holeRadius, mHolePaint);
             }
@@ -712,7 +740,7 @@ public class PieChartRenderer extends DataRenderer {
                 mHoleCirclePath.reset();
                 mHoleCirclePath.addCircle(center.x, center.y, secondHoleRadius, Path.Direction.CW);
                 mHoleCirclePath.addCircle(center.x, center.y, holeRadius, Path.Direction.CCW);
-                mBitmapCanvas.drawPath(mHoleCirclePath, mTransparentCirclePaint);
+                holeCanvas.drawPath(mHoleCirclePath, mTransparentCirclePaint);
 
                 // reset alpha
                 mTransparentCirclePaint.setAlpha(alpha);
@@ -992,7 +1020,7 @@ public class PieChartRenderer extends DataRenderer {
 
             mPathBuffer.close();
 
-            mBitmapCanvas.drawPath(mPathBuffer, mRenderPaint);
+            getSliceCanvas(c).drawPath(mPathBuffer, mRenderPaint);
         }
 
         MPPointF.recycleInstance(center);
@@ -1042,7 +1070,7 @@ public class PieChartRenderer extends DataRenderer {
                         * phaseY)) + center.y);
 
                 mRenderPaint.setColor(dataSet.getColor(j));
-                mBitmapCanvas.drawCircle(x, y, circleRadius, mRenderPaint);
+                getSliceCanvas(c).drawCircle(x, y, circleRadius, mRenderPaint);
             }
 
             angle += sliceAngle * phaseX;
@@ -316,11 +316,13 @@ public class RadarChartRenderer extends LineRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            RadarEntry e = set.getEntryForIndex((int) high.getX());
+            int entryIndex = (int) high.getX();
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(entryIndex, set))
                 continue;
 
+            RadarEntry e = set.getEntryForIndex(entryIndex);
+
             float y = (e.getY() - mChart.getYChartMin());
 
             Utils.getPosition(center,
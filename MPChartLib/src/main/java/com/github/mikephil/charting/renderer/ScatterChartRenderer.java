@@ -6,6 +6,7 @@ import android.graphics.drawable.Drawable;
 import android.util.Log;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.highlight.Highlight;
@@ -45,7 +46,12 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
-    float[] mPixelBuffer = new float[2];
+    /**
+     * number of points that are transformed to pixels at once
+     */
+    private static final int POINTS_PER_CHUNK = 128;
+
+    float[] mPixelBuffer = new float[POINTS_PER_CHUNK * 2];
 
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
@@ -68,27 +74,40 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
                 (float)dataSet.getEntryCount()));
 
-        for (int i = 0; i < max; i++) {
+        mXBounds.set(mChart, dataSet);
 
-            Entry e = dataSet.getEntryForIndex(i);
+        // only the entries inside the visible range are transformed
+        int to = Math.min(mXBounds.max + 1, max);
 
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+        for (int from = mXBounds.min; from < to; from += POINTS_PER_CHUNK) {
 
-            trans.pointValuesToPixel(mPixelBuffer);
+            int count = Math.min(POINTS_PER_CHUNK, to - from);
 
-            if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0]))
-                break;
+            for (int k = 0; k < count; k++) {
 
-            if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[0])
-                    || !viewPortHandler.isInBoundsY(mPixelBuffer[1]))
-                continue;
+                Entry e = dataSet.getEntryForIndex(from + k);
+
+                mPixelBuffer[k * 2] = e.getX();
+                mPixelBuffer[k * 2 + 1] = e.getY() * phaseY;
+            }
+
+            trans.pointValuesToPixel(mPixelBuffer, count * 2);
+
+            for (int k = 0; k < count * 2; k += 2) {
 
-            mRenderPaint.setColor(dataSet.getColor(i / 2));
-            renderer.renderShape(
-                    c, dataSet, mViewPortHandler,
-                    mPixelBuffer[0], mPixelBuffer[1],
-                    mRenderPaint);
+                if (!viewPortHandler.isInBoundsRight(mPixelBuffer[k]))
+                    return;
+
+                if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[k])
+                        || !viewPortHandler.isInBoundsY(mPixelBuffer[k + 1]))
+                    continue;
+
+                mRenderPaint.setColor(dataSet.getColor((from + k / 2) / 2));
+                renderer.renderShape(
+                        c, dataSet, mViewPortHandler,
+                        mPixelBuffer[k], mPixelBuffer[k + 1],
+                        mRenderPaint);
+            }
         }
     }
 
@@ -180,11 +199,13 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            final Entry e = set.getEntryForXValue(high.getX(), high.getY());
+            int entryIndex = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(entryIndex, set))
                 continue;
 
+            final Entry e = set.getEntryForIndex(entryIndex);
+
             MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(e.getX(), e.getY() * mAnimator
                     .getPhaseY());
 
@@ -66,7 +66,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
 
         String longest = mXAxis.getLongestLabel();
 
-        final FSize labelSize = Utils.calcTextSize(mAxisLabelPaint, longest);
+        final FSize labelSize = mAxisLabelMeasureCache.calcTextSize(mAxisLabelPaint, longest);
 
         final float labelWidth = (int)(labelSize.width + mXAxis.getXOffset() * 3.5f);
         final float labelHeight = labelSize.height;
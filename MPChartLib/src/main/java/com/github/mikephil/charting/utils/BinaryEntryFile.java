@@ -0,0 +1,438 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.ColumnarBarDataSet;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DoubleXLineDataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDoubleXDataSet;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Reads and writes the values of a DataSet in a compact binary format that can be loaded
+ * straight into the primitive arrays of the columnar DataSets, without parsing text or
+ * creating an Entry per value.
+ * <p>
+ * The format is little-endian: a header of five ints (magic, version, flags, stack size, number
+ * of entries), followed by the columns one after another. The x-column holds floats, or doubles
+ * if FLAG_DOUBLE_X is set. The y-column holds floats (the sum of the stack for stacked
+ * entries). If the stack size is larger than 0, one float column per stack index follows.
+ */
+public final class BinaryEntryFile {
+
+    /**
+     * "MPCD"
+     */
+    public static final int MAGIC = 0x4D504344;
+
+    public static final int VERSION = 1;
+
+    /**
+     * the x-values are stored in double precision
+     */
+    public static final int FLAG_DOUBLE_X = 1;
+
+    /**
+     * size of the header in bytes, the x-column starts right after it
+     */
+    public static final int HEADER_SIZE = 5 * 4;
+
+    /**
+     * number of bytes read from or written to a stream at once
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private BinaryEntryFile() {
+    }
+
+    /**
+     * The values of a file, in primitive arrays.
+     */
+    public static class Columns {
+
+        /**
+         * the x-values, null if the file holds double x-values
+         */
+        public float[] xValues;
+
+        /**
+         * the double x-values, null if the file holds float x-values
+         */
+        public double[] doubleXValues;
+
+        public float[] yValues;
+
+        /**
+         * the stack values, stackValues[stackIndex][entryIndex], null if the file has no stacks
+         */
+        public float[][] stackValues;
+
+        public int count;
+    }
+
+    /**
+     * Reads the given file by mapping it into memory.
+     *
+     * @param file
+     * @return
+     * @throws IOException if the file can not be read or is not in this format
+     */
+    public static Columns read(File file) throws IOException {
+
+        FileInputStream in = new FileInputStream(file);
+
+        try {
+            FileChannel channel = in.getChannel();
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            return read(new MappedSource(mapped));
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads the given stream in chunks, e.g. an asset. The stream is not closed.
+     *
+     * @param in
+     * @return
+     * @throws IOException if the stream can not be read or is not in this format
+     */
+    public static Columns read(InputStream in) throws IOException {
+        return read(new StreamSource(Channels.newChannel(in)));
+    }
+
+    /**
+     * Loads the given file into a columnar LineDataSet. Files with double x-values are loaded
+     * into a DoubleXLineDataSet with an x-origin of 0.
+     *
+     * @param file
+     * @param label
+     * @return
+     * @throws IOException
+     */
+    public static ColumnarLineDataSet loadLineDataSet(File file, String label) throws IOException {
+        return createLineDataSet(read(file), label);
+    }
+
+    /**
+     * Loads the given stream into a columnar LineDataSet, see loadLineDataSet(File, String).
+     *
+     * @param in
+     * @param label
+     * @return
+     * @throws IOException
+     */
+    public static ColumnarLineDataSet loadLineDataSet(InputStream in, String label) throws IOException {
+        return createLineDataSet(read(in), label);
+    }
+
+    /**
+     * Loads the given file into a columnar BarDataSet. Stacks are represented by their sum.
+     *
+     * @param file
+     * @param label
+     * @return
+     * @throws IOException
+     */
+    public static ColumnarBarDataSet loadBarDataSet(File file, String label) throws IOException {
+        return createBarDataSet(read(file), label);
+    }
+
+    /**
+     * Loads the given stream into a columnar BarDataSet, see loadBarDataSet(File, String).
+     *
+     * @param in
+     * @param label
+     * @return
+     * @throws IOException
+     */
+    public static ColumnarBarDataSet loadBarDataSet(InputStream in, String label) throws IOException {
+        return createBarDataSet(read(in), label);
+    }
+
+    /**
+     * Writes the entries of the given DataSet to the given file, replacing its content.
+     *
+     * @param dataSet
+     * @param file
+     * @throws IOException
+     */
+    public static void write(IDataSet<? extends Entry> dataSet, File file) throws IOException {
+
+        FileOutputStream out = new FileOutputStream(file);
+
+        try {
+            write(dataSet, out.getChannel());
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes the entries of the given DataSet to the given stream in chunks. The stream is
+     * flushed but not closed.
+     *
+     * @param dataSet
+     * @param out
+     * @throws IOException
+     */
+    public static void write(IDataSet<? extends Entry> dataSet, OutputStream out) throws IOException {
+        write(dataSet, Channels.newChannel(out));
+        out.flush();
+    }
+
+    private static void write(IDataSet<? extends Entry> dataSet, WritableByteChannel channel)
+            throws IOException {
+
+        final int count = dataSet.getEntryCount();
+
+        final IColumnarDataSet columns = dataSet instanceof IColumnarDataSet
+                ? (IColumnarDataSet) dataSet : null;
+        final IDoubleXDataSet doubleX = dataSet instanceof IDoubleXDataSet
+                ? (IDoubleXDataSet) dataSet : null;
+
+        int stackSize = 0;
+
+        if (dataSet instanceof IBarDataSet && ((IBarDataSet) dataSet).isStacked())
+            stackSize = ((IBarDataSet) dataSet).getStackSize();
+
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(doubleX != null ? FLAG_DOUBLE_X : 0);
+        buffer.putInt(stackSize);
+        buffer.putInt(count);
+
+        // x-column
+        for (int i = 0; i < count; i++) {
+
+            if (doubleX != null) {
+                if (buffer.remaining() < 8)
+                    flush(buffer, channel);
+
+                buffer.putDouble(doubleX.getAbsoluteXForIndex(i));
+            } else {
+                if (buffer.remaining() < 4)
+                    flush(buffer, channel);
+
+                buffer.putFloat(columns != null
+                        ? columns.getXForIndex(i) : dataSet.getEntryForIndex(i).getX());
+            }
+        }
+
+        // y-column
+        for (int i = 0; i < count; i++) {
+
+            if (buffer.remaining() < 4)
+                flush(buffer, channel);
+
+            buffer.putFloat(columns != null
+                    ? columns.getYForIndex(i) : dataSet.getEntryForIndex(i).getY());
+        }
+
+        // stack columns, entries that are not stacked have their value at stack index 0
+        for (int stack = 0; stack < stackSize; stack++) {
+
+            for (int i = 0; i < count; i++) {
+
+                if (buffer.remaining() < 4)
+                    flush(buffer, channel);
+
+                Entry e = dataSet.getEntryForIndex(i);
+                float[] vals = e instanceof BarEntry ? ((BarEntry) e).getYVals() : null;
+
+                if (vals != null)
+                    buffer.putFloat(stack < vals.length ? vals[stack] : 0f);
+                else
+                    buffer.putFloat(stack == 0 ? e.getY() : 0f);
+            }
+        }
+
+        flush(buffer, channel);
+    }
+
+    private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+
+        buffer.flip();
+
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+
+        buffer.clear();
+    }
+
+    private static ColumnarLineDataSet createLineDataSet(Columns columns, String label) {
+
+        if (columns.doubleXValues != null)
+            return new DoubleXLineDataSet(columns.doubleXValues, columns.yValues, columns.count, 0.0, label);
+
+        return new ColumnarLineDataSet(columns.xValues, columns.yValues, columns.count, label);
+    }
+
+    private static ColumnarBarDataSet createBarDataSet(Columns columns, String label) {
+
+        float[] x = columns.xValues;
+
+        if (x == null) {
+
+            x = new float[columns.doubleXValues.length];
+
+            for (int i = 0; i < columns.count; i++)
+                x[i] = (float) columns.doubleXValues[i];
+        }
+
+        return new ColumnarBarDataSet(x, columns.yValues, columns.count, label);
+    }
+
+    private static Columns read(Source source) throws IOException {
+
+        ByteBuffer header = source.next(HEADER_SIZE);
+
+        if (header.getInt() != MAGIC)
+            throw new IOException("Not a binary entry file.");
+
+        int version = header.getInt();
+
+        if (version != VERSION)
+            throw new IOException("Unsupported binary entry file version " + version + ".");
+
+        int flags = header.getInt();
+        int stackSize = header.getInt();
+        int count = header.getInt();
+
+        if (stackSize < 0 || count < 0)
+            throw new IOException("Corrupt binary entry file header.");
+
+        Columns columns = new Columns();
+        columns.count = count;
+
+        // the columnar DataSets need arrays of at least one value
+        int length = Math.max(count, 1);
+
+        if ((flags & FLAG_DOUBLE_X) != 0) {
+            columns.doubleXValues = new double[length];
+            readColumn(source, columns.doubleXValues, count);
+        } else {
+            columns.xValues = new float[length];
+            readColumn(source, columns.xValues, count);
+        }
+
+        columns.yValues = new float[length];
+        readColumn(source, columns.yValues, count);
+
+        if (stackSize > 0) {
+
+            columns.stackValues = new float[stackSize][];
+
+            for (int stack = 0; stack < stackSize; stack++) {
+                columns.stackValues[stack] = new float[length];
+                readColumn(source, columns.stackValues[stack], count);
+            }
+        }
+
+        return columns;
+    }
+
+    private static void readColumn(Source source, float[] values, int count) throws IOException {
+
+        for (int read = 0; read < count; ) {
+
+            int n = Math.min(count - read, CHUNK_SIZE / 4);
+
+            source.next(n * 4).asFloatBuffer().get(values, read, n);
+            read += n;
+        }
+    }
+
+    private static void readColumn(Source source, double[] values, int count) throws IOException {
+
+        for (int read = 0; read < count; ) {
+
+            int n = Math.min(count - read, CHUNK_SIZE / 8);
+
+            source.next(n * 8).asDoubleBuffer().get(values, read, n);
+            read += n;
+        }
+    }
+
+    /**
+     * Hands out the bytes of a file in little-endian buffers.
+     */
+    private interface Source {
+
+        /**
+         * Returns a buffer holding exactly the given number of next bytes, at most CHUNK_SIZE.
+         * The buffer is only valid until the next call.
+         */
+        ByteBuffer next(int bytes) throws IOException;
+    }
+
+    private static class MappedSource implements Source {
+
+        private final ByteBuffer mMapped;
+
+        MappedSource(ByteBuffer mapped) {
+            mMapped = mapped;
+        }
+
+        @Override
+        public ByteBuffer next(int bytes) throws IOException {
+
+            if (mMapped.remaining() < bytes)
+                throw new EOFException("Binary entry file is truncated.");
+
+            ByteBuffer slice = mMapped.slice().order(ByteOrder.LITTLE_ENDIAN);
+            slice.limit(bytes);
+
+            mMapped.position(mMapped.position() + bytes);
+
+            return slice;
+        }
+    }
+
+    private static class StreamSource implements Source {
+
+        private final ReadableByteChannel mChannel;
+
+        private final ByteBuffer mChunk = ByteBuffer.allocate(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        StreamSource(ReadableByteChannel channel) {
+            mChannel = channel;
+        }
+
+        @Override
+        public ByteBuffer next(int bytes) throws IOException {
+
+            mChunk.clear();
+            mChunk.limit(bytes);
+
+            while (mChunk.hasRemaining()) {
+                if (mChannel.read(mChunk) < 0)
+                    throw new EOFException("Binary entry file is truncated.");
+            }
+
+            mChunk.flip();
+
+            return mChunk;
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Picture;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.github.mikephil.charting.charts.Chart;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exports charts as images without blocking the UI thread. On the UI thread only a snapshot of
+ * each chart is recorded (see Chart.getChartPicture()), the snapshot is then drawn into a
+ * bitmap and compressed on the given executor. The bitmap is reused for subsequent exports of
+ * the same size. Progress and the result are reported to an ExportListener on the UI thread,
+ * and an export can be cancelled at any time.
+ */
+public class ChartExporter {
+
+    /**
+     * Receives the progress and the result of an export on the UI thread.
+     */
+    public interface ExportListener {
+
+        /**
+         * Called while an image is written.
+         *
+         * @param task
+         * @param index        the index of the chart in the export
+         * @param bytesWritten the number of bytes of the image written so far
+         */
+        void onProgress(ExportTask task, int index, long bytesWritten);
+
+        /**
+         * Called once all charts are exported, the export failed or it was cancelled.
+         *
+         * @param task
+         */
+        void onFinished(ExportTask task);
+    }
+
+    /**
+     * A running export of one or more charts.
+     */
+    public class ExportTask implements Runnable {
+
+        private final List<Picture> mPictures;
+
+        private final List<? extends OutputStream> mStreams;
+
+        private final boolean mCloseStreams;
+
+        private final Bitmap.CompressFormat mFormat;
+
+        private final int mQuality;
+
+        private final ExportListener mListener;
+
+        private final AtomicBoolean mCancelled = new AtomicBoolean(false);
+
+        /**
+         * true while a progress update is waiting to be delivered
+         */
+        private final AtomicBoolean mProgressPending = new AtomicBoolean(false);
+
+        private volatile int mExportedCount = 0;
+
+        private volatile Exception mError;
+
+        private volatile boolean mDone = false;
+
+        ExportTask(List<Picture> pictures, List<? extends OutputStream> streams, boolean closeStreams,
+                   Bitmap.CompressFormat format, int quality, ExportListener listener) {
+            mPictures = pictures;
+            mStreams = streams;
+            mCloseStreams = closeStreams;
+            mFormat = format;
+            mQuality = quality;
+            mListener = listener;
+        }
+
+        /**
+         * Stops the export as soon as possible. Images that are already written are kept, the
+         * image that is currently written is incomplete.
+         */
+        public void cancel() {
+            mCancelled.set(true);
+        }
+
+        public boolean isCancelled() {
+            return mCancelled.get();
+        }
+
+        /**
+         * Returns true once the export finished, failed or was cancelled.
+         *
+         * @return
+         */
+        public boolean isDone() {
+            return mDone;
+        }
+
+        /**
+         * Returns the number of charts in this export.
+         *
+         * @return
+         */
+        public int getCount() {
+            return mPictures.size();
+        }
+
+        /**
+         * Returns the number of charts written successfully so far.
+         *
+         * @return
+         */
+        public int getExportedCount() {
+            return mExportedCount;
+        }
+
+        /**
+         * Returns the error that stopped the export, or null.
+         *
+         * @return
+         */
+        public Exception getError() {
+            return mError;
+        }
+
+        @Override
+        public void run() {
+
+            try {
+                for (int i = 0; i < mPictures.size() && !isCancelled(); i++) {
+
+                    Picture picture = mPictures.get(i);
+
+                    if (picture == null)
+                        throw new IllegalStateException("Chart " + i + " has no size, it can not be exported.");
+
+                    if (!write(picture, i))
+                        break;
+
+                    mExportedCount++;
+                }
+            } catch (Exception e) {
+                mError = e;
+            } finally {
+                finish();
+            }
+        }
+
+        /**
+         * Ends the export with the given error without running it.
+         */
+        private void fail(Exception error) {
+            mError = error;
+            finish();
+        }
+
+        private void finish() {
+
+            if (mCloseStreams)
+                closeStreams();
+
+            mDone = true;
+
+            if (mListener != null) {
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        mListener.onFinished(ExportTask.this);
+                    }
+                });
+            }
+        }
+
+        /**
+         * Draws and compresses one picture. Returns false if the export was cancelled.
+         */
+        private boolean write(Picture picture, final int index) throws IOException {
+
+            Bitmap bitmap = obtainBitmap(picture.getWidth(), picture.getHeight());
+
+            try {
+                bitmap.eraseColor(Color.TRANSPARENT);
+                picture.draw(new Canvas(bitmap));
+
+                if (isCancelled())
+                    return false;
+
+                ProgressOutputStream out = new ProgressOutputStream(mStreams.get(index), index);
+
+                boolean compressed;
+
+                try {
+                    compressed = bitmap.compress(mFormat, mQuality, out);
+                } catch (RuntimeException e) {
+                    compressed = false;
+                }
+
+                if (isCancelled())
+                    return false;
+
+                if (!compressed)
+                    throw new IOException("Chart " + index + " could not be compressed.");
+
+                out.flush();
+
+            } finally {
+                recycleBitmap(bitmap);
+            }
+
+            return true;
+        }
+
+        private void postProgress(final int index, final long bytesWritten) {
+
+            if (mListener == null || !mProgressPending.compareAndSet(false, true))
+                return;
+
+            mMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    mProgressPending.set(false);
+                    mListener.onProgress(ExportTask.this, index, bytesWritten);
+                }
+            });
+        }
+
+        private void closeStreams() {
+
+            for (OutputStream out : mStreams) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    if (mError == null)
+                        mError = e;
+                }
+            }
+        }
+
+        /**
+         * Counts the written bytes and stops the compression when the export is cancelled.
+         */
+        private class ProgressOutputStream extends FilterOutputStream {
+
+            private final int mIndex;
+
+            private long mWritten = 0;
+
+            ProgressOutputStream(OutputStream out, int index) {
+                super(out);
+                mIndex = index;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+
+                if (isCancelled())
+                    throw new InterruptedIOException("Export cancelled.");
+
+                out.write(b, off, len);
+
+                mWritten += len;
+                postProgress(mIndex, mWritten);
+            }
+        }
+    }
+
+    private final Executor mExecutor;
+
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    private Bitmap.Config mBitmapConfig = Bitmap.Config.RGB_565;
+
+    /**
+     * the bitmap of the last export, reused by the next one of the same size
+     */
+    private Bitmap mBitmap;
+
+    /**
+     * @param executor the executor the images are drawn and compressed on
+     */
+    public ChartExporter(Executor executor) {
+        mExecutor = executor;
+    }
+
+    /**
+     * Sets the config of the bitmaps the charts are drawn into. Default: RGB_565, like
+     * Chart.getChartBitmap()
+     *
+     * @param config
+     */
+    public void setBitmapConfig(Bitmap.Config config) {
+        mBitmapConfig = config;
+    }
+
+    public Bitmap.Config getBitmapConfig() {
+        return mBitmapConfig;
+    }
+
+    /**
+     * Exports the current state of the given chart to the given stream. The stream is not
+     * closed. Must be called on the UI thread.
+     *
+     * @param chart
+     * @param out
+     * @param format
+     * @param quality  e.g. 50, min = 0, max = 100
+     * @param listener may be null
+     * @return the running export
+     */
+    public ExportTask export(Chart<?> chart, OutputStream out, Bitmap.CompressFormat format,
+                             int quality, ExportListener listener) {
+
+        return start(Collections.singletonList(chart.getChartPicture()),
+                Collections.singletonList(out), false, format, quality, listener);
+    }
+
+    /**
+     * Exports the current state of the given chart to the given file, replacing it. Must be
+     * called on the UI thread.
+     *
+     * @param chart
+     * @param file
+     * @param format
+     * @param quality  e.g. 50, min = 0, max = 100
+     * @param listener may be null
+     * @return the running export
+     * @throws IOException if the file can not be opened
+     */
+    public ExportTask export(Chart<?> chart, File file, Bitmap.CompressFormat format,
+                             int quality, ExportListener listener) throws IOException {
+
+        return start(Collections.singletonList(chart.getChartPicture()),
+                Collections.singletonList(new FileOutputStream(file)), true, format, quality, listener);
+    }
+
+    /**
+     * Exports the current state of all given charts, one after another, to the stream with the
+     * same index. The streams are not closed. Snapshots of all charts are taken right away, so
+     * the charts may change while the export is running. Must be called on the UI thread.
+     *
+     * @param charts
+     * @param streams
+     * @param format
+     * @param quality  e.g. 50, min = 0, max = 100
+     * @param listener may be null
+     * @return the running export
+     */
+    public ExportTask exportAll(List<? extends Chart<?>> charts, List<? extends OutputStream> streams,
+                                Bitmap.CompressFormat format, int quality, ExportListener listener) {
+
+        if (charts.size() != streams.size())
+            throw new IllegalArgumentException("One stream per chart is needed.");
+
+        Picture[] pictures = new Picture[charts.size()];
+
+        for (int i = 0; i < pictures.length; i++) {
+            pictures[i] = charts.get(i).getChartPicture();
+        }
+
+        return start(Arrays.asList(pictures), streams, false, format, quality, listener);
+    }
+
+    private ExportTask start(List<Picture> pictures, List<? extends OutputStream> streams,
+                             boolean closeStreams, Bitmap.CompressFormat format, int quality,
+                             ExportListener listener) {
+
+        // restrain quality
+        if (quality < 0 || quality > 100)
+            quality = 50;
+
+        ExportTask task = new ExportTask(pictures, streams, closeStreams, format, quality, listener);
+
+        try {
+            mExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.fail(e);
+        }
+
+        return task;
+    }
+
+    /**
+     * Returns the cached bitmap if it has the given size, or a new one.
+     */
+    private synchronized Bitmap obtainBitmap(int width, int height) {
+
+        Bitmap bitmap = mBitmap;
+        mBitmap = null;
+
+        if (bitmap != null && bitmap.getWidth() == width && bitmap.getHeight() == height
+                && bitmap.getConfig() == mBitmapConfig)
+            return bitmap;
+
+        if (bitmap != null)
+            bitmap.recycle();
+
+        return Bitmap.createBitmap(width, height, mBitmapConfig);
+    }
+
+    /**
+     * Keeps the given bitmap for the next export, only one bitmap is kept.
+     */
+    private synchronized void recycleBitmap(Bitmap bitmap) {
+
+        if (mBitmap != null)
+            mBitmap.recycle();
+
+        mBitmap = bitmap;
+    }
+
+    /**
+     * Recycles the bitmap kept for the next export. Call this when no more exports are expected.
+     */
+    public synchronized void release() {
+
+        if (mBitmap != null) {
+            mBitmap.recycle();
+            mBitmap = null;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+
+/**
+ * Offscreen bitmap that holds a part of the chart that only changes together with a set of
+ * values (the key), e.g. the viewport and the axis ranges, and two version counters, e.g. of the
+ * touch matrix and the data. As long as the key and the versions stay the same, the layer is
+ * drawn from the bitmap instead of being rendered again. The versions are compared as ints,
+ * counters above 2^24 would no longer be exact in the float key.
+ */
+public class ChartLayer {
+
+    private Bitmap mBitmap;
+
+    private Canvas mCanvas;
+
+    /**
+     * the key the bitmap was rendered with
+     */
+    private float[] mKey = new float[0];
+
+    /**
+     * the versions the bitmap was rendered with
+     */
+    private int mMatrixVersion;
+    private int mDataVersion;
+
+    /**
+     * false if the bitmap needs to be rendered again
+     */
+    private boolean mValid = false;
+
+    /**
+     * Returns true if the layer was rendered with the given key, the given versions and the
+     * given size.
+     *
+     * @param key
+     * @param matrixVersion
+     * @param dataVersion
+     * @param width
+     * @param height
+     * @return
+     */
+    public boolean isValid(float[] key, int matrixVersion, int dataVersion, int width, int height) {
+
+        if (!mValid || mBitmap == null || mKey.length != key.length
+                || mMatrixVersion != matrixVersion || mDataVersion != dataVersion
+                || mBitmap.getWidth() != width || mBitmap.getHeight() != height)
+            return false;
+
+        for (int i = 0; i < key.length; i++) {
+            if (Float.floatToIntBits(key[i]) != Float.floatToIntBits(mKey[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Clears the layer and returns the canvas to render it with. The bitmap is reused as long as
+     * the size stays the same. Returns null if the bitmap could not be created.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    public Canvas begin(int width, int height) {
+
+        mValid = false;
+
+        if (width <= 0 || height <= 0)
+            return null;
+
+        if (mBitmap == null || mBitmap.getWidth() != width || mBitmap.getHeight() != height) {
+
+            release();
+
+            try {
+                mBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            } catch (OutOfMemoryError e) {
+                return null;
+            }
+
+            mCanvas = new Canvas(mBitmap);
+        }
+
+        mBitmap.eraseColor(Color.TRANSPARENT);
+
+        return mCanvas;
+    }
+
+    /**
+     * Marks the layer as rendered with the given key and versions, the key is copied.
+     *
+     * @param key
+     * @param matrixVersion
+     * @param dataVersion
+     */
+    public void end(float[] key, int matrixVersion, int dataVersion) {
+
+        mMatrixVersion = matrixVersion;
+        mDataVersion = dataVersion;
+
+        if (mKey.length != key.length)
+            mKey = new float[key.length];
+
+        System.arraycopy(key, 0, mKey, 0, key.length);
+        mValid = true;
+    }
+
+    /**
+     * Draws the layer onto the given canvas.
+     *
+     * @param c
+     */
+    public void draw(Canvas c) {
+
+        if (mBitmap != null)
+            c.drawBitmap(mBitmap, 0f, 0f, null);
+    }
+
+    /**
+     * Marks the layer as outdated, it is rendered again the next time it is needed.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Recycles the bitmap of this layer.
+     */
+    public void release() {
+
+        mValid = false;
+
+        if (mCanvas != null) {
+            mCanvas.setBitmap(null);
+            mCanvas = null;
+        }
+
+        if (mBitmap != null) {
+            mBitmap.recycle();
+            mBitmap = null;
+        }
+    }
+}
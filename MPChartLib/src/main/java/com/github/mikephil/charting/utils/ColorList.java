@@ -0,0 +1,201 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of colors that stores the colors in a primitive int array. Renderers read the colors
+ * through getColor(int) without unboxing, the List interface stays available for compatibility.
+ */
+public class ColorList extends AbstractList<Integer> implements RandomAccess {
+
+    private int[] mColors;
+
+    private int mSize = 0;
+
+    public ColorList() {
+        this(new int[4], 0);
+    }
+
+    /**
+     * Creates a list holding a copy of the given colors.
+     *
+     * @param colors
+     */
+    public ColorList(int... colors) {
+        this(Arrays.copyOf(colors, Math.max(colors.length, 1)), colors.length);
+    }
+
+    /**
+     * Creates a list holding the given colors.
+     *
+     * @param colors
+     */
+    public ColorList(Collection<Integer> colors) {
+        this(new int[Math.max(colors.size(), 1)], 0);
+        addAll(colors);
+    }
+
+    private ColorList(int[] colors, int size) {
+        mColors = colors;
+        mSize = size;
+    }
+
+    /**
+     * Creates an empty list. Not a constructor, new ColorList(color) holds the given color.
+     *
+     * @param capacity initial number of colors that can be held without growing
+     * @return
+     */
+    public static ColorList withCapacity(int capacity) {
+        return new ColorList(new int[Math.max(capacity, 1)], 0);
+    }
+
+    /**
+     * Returns the color at the given index of the given list, without unboxing if it is a
+     * ColorList.
+     *
+     * @param colors
+     * @param index
+     * @return
+     */
+    public static int getColor(List<Integer> colors, int index) {
+
+        if (colors instanceof ColorList)
+            return ((ColorList) colors).getColor(index);
+
+        return colors.get(index);
+    }
+
+    /**
+     * Returns the color at the given index modulo the size of the given list, see
+     * getColorCycled(int).
+     *
+     * @param colors
+     * @param index
+     * @return
+     */
+    public static int getColorCycled(List<Integer> colors, int index) {
+
+        if (colors instanceof ColorList)
+            return ((ColorList) colors).getColorCycled(index);
+
+        return colors.get(index % colors.size());
+    }
+
+    /**
+     * Returns the color at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public int getColor(int index) {
+
+        if (index >= mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+        return mColors[index];
+    }
+
+    /**
+     * Returns the color at the given index modulo the number of colors, this is how the colors of
+     * a DataSet are reused for the entries.
+     *
+     * @param index
+     * @return
+     */
+    public int getColorCycled(int index) {
+        return mColors[index % mSize];
+    }
+
+    /**
+     * Appends the given color.
+     *
+     * @param color
+     */
+    public void addColor(int color) {
+        ensureCapacity(mSize + 1);
+        mColors[mSize++] = color;
+        modCount++;
+    }
+
+    /**
+     * Replaces all colors with the given ones.
+     *
+     * @param colors
+     */
+    public void setColors(int... colors) {
+        ensureCapacity(colors.length);
+        System.arraycopy(colors, 0, mColors, 0, colors.length);
+        mSize = colors.length;
+        modCount++;
+    }
+
+    /**
+     * Returns a copy of the colors as an array.
+     *
+     * @return
+     */
+    public int[] toColorArray() {
+        return Arrays.copyOf(mColors, mSize);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > mColors.length)
+            mColors = Arrays.copyOf(mColors, Math.max(capacity, mColors.length + (mColors.length >> 1)));
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getColor(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer color) {
+
+        int previous = getColor(index);
+        mColors[index] = color;
+
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Integer color) {
+
+        if (index < 0 || index > mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+        ensureCapacity(mSize + 1);
+        System.arraycopy(mColors, index, mColors, index + 1, mSize - index);
+
+        mColors[index] = color;
+        mSize++;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+
+        int previous = getColor(index);
+
+        System.arraycopy(mColors, index + 1, mColors, index, mSize - index - 1);
+        mSize--;
+        modCount++;
+
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        mSize = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+}
@@ -4,7 +4,6 @@ package com.github.mikephil.charting.utils;
 import android.content.res.Resources;
 import android.graphics.Color;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -99,30 +98,23 @@ public class ColorTemplate {
      */
     public static List<Integer> createColors(Resources r, int[] colors) {
 
-        List<Integer> result = new ArrayList<Integer>();
+        ColorList result = ColorList.withCapacity(colors.length);
 
         for (int i : colors) {
-            result.add(r.getColor(i));
+            result.addColor(r.getColor(i));
         }
 
         return result;
     }
 
     /**
-     * Turns an array of colors (integer color values) into an ArrayList of
+     * Turns an array of colors (integer color values) into a List of
      * colors.
      *
      * @param colors
      * @return
      */
     public static List<Integer> createColors(int[] colors) {
-
-        List<Integer> result = new ArrayList<Integer>();
-
-        for (int i : colors) {
-            result.add(i);
-        }
-
-        return result;
+        return new ColorList(colors);
     }
 }
@@ -6,21 +6,26 @@ import android.os.Environment;
 import android.util.Log;
 
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.ColumnarBarDataSet;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Utilities class for interacting with the assets and the devices storage to
- * load and save DataSet objects from and to .txt files.
+ * load and save DataSet objects from and to .txt files, or from and to binary files (see
+ * BinaryEntryFile), which load a lot faster. Text files are parsed by a TextEntryParser.
  * 
  * @author Philipp Jahoda
  */
@@ -43,29 +48,16 @@ public class FileUtils {
 
         List<Entry> entries = new ArrayList<Entry>();
 
+        InputStream in = null;
         try {
-            @SuppressWarnings("resource")
-            BufferedReader br = new BufferedReader(new FileReader(file));
-            String line;
+            in = new FileInputStream(file);
 
-            while ((line = br.readLine()) != null) {
-                String[] split = line.split("#");
-
-                if (split.length <= 2) {
-                    entries.add(new Entry(Float.parseFloat(split[0]), Integer.parseInt(split[1])));
-                } else {
-
-                    float[] vals = new float[split.length - 1];
-
-                    for (int i = 0; i < vals.length; i++) {
-                        vals[i] = Float.parseFloat(split[i]);
-                    }
-
-                    entries.add(new BarEntry(Integer.parseInt(split[split.length - 1]), vals));
-                }
-            }
+            // x#y, or the stack values followed by the x-value
+            new TextEntryParser('#').parse(in, new EntryRowHandler(entries, false));
         } catch (IOException e) {
             Log.e(LOG, e.toString());
+        } finally {
+            close(in);
         }
 
         return entries;
@@ -110,43 +102,16 @@ public class FileUtils {
 
         List<Entry> entries = new ArrayList<Entry>();
 
-        BufferedReader reader = null;
+        InputStream in = null;
         try {
-            reader = new BufferedReader(
-                    new InputStreamReader(am.open(path), "UTF-8"));
-
-            String line = reader.readLine();
-
-            while (line != null) {
-                // process line
-                String[] split = line.split("#");
-
-                if (split.length <= 2) {
-                    entries.add(new Entry(Float.parseFloat(split[1]), Float.parseFloat(split[0])));
-                } else {
-
-                    float[] vals = new float[split.length - 1];
-
-                    for (int i = 0; i < vals.length; i++) {
-                        vals[i] = Float.parseFloat(split[i]);
-                    }
+            in = am.open(path);
 
-                    entries.add(new BarEntry(Integer.parseInt(split[split.length - 1]), vals));
-                }
-                line = reader.readLine();
-            }
+            // y#x, or the stack values followed by the x-value
+            new TextEntryParser('#').parse(in, new EntryRowHandler(entries, true));
         } catch (IOException e) {
             Log.e(LOG, e.toString());
-
         } finally {
-
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    Log.e(LOG, e.toString());
-                }
-            }
+            close(in);
         }
 
         return entries;
@@ -188,12 +153,153 @@ public class FileUtils {
         // return ds;
     }
 
+    /**
+     * Loads a columnar LineDataSet from a file in the binary format of BinaryEntryFile in the
+     * assets folder. Much faster than parsing text for large amounts of data.
+     *
+     * @param am
+     * @param path  the name of the file in the assets folder (+ path if needed)
+     * @param label
+     * @return the DataSet, or null if the file could not be read
+     */
+    public static ColumnarLineDataSet loadLineDataSetFromAssets(AssetManager am, String path, String label) {
+
+        InputStream in = null;
+        try {
+            in = am.open(path);
+            return BinaryEntryFile.loadLineDataSet(in, label);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return null;
+        } finally {
+            close(in);
+        }
+    }
+
+    /**
+     * Loads a columnar BarDataSet from a file in the binary format of BinaryEntryFile in the
+     * assets folder. Stacks are represented by their sum.
+     *
+     * @param am
+     * @param path  the name of the file in the assets folder (+ path if needed)
+     * @param label
+     * @return the DataSet, or null if the file could not be read
+     */
+    public static ColumnarBarDataSet loadBarDataSetFromAssets(AssetManager am, String path, String label) {
+
+        InputStream in = null;
+        try {
+            in = am.open(path);
+            return BinaryEntryFile.loadBarDataSet(in, label);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return null;
+        } finally {
+            close(in);
+        }
+    }
+
+    /**
+     * Saves the entries of the given DataSet to the specified location on the sdcard in the
+     * binary format of BinaryEntryFile, replacing the file if it exists.
+     *
+     * @param dataSet
+     * @param path
+     * @return true if the file was written
+     */
+    public static boolean saveToSdCard(IDataSet<? extends Entry> dataSet, String path) {
+
+        File sdcard = Environment.getExternalStorageDirectory();
+
+        try {
+            BinaryEntryFile.write(dataSet, new File(sdcard, path));
+            return true;
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * Loads all values of a text file in the assets folder into a FloatColumns table, without
+     * creating an Entry per line. Its columns can be handed over to a columnar DataSet.
+     *
+     * @param am
+     * @param path      the name of the file in the assets folder (+ path if needed)
+     * @param separator the character between the values of a line, e.g. '#' or ','
+     * @return the values, or null if the file could not be read
+     */
+    public static FloatColumns loadColumnsFromAssets(AssetManager am, String path, char separator) {
+
+        FloatColumns columns = new FloatColumns(2, 1024);
+
+        InputStream in = null;
+        try {
+            in = am.open(path);
+            new TextEntryParser(separator).parse(in, columns);
+            return columns;
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return null;
+        } finally {
+            close(in);
+        }
+    }
+
+    /**
+     * Creates an Entry for each parsed row of two values, and a stacked BarEntry for rows of
+     * more values (the stack values followed by the x-value).
+     */
+    private static class EntryRowHandler implements TextEntryParser.RowHandler {
+
+        private final List<Entry> mEntries;
+
+        /**
+         * true if rows of two values hold the y-value first
+         */
+        private final boolean mYFirst;
+
+        EntryRowHandler(List<Entry> entries, boolean yFirst) {
+            mEntries = entries;
+            mYFirst = yFirst;
+        }
+
+        @Override
+        public void onRow(float[] values, int count) {
+
+            if (count < 2)
+                return;
+
+            if (count == 2) {
+                mEntries.add(mYFirst
+                        ? new Entry(values[1], values[0])
+                        : new Entry(values[0], values[1]));
+            } else {
+                // the BarEntry keeps the array
+                mEntries.add(new BarEntry(values[count - 1], Arrays.copyOf(values, count - 1)));
+            }
+        }
+    }
+
+    private static void close(Closeable closeable) {
+
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                Log.e(LOG, e.toString());
+            }
+        }
+    }
+
     /**
      * Saves an Array of Entries to the specified location on the sdcard
-     * 
+     *
      * @param entries
      * @param path
+     * @deprecated appends one line of text per Entry, use saveToSdCard(IDataSet, String) instead
      */
+    @Deprecated
     public static void saveToSdCard(List<Entry> entries, String path) {
 
         File sdcard = Environment.getExternalStorageDirectory();
@@ -229,35 +335,24 @@ public class FileUtils {
 
     public static List<BarEntry> loadBarEntriesFromAssets(AssetManager am, String path) {
 
-        List<BarEntry> entries = new ArrayList<BarEntry>();
+        final List<BarEntry> entries = new ArrayList<BarEntry>();
 
-        BufferedReader reader = null;
+        InputStream in = null;
         try {
-            reader = new BufferedReader(
-                    new InputStreamReader(am.open(path), "UTF-8"));
-
-            String line = reader.readLine();
-
-            while (line != null) {
-                // process line
-                String[] split = line.split("#");
-
-                entries.add(new BarEntry(Float.parseFloat(split[1]), Float.parseFloat(split[0])));
-
-                line = reader.readLine();
-            }
+            in = am.open(path);
+
+            // y#x
+            new TextEntryParser('#').parse(in, new TextEntryParser.RowHandler() {
+                @Override
+                public void onRow(float[] values, int count) {
+                    if (count >= 2)
+                        entries.add(new BarEntry(values[1], values[0]));
+                }
+            });
         } catch (IOException e) {
             Log.e(LOG, e.toString());
-
         } finally {
-
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    Log.e(LOG, e.toString());
-                }
-            }
+            close(in);
         }
 
         return entries;
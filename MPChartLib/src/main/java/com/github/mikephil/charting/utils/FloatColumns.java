@@ -0,0 +1,185 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.ColumnarBarDataSet;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+
+import java.util.Arrays;
+
+/**
+ * Growable table of float values stored column by column in primitive arrays, e.g. filled by a
+ * TextEntryParser. Two of its columns can be handed over to a columnar DataSet without copying.
+ * Rows with fewer values than the table has columns are padded with NaN, rows with more values
+ * add columns.
+ */
+public class FloatColumns implements TextEntryParser.RowHandler {
+
+    private float[][] mColumns;
+
+    private int mColumnCount;
+
+    private int mSize = 0;
+
+    /**
+     * @param columnCount     the number of columns to start with
+     * @param initialCapacity the number of rows to start with
+     */
+    public FloatColumns(int columnCount, int initialCapacity) {
+
+        mColumnCount = columnCount;
+        mColumns = new float[Math.max(columnCount, 1)][];
+
+        for (int i = 0; i < columnCount; i++) {
+            mColumns[i] = new float[Math.max(initialCapacity, 1)];
+        }
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    public int getColumnCount() {
+        return mColumnCount;
+    }
+
+    /**
+     * Returns the value in the given column and row.
+     *
+     * @param column
+     * @param row
+     * @return
+     */
+    public float get(int column, int row) {
+
+        if (row >= mSize)
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + mSize);
+
+        return mColumns[column][row];
+    }
+
+    /**
+     * Returns the array backing the given column, only the first size() values are valid.
+     * The array is replaced when the table grows.
+     *
+     * @param column
+     * @return
+     */
+    public float[] getColumn(int column) {
+        return mColumns[column];
+    }
+
+    @Override
+    public void onRow(float[] values, int count) {
+        addRow(values, count);
+    }
+
+    /**
+     * Appends a row with the given values.
+     *
+     * @param values
+     * @param count  the number of values to take from the array
+     */
+    public void addRow(float[] values, int count) {
+
+        if (count > mColumnCount)
+            addColumns(count);
+
+        ensureCapacity(mSize + 1);
+
+        for (int i = 0; i < mColumnCount; i++) {
+            mColumns[i][mSize] = i < count ? values[i] : Float.NaN;
+        }
+
+        mSize++;
+    }
+
+    /**
+     * Removes all rows, the arrays are kept.
+     */
+    public void clear() {
+        mSize = 0;
+    }
+
+    /**
+     * Makes sure every column can hold at least the given number of rows.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (mColumnCount == 0 || capacity <= mColumns[0].length)
+            return;
+
+        int newCapacity = Math.max(capacity, mColumns[0].length + (mColumns[0].length >> 1));
+
+        for (int i = 0; i < mColumnCount; i++) {
+            mColumns[i] = Arrays.copyOf(mColumns[i], newCapacity);
+        }
+    }
+
+    private void addColumns(int columnCount) {
+
+        if (columnCount > mColumns.length)
+            mColumns = Arrays.copyOf(mColumns, columnCount);
+
+        int capacity = mColumnCount > 0 ? mColumns[0].length : 16;
+
+        for (int i = mColumnCount; i < columnCount; i++) {
+            mColumns[i] = new float[capacity];
+            Arrays.fill(mColumns[i], 0, mSize, Float.NaN);
+        }
+
+        mColumnCount = columnCount;
+    }
+
+    /**
+     * Creates a LineDataSet from the given columns. The arrays of the two columns are handed
+     * over without copying, the table starts over with new arrays afterwards. The x-values need
+     * to be sorted ascending.
+     *
+     * @param xColumn
+     * @param yColumn
+     * @param label
+     * @return
+     */
+    public ColumnarLineDataSet createLineDataSet(int xColumn, int yColumn, String label) {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet(mColumns[xColumn], mColumns[yColumn], mSize, label);
+        handOver(xColumn, yColumn);
+        return set;
+    }
+
+    /**
+     * Creates a BarDataSet from the given columns, see createLineDataSet(...).
+     *
+     * @param xColumn
+     * @param yColumn
+     * @param label
+     * @return
+     */
+    public ColumnarBarDataSet createBarDataSet(int xColumn, int yColumn, String label) {
+
+        ColumnarBarDataSet set = new ColumnarBarDataSet(mColumns[xColumn], mColumns[yColumn], mSize, label);
+        handOver(xColumn, yColumn);
+        return set;
+    }
+
+    /**
+     * Replaces the arrays of the handed over columns and clears the table.
+     */
+    private void handOver(int xColumn, int yColumn) {
+
+        int capacity = mColumns[xColumn].length;
+
+        mColumns[xColumn] = new float[capacity];
+
+        if (yColumn != xColumn)
+            mColumns[yColumn] = new float[capacity];
+
+        mSize = 0;
+    }
+}
@@ -0,0 +1,1343 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.PathMeasure;
+import android.graphics.Picture;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Region;
+import android.graphics.Typeface;
+import android.os.Build;
+import android.util.Base64;
+import android.util.Log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+
+/**
+ * Canvas that writes everything drawn on it as an SVG document to a Writer instead of
+ * rasterizing it, e.g. to export charts for print at any resolution (see Chart.saveToSvg(...)).
+ * The document is streamed while drawing, the canvas itself only holds its transformation and
+ * clip state, so its memory does not depend on the number of primitives or the output size.
+ * Primitives that are completely outside the current clip are not written at all, just like
+ * they would not show up on screen.
+ * <p>
+ * The coordinates are written in pixels of the canvas, with its transformation applied.
+ * Supported are lines, points, rects, round rects, circles, ovals, arcs, paths, text, colors
+ * and bitmaps (embedded as PNG). Layers are written as groups with the alpha of their Paint.
+ * Shaders and path effects are not supported, such primitives are drawn in the plain color of
+ * their Paint. Positioned text is written as one text element per character. Text on paths,
+ * vertices, bitmap meshes, pictures, clips other than intersections and colors drawn with
+ * blend modes other than SRC_OVER are skipped, so that the rest of the document is still
+ * written, see getSkippedCount().
+ * Paths are written as exact polylines on API level 26 and higher, and as sampled polylines
+ * below. Call finish() after drawing to complete the document.
+ */
+public class SvgCanvas extends Canvas {
+
+    /**
+     * the number of characters collected before they are handed to the writer
+     */
+    private static final int FLUSH_SIZE = 8 * 1024;
+
+    /**
+     * maximum deviation of the written paths from the drawn ones in pixels
+     */
+    private static final float PATH_TOLERANCE = 0.25f;
+
+    /**
+     * transformation and clip of one save()
+     */
+    private static class State {
+
+        final Matrix matrix = new Matrix();
+
+        final RectF clip = new RectF();
+
+        /**
+         * number of groups opened after the save that is restored with this state
+         */
+        int openGroups;
+    }
+
+    private final Writer mWriter;
+
+    private final int mWidth;
+
+    private final int mHeight;
+
+    private final StringBuilder mOut = new StringBuilder(FLUSH_SIZE * 2);
+
+    private final Matrix mMatrix = new Matrix();
+
+    /**
+     * the current clip in pixels of the document
+     */
+    private final RectF mClip = new RectF();
+
+    /**
+     * number of groups opened since the last save
+     */
+    private int mOpenGroups = 0;
+
+    /**
+     * the saved states, only the first mDepth ones are in use
+     */
+    private final ArrayList<State> mStates = new ArrayList<State>();
+
+    private int mDepth = 0;
+
+    private int mClipId = 0;
+
+    private IOException mError;
+
+    private int mSkippedCount = 0;
+
+    private final float[] mPoints = new float[8];
+
+    private final float[] mMatrixValues = new float[9];
+
+    private final RectF mBounds = new RectF();
+
+    private final Path mShapePath = new Path();
+
+    private final RectF mShapeRect = new RectF();
+
+    private final RectF mClipBounds = new RectF();
+
+    private final Matrix mInverse = new Matrix();
+
+    private PathMeasure mPathMeasure;
+
+    /**
+     * Starts an SVG document of the given size on the given writer.
+     *
+     * @param writer e.g. a BufferedWriter around a file
+     * @param width  width of the document in pixels
+     * @param height height of the document in pixels
+     */
+    public SvgCanvas(Writer writer, int width, int height) {
+        super();
+
+        mWriter = writer;
+        mWidth = width;
+        mHeight = height;
+
+        mClip.set(0, 0, width, height);
+
+        mOut.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        mOut.append("<svg xmlns=\"http://www.w3.org/2000/svg\" version=\"1.1\" width=\"")
+                .append(width).append("\" height=\"").append(height)
+                .append("\" viewBox=\"0 0 ").append(width).append(' ').append(height).append("\">\n");
+    }
+
+    /**
+     * Closes all open groups, completes the document and flushes the writer. The writer is not
+     * closed.
+     *
+     * @throws IOException the first error that occurred while writing the document
+     */
+    public void finish() throws IOException {
+
+        restoreToCount(1);
+        closeGroups(mOpenGroups);
+        mOpenGroups = 0;
+
+        mOut.append("</svg>\n");
+        flush(true);
+
+        if (mError != null)
+            throw mError;
+
+        mWriter.flush();
+    }
+
+    /**
+     * Returns the first error that occurred while writing the document, or null.
+     *
+     * @return
+     */
+    public IOException getError() {
+        return mError;
+    }
+
+    /**
+     * Returns the number of drawing calls that were skipped because they can not be written as
+     * SVG. The first one is also logged.
+     *
+     * @return
+     */
+    public int getSkippedCount() {
+        return mSkippedCount;
+    }
+
+    @Override
+    public int getWidth() {
+        return mWidth;
+    }
+
+    @Override
+    public int getHeight() {
+        return mHeight;
+    }
+
+    @Override
+    public boolean isHardwareAccelerated() {
+        return false;
+    }
+
+    /**
+     * Hands the collected characters to the writer if there are enough of them.
+     */
+    private void flush(boolean force) {
+
+        if (mOut.length() < FLUSH_SIZE && !force)
+            return;
+
+        if (mError == null) {
+            try {
+                mWriter.append(mOut);
+            } catch (IOException e) {
+                mError = e;
+            }
+        }
+
+        mOut.setLength(0);
+    }
+
+    // ----- state -----
+
+    @Override
+    public int save() {
+
+        if (mDepth == mStates.size())
+            mStates.add(new State());
+
+        State state = mStates.get(mDepth++);
+        state.matrix.set(mMatrix);
+        state.clip.set(mClip);
+        state.openGroups = mOpenGroups;
+
+        mOpenGroups = 0;
+
+        return mDepth;
+    }
+
+    @Override
+    public int save(int saveFlags) {
+        return save();
+    }
+
+    @Override
+    public int saveLayer(RectF bounds, Paint paint, int saveFlags) {
+        return saveLayer(paint);
+    }
+
+    @Override
+    public int saveLayer(RectF bounds, Paint paint) {
+        return saveLayer(paint);
+    }
+
+    @Override
+    public int saveLayer(float left, float top, float right, float bottom, Paint paint, int saveFlags) {
+        return saveLayer(paint);
+    }
+
+    @Override
+    public int saveLayer(float left, float top, float right, float bottom, Paint paint) {
+        return saveLayer(paint);
+    }
+
+    @Override
+    public int saveLayerAlpha(RectF bounds, int alpha, int saveFlags) {
+        return saveLayerAlpha(alpha);
+    }
+
+    @Override
+    public int saveLayerAlpha(RectF bounds, int alpha) {
+        return saveLayerAlpha(alpha);
+    }
+
+    @Override
+    public int saveLayerAlpha(float left, float top, float right, float bottom, int alpha, int saveFlags) {
+        return saveLayerAlpha(alpha);
+    }
+
+    @Override
+    public int saveLayerAlpha(float left, float top, float right, float bottom, int alpha) {
+        return saveLayerAlpha(alpha);
+    }
+
+    /**
+     * Layers are written as groups, only the alpha of the paint is applied to them.
+     */
+    private int saveLayer(Paint paint) {
+        return saveLayerAlpha(paint == null ? 255 : paint.getAlpha());
+    }
+
+    private int saveLayerAlpha(int alpha) {
+
+        int saveCount = save();
+
+        if (alpha < 255) {
+            mOut.append("<g");
+            appendAttribute("opacity", Math.max(alpha, 0) / 255f);
+            mOut.append(">\n");
+
+            mOpenGroups++;
+        }
+
+        return saveCount;
+    }
+
+    @Override
+    public void restore() {
+
+        if (mDepth == 0)
+            throw new IllegalStateException("Underflow in restore - more restores than saves");
+
+        closeGroups(mOpenGroups);
+
+        State state = mStates.get(--mDepth);
+        mMatrix.set(state.matrix);
+        mClip.set(state.clip);
+        mOpenGroups = state.openGroups;
+    }
+
+    @Override
+    public void restoreToCount(int saveCount) {
+
+        if (saveCount < 1)
+            throw new IllegalArgumentException("Underflow in restoreToCount - more restores than saves");
+
+        while (getSaveCount() > saveCount)
+            restore();
+    }
+
+    @Override
+    public int getSaveCount() {
+        return mDepth + 1;
+    }
+
+    private void closeGroups(int count) {
+
+        for (int i = 0; i < count; i++)
+            mOut.append("</g>\n");
+
+        flush(false);
+    }
+
+    @Override
+    public void translate(float dx, float dy) {
+        mMatrix.preTranslate(dx, dy);
+    }
+
+    @Override
+    public void scale(float sx, float sy) {
+        mMatrix.preScale(sx, sy);
+    }
+
+    @Override
+    public void rotate(float degrees) {
+        mMatrix.preRotate(degrees);
+    }
+
+    @Override
+    public void skew(float sx, float sy) {
+        mMatrix.preSkew(sx, sy);
+    }
+
+    @Override
+    public void concat(Matrix matrix) {
+        if (matrix != null)
+            mMatrix.preConcat(matrix);
+    }
+
+    @Override
+    public void setMatrix(Matrix matrix) {
+        if (matrix == null)
+            mMatrix.reset();
+        else
+            mMatrix.set(matrix);
+    }
+
+    @Override
+    public void getMatrix(Matrix ctm) {
+        ctm.set(mMatrix);
+    }
+
+    // ----- clip -----
+
+    @Override
+    public boolean clipRect(float left, float top, float right, float bottom) {
+
+        mBounds.set(left, top, right, bottom);
+        mMatrix.mapRect(mBounds);
+
+        if (!mClip.intersect(mBounds))
+            mClip.setEmpty();
+
+        openClipGroup();
+
+        if (mMatrix.rectStaysRect()) {
+            appendRect(mBounds);
+            mOut.append("/>");
+        } else {
+            mShapePath.reset();
+            mShapePath.addRect(left, top, right, bottom, Path.Direction.CW);
+            mOut.append("<path d=\"");
+            appendPathData(mShapePath);
+            mOut.append("\"/>");
+        }
+
+        closeClipGroup();
+
+        return !mClip.isEmpty();
+    }
+
+    @Override
+    public boolean clipRect(RectF rect) {
+        return clipRect(rect.left, rect.top, rect.right, rect.bottom);
+    }
+
+    @Override
+    public boolean clipRect(Rect rect) {
+        return clipRect(rect.left, rect.top, rect.right, rect.bottom);
+    }
+
+    @Override
+    public boolean clipRect(int left, int top, int right, int bottom) {
+        return clipRect((float) left, (float) top, (float) right, (float) bottom);
+    }
+
+    @Override
+    public boolean clipPath(Path path) {
+
+        path.computeBounds(mBounds, true);
+        mMatrix.mapRect(mBounds);
+
+        if (!mClip.intersect(mBounds))
+            mClip.setEmpty();
+
+        openClipGroup();
+
+        mOut.append("<path d=\"");
+        appendPathData(path);
+        mOut.append('"');
+
+        if (path.getFillType() == Path.FillType.EVEN_ODD)
+            mOut.append(" clip-rule=\"evenodd\"");
+
+        mOut.append("/>");
+
+        closeClipGroup();
+
+        return !mClip.isEmpty();
+    }
+
+    @Override
+    public boolean clipRect(float left, float top, float right, float bottom, Region.Op op) {
+
+        if (op != Region.Op.INTERSECT) {
+            skip("A clip with " + op);
+            return !mClip.isEmpty();
+        }
+
+        return clipRect(left, top, right, bottom);
+    }
+
+    @Override
+    public boolean clipRect(RectF rect, Region.Op op) {
+
+        if (op != Region.Op.INTERSECT) {
+            skip("A clip with " + op);
+            return !mClip.isEmpty();
+        }
+
+        return clipRect(rect);
+    }
+
+    @Override
+    public boolean clipRect(Rect rect, Region.Op op) {
+
+        if (op != Region.Op.INTERSECT) {
+            skip("A clip with " + op);
+            return !mClip.isEmpty();
+        }
+
+        return clipRect(rect);
+    }
+
+    @Override
+    public boolean clipPath(Path path, Region.Op op) {
+
+        if (op != Region.Op.INTERSECT) {
+            skip("A clip with " + op);
+            return !mClip.isEmpty();
+        }
+
+        return clipPath(path);
+    }
+
+    @Override
+    public boolean clipOutRect(float left, float top, float right, float bottom) {
+        skip("clipOutRect(...)");
+        return !mClip.isEmpty();
+    }
+
+    @Override
+    public boolean clipOutRect(RectF rect) {
+        skip("clipOutRect(...)");
+        return !mClip.isEmpty();
+    }
+
+    @Override
+    public boolean clipOutRect(Rect rect) {
+        skip("clipOutRect(...)");
+        return !mClip.isEmpty();
+    }
+
+    @Override
+    public boolean clipOutRect(int left, int top, int right, int bottom) {
+        skip("clipOutRect(...)");
+        return !mClip.isEmpty();
+    }
+
+    @Override
+    public boolean clipOutPath(Path path) {
+        skip("clipOutPath(...)");
+        return !mClip.isEmpty();
+    }
+
+    private void openClipGroup() {
+        mOut.append("<clipPath id=\"c").append(mClipId).append("\">");
+    }
+
+    /**
+     * Closes the clipPath element and opens a group clipped by it, the group is closed with
+     * the next restore().
+     */
+    private void closeClipGroup() {
+
+        mOut.append("</clipPath>\n<g clip-path=\"url(#c").append(mClipId).append(")\">\n");
+
+        mClipId++;
+        mOpenGroups++;
+
+        flush(false);
+    }
+
+    @Override
+    public boolean getClipBounds(Rect bounds) {
+
+        if (mClip.isEmpty() || !mMatrix.invert(mInverse)) {
+
+            if (bounds != null)
+                bounds.setEmpty();
+
+            return false;
+        }
+
+        if (bounds != null) {
+            mClipBounds.set(mClip);
+            mInverse.mapRect(mClipBounds);
+            mClipBounds.roundOut(bounds);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean quickReject(RectF rect, EdgeType type) {
+        return !isVisible(rect.left, rect.top, rect.right, rect.bottom, null);
+    }
+
+    @Override
+    public boolean quickReject(Path path, EdgeType type) {
+
+        path.computeBounds(mClipBounds, true);
+
+        return !isVisible(mClipBounds.left, mClipBounds.top, mClipBounds.right, mClipBounds.bottom, null);
+    }
+
+    @Override
+    public boolean quickReject(float left, float top, float right, float bottom, EdgeType type) {
+        return !isVisible(left, top, right, bottom, null);
+    }
+
+    // ----- culling -----
+
+    /**
+     * Returns true if the given bounds in pixels of the document, grown by the given amount,
+     * are at least partly inside the current clip.
+     */
+    private boolean isVisible(RectF bounds, float outset) {
+        return bounds.left - outset <= mClip.right && bounds.right + outset >= mClip.left
+                && bounds.top - outset <= mClip.bottom && bounds.bottom + outset >= mClip.top;
+    }
+
+    /**
+     * Returns true if the given local bounds are at least partly inside the current clip, with
+     * room for the stroke of the given paint.
+     */
+    private boolean isVisible(float left, float top, float right, float bottom, Paint paint) {
+
+        if (mClip.isEmpty())
+            return false;
+
+        mBounds.set(left, top, right, bottom);
+        mMatrix.mapRect(mBounds);
+
+        return isVisible(mBounds, getStrokeWidth(paint) / 2f);
+    }
+
+    // ----- drawing -----
+
+    @Override
+    public void drawColor(int color) {
+
+        if (mClip.isEmpty())
+            return;
+
+        mOut.append("<rect");
+        appendAttribute("x", mClip.left);
+        appendAttribute("y", mClip.top);
+        appendAttribute("width", mClip.width());
+        appendAttribute("height", mClip.height());
+        mOut.append(" fill=\"");
+        appendColor(color);
+        mOut.append('"');
+        appendOpacity("fill-opacity", color);
+        mOut.append("/>\n");
+
+        flush(false);
+    }
+
+    @Override
+    public void drawColor(int color, PorterDuff.Mode mode) {
+
+        if (mode != PorterDuff.Mode.SRC_OVER) {
+            skip("drawColor(...) with " + mode);
+            return;
+        }
+
+        drawColor(color);
+    }
+
+    @Override
+    public void drawARGB(int a, int r, int g, int b) {
+        drawColor(Color.argb(a, r, g, b));
+    }
+
+    @Override
+    public void drawRGB(int r, int g, int b) {
+        drawColor(Color.rgb(r, g, b));
+    }
+
+    @Override
+    public void drawPaint(Paint paint) {
+        drawColor(paint.getColor());
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+
+        mPoints[0] = startX;
+        mPoints[1] = startY;
+        mPoints[2] = stopX;
+        mPoints[3] = stopY;
+
+        drawLines(mPoints, 0, 4, paint);
+    }
+
+    @Override
+    public void drawLines(float[] pts, Paint paint) {
+        drawLines(pts, 0, pts.length, paint);
+    }
+
+    /**
+     * Writes all visible segments as one path element.
+     */
+    @Override
+    public void drawLines(float[] pts, int offset, int count, Paint paint) {
+
+        if (mClip.isEmpty())
+            return;
+
+        final float outset = getStrokeWidth(paint) / 2f;
+        final float[] segment = mPoints;
+
+        boolean started = false;
+
+        for (int i = offset; i + 3 < offset + count; i += 4) {
+
+            segment[0] = pts[i];
+            segment[1] = pts[i + 1];
+            segment[2] = pts[i + 2];
+            segment[3] = pts[i + 3];
+
+            mMatrix.mapPoints(segment, 0, segment, 0, 2);
+
+            mBounds.set(Math.min(segment[0], segment[2]), Math.min(segment[1], segment[3]),
+                    Math.max(segment[0], segment[2]), Math.max(segment[1], segment[3]));
+
+            if (!isVisible(mBounds, outset))
+                continue;
+
+            if (!started) {
+                mOut.append("<path d=\"");
+                started = true;
+            }
+
+            mOut.append('M');
+            appendNumber(segment[0]);
+            mOut.append(' ');
+            appendNumber(segment[1]);
+            mOut.append('L');
+            appendNumber(segment[2]);
+            mOut.append(' ');
+            appendNumber(segment[3]);
+
+            flush(false);
+        }
+
+        if (started) {
+            mOut.append('"');
+            appendPaint(paint, true, false);
+            mOut.append("/>\n");
+
+            flush(false);
+        }
+    }
+
+    @Override
+    public void drawPoint(float x, float y, Paint paint) {
+
+        mPoints[0] = x;
+        mPoints[1] = y;
+
+        drawPoints(mPoints, 0, 2, paint);
+    }
+
+    @Override
+    public void drawPoints(float[] pts, Paint paint) {
+        drawPoints(pts, 0, pts.length, paint);
+    }
+
+    /**
+     * Writes every visible point as a circle for a round stroke cap and as a square otherwise,
+     * with the stroke width as its size.
+     */
+    @Override
+    public void drawPoints(float[] pts, int offset, int count, Paint paint) {
+
+        if (mClip.isEmpty())
+            return;
+
+        final float size = mMatrix.mapRadius(Math.max(paint.getStrokeWidth(), 1f));
+        final boolean round = paint.getStrokeCap() == Paint.Cap.ROUND;
+        final int color = paint.getColor();
+        final float[] point = mPoints;
+
+        for (int i = offset; i + 1 < offset + count; i += 2) {
+
+            point[0] = pts[i];
+            point[1] = pts[i + 1];
+
+            mMatrix.mapPoints(point, 0, point, 0, 1);
+
+            mBounds.set(point[0], point[1], point[0], point[1]);
+
+            if (!isVisible(mBounds, size / 2f))
+                continue;
+
+            if (round) {
+                mOut.append("<circle");
+                appendAttribute("cx", point[0]);
+                appendAttribute("cy", point[1]);
+                appendAttribute("r", size / 2f);
+            } else {
+                mOut.append("<rect");
+                appendAttribute("x", point[0] - size / 2f);
+                appendAttribute("y", point[1] - size / 2f);
+                appendAttribute("width", size);
+                appendAttribute("height", size);
+            }
+
+            mOut.append(" fill=\"");
+            appendColor(color);
+            mOut.append('"');
+            appendOpacity("fill-opacity", color);
+            mOut.append("/>\n");
+
+            flush(false);
+        }
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+
+        if (!isVisible(left, top, right, bottom, paint))
+            return;
+
+        if (mMatrix.rectStaysRect()) {
+
+            // mBounds holds the mapped rect
+            appendRect(mBounds);
+            appendPaint(paint, false, false);
+            mOut.append("/>\n");
+
+            flush(false);
+        } else {
+            mShapePath.reset();
+            mShapePath.addRect(left, top, right, bottom, Path.Direction.CW);
+            writePath(mShapePath, paint);
+        }
+    }
+
+    @Override
+    public void drawRect(RectF rect, Paint paint) {
+        drawRect(rect.left, rect.top, rect.right, rect.bottom, paint);
+    }
+
+    @Override
+    public void drawRect(Rect r, Paint paint) {
+        drawRect(r.left, r.top, r.right, r.bottom, paint);
+    }
+
+    @Override
+    public void drawRoundRect(RectF rect, float rx, float ry, Paint paint) {
+
+        if (!isVisible(rect.left, rect.top, rect.right, rect.bottom, paint))
+            return;
+
+        mShapePath.reset();
+        mShapePath.addRoundRect(rect, rx, ry, Path.Direction.CW);
+        writePath(mShapePath, paint);
+    }
+
+    @Override
+    public void drawRoundRect(float left, float top, float right, float bottom, float rx, float ry,
+                              Paint paint) {
+        mShapeRect.set(left, top, right, bottom);
+        drawRoundRect(mShapeRect, rx, ry, paint);
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, Paint paint) {
+
+        if (!isVisible(cx - radius, cy - radius, cx + radius, cy + radius, paint))
+            return;
+
+        mPoints[0] = cx;
+        mPoints[1] = cy;
+        mMatrix.mapPoints(mPoints, 0, mPoints, 0, 1);
+
+        mOut.append("<circle");
+        appendAttribute("cx", mPoints[0]);
+        appendAttribute("cy", mPoints[1]);
+        appendAttribute("r", mMatrix.mapRadius(radius));
+        appendPaint(paint, false, false);
+        mOut.append("/>\n");
+
+        flush(false);
+    }
+
+    @Override
+    public void drawOval(RectF oval, Paint paint) {
+
+        if (!isVisible(oval.left, oval.top, oval.right, oval.bottom, paint))
+            return;
+
+        mShapePath.reset();
+        mShapePath.addOval(oval, Path.Direction.CW);
+        writePath(mShapePath, paint);
+    }
+
+    @Override
+    public void drawArc(RectF oval, float startAngle, float sweepAngle, boolean useCenter, Paint paint) {
+
+        if (!isVisible(oval.left, oval.top, oval.right, oval.bottom, paint))
+            return;
+
+        mShapePath.reset();
+
+        if (sweepAngle >= 360f || sweepAngle <= -360f) {
+            mShapePath.addOval(oval, Path.Direction.CW);
+        } else {
+
+            if (useCenter)
+                mShapePath.moveTo(oval.centerX(), oval.centerY());
+
+            mShapePath.arcTo(oval, startAngle, sweepAngle, !useCenter);
+
+            if (useCenter)
+                mShapePath.close();
+        }
+
+        writePath(mShapePath, paint);
+    }
+
+    @Override
+    public void drawPath(Path path, Paint paint) {
+
+        path.computeBounds(mBounds, true);
+
+        if (!isVisible(mBounds.left, mBounds.top, mBounds.right, mBounds.bottom, paint))
+            return;
+
+        writePath(path, paint);
+    }
+
+    private void writePath(Path path, Paint paint) {
+
+        mOut.append("<path d=\"");
+        appendPathData(path);
+        mOut.append('"');
+
+        if (path.getFillType() == Path.FillType.EVEN_ODD)
+            mOut.append(" fill-rule=\"evenodd\"");
+
+        appendPaint(paint, false, false);
+        mOut.append("/>\n");
+
+        flush(false);
+    }
+
+    @Override
+    public void drawText(String text, float x, float y, Paint paint) {
+        writeText(text, 0, text.length(), x, y, paint);
+    }
+
+    @Override
+    public void drawText(String text, int start, int end, float x, float y, Paint paint) {
+        writeText(text, start, end, x, y, paint);
+    }
+
+    @Override
+    public void drawText(CharSequence text, int start, int end, float x, float y, Paint paint) {
+        writeText(text, start, end, x, y, paint);
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+        writeText(new String(text, index, count), 0, count, x, y, paint);
+    }
+
+    @Override
+    public void drawTextRun(char[] text, int index, int count, int contextIndex, int contextCount,
+                            float x, float y, boolean isRtl, Paint paint) {
+        writeText(new String(text, index, count), 0, count, x, y, paint);
+    }
+
+    @Override
+    public void drawTextRun(CharSequence text, int start, int end, int contextStart, int contextEnd,
+                            float x, float y, boolean isRtl, Paint paint) {
+        writeText(text, start, end, x, y, paint);
+    }
+
+    private void writeText(CharSequence text, int start, int end, float x, float y, Paint paint) {
+
+        if (end <= start)
+            return;
+
+        float width = paint.measureText(text, start, end);
+        float size = paint.getTextSize();
+
+        float left = x;
+        String anchor = "start";
+
+        if (paint.getTextAlign() == Paint.Align.CENTER) {
+            left -= width / 2f;
+            anchor = "middle";
+        } else if (paint.getTextAlign() == Paint.Align.RIGHT) {
+            left -= width;
+            anchor = "end";
+        }
+
+        if (!isVisible(left, y - size, left + width, y + size / 2f, null))
+            return;
+
+        mOut.append("<text");
+
+        appendAttribute("x", x);
+        appendAttribute("y", y);
+
+        if (!mMatrix.isIdentity())
+            appendTransform();
+
+        appendAttribute("font-size", size);
+        mOut.append(" font-family=\"sans-serif\" text-anchor=\"").append(anchor).append('"');
+
+        Typeface typeface = paint.getTypeface();
+
+        if ((typeface != null && typeface.isBold()) || paint.isFakeBoldText())
+            mOut.append(" font-weight=\"bold\"");
+
+        if (typeface != null && typeface.isItalic())
+            mOut.append(" font-style=\"italic\"");
+
+        mOut.append(" fill=\"");
+        appendColor(paint.getColor());
+        mOut.append('"');
+        appendOpacity("fill-opacity", paint.getColor());
+        mOut.append('>');
+
+        for (int i = start; i < end; i++) {
+
+            char c = text.charAt(i);
+
+            switch (c) {
+                case '&':
+                    mOut.append("&amp;");
+                    break;
+                case '<':
+                    mOut.append("&lt;");
+                    break;
+                case '>':
+                    mOut.append("&gt;");
+                    break;
+                case '"':
+                    mOut.append("&quot;");
+                    break;
+                default:
+                    mOut.append(c);
+            }
+        }
+
+        mOut.append("</text>\n");
+
+        flush(false);
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+        writeBitmap(bitmap, left, top, bitmap.getWidth(), bitmap.getHeight());
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Rect src, RectF dst, Paint paint) {
+
+        Bitmap part = src == null ? bitmap
+                : Bitmap.createBitmap(bitmap, src.left, src.top, src.width(), src.height());
+
+        writeBitmap(part, dst.left, dst.top, dst.width(), dst.height());
+
+        if (part != bitmap)
+            part.recycle();
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, Rect src, Rect dst, Paint paint) {
+        drawBitmap(bitmap, src, new RectF(dst), paint);
+    }
+
+    @Override
+    public void drawPosText(char[] text, int index, int count, float[] pos, Paint paint) {
+        writePosText(new String(text, index, count), pos, paint);
+    }
+
+    @Override
+    public void drawPosText(String text, float[] pos, Paint paint) {
+        writePosText(text, pos, paint);
+    }
+
+    /**
+     * Writes every character at its own position.
+     */
+    private void writePosText(String text, float[] pos, Paint paint) {
+
+        for (int i = 0; i < text.length(); i++) {
+            writeText(text, i, i + 1, pos[i * 2], pos[i * 2 + 1], paint);
+        }
+    }
+
+    @Override
+    public void drawTextOnPath(char[] text, int index, int count, Path path, float hOffset,
+                               float vOffset, Paint paint) {
+        skip("drawTextOnPath(...)");
+    }
+
+    @Override
+    public void drawTextOnPath(String text, Path path, float hOffset, float vOffset, Paint paint) {
+        skip("drawTextOnPath(...)");
+    }
+
+    @Override
+    public void drawVertices(VertexMode mode, int vertexCount, float[] verts, int vertOffset,
+                             float[] texs, int texOffset, int[] colors, int colorOffset,
+                             short[] indices, int indexOffset, int indexCount, Paint paint) {
+        skip("drawVertices(...)");
+    }
+
+    @Override
+    public void drawBitmapMesh(Bitmap bitmap, int meshWidth, int meshHeight, float[] verts,
+                               int vertOffset, int[] colors, int colorOffset, Paint paint) {
+        skip("drawBitmapMesh(...)");
+    }
+
+    @Override
+    public void drawPicture(Picture picture) {
+        skip("drawPicture(...)");
+    }
+
+    /**
+     * Counts a drawing call that can not be written and leaves it out of the document.
+     */
+    private void skip(String what) {
+
+        if (mSkippedCount == 0)
+            Log.w("MPAndroidChart", what + " can not be written as SVG and is skipped.");
+
+        mSkippedCount++;
+    }
+
+    /**
+     * Embeds the given bitmap as a PNG image, this is the only primitive that is rasterized.
+     */
+    private void writeBitmap(Bitmap bitmap, float left, float top, float width, float height) {
+
+        if (!isVisible(left, top, left + width, top + height, null))
+            return;
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+
+        if (!bitmap.compress(Bitmap.CompressFormat.PNG, 100, png))
+            return;
+
+        mOut.append("<image");
+        appendAttribute("x", left);
+        appendAttribute("y", top);
+        appendAttribute("width", width);
+        appendAttribute("height", height);
+
+        if (!mMatrix.isIdentity())
+            appendTransform();
+
+        mOut.append(" preserveAspectRatio=\"none\" xlink:href=\"data:image/png;base64,");
+
+        // the xlink namespace is declared on the element, not every document needs it
+        mOut.append(Base64.encodeToString(png.toByteArray(), Base64.NO_WRAP));
+        mOut.append("\" xmlns:xlink=\"http://www.w3.org/1999/xlink\"/>\n");
+
+        flush(false);
+    }
+
+    // ----- output helpers -----
+
+    /**
+     * Appends the start of a rect element of the given bounds in pixels of the document, the
+     * element is left open for further attributes.
+     */
+    private void appendRect(RectF bounds) {
+
+        mOut.append("<rect");
+        appendAttribute("x", bounds.left);
+        appendAttribute("y", bounds.top);
+        appendAttribute("width", bounds.width());
+        appendAttribute("height", bounds.height());
+    }
+
+    /**
+     * Appends the outline of the given path in pixels of the document.
+     */
+    private void appendPathData(Path path) {
+
+        final float[] point = mPoints;
+
+        if (Build.VERSION.SDK_INT >= 26) {
+
+            // fraction, x, y for each point, a repeated fraction starts a new contour
+            float[] approximation = path.approximate(PATH_TOLERANCE);
+
+            for (int i = 0; i < approximation.length; i += 3) {
+
+                point[0] = approximation[i + 1];
+                point[1] = approximation[i + 2];
+                mMatrix.mapPoints(point, 0, point, 0, 1);
+
+                boolean move = i == 0 || approximation[i] == approximation[i - 3];
+
+                mOut.append(move ? 'M' : 'L');
+                appendNumber(point[0]);
+                mOut.append(' ');
+                appendNumber(point[1]);
+
+                flush(false);
+            }
+
+            return;
+        }
+
+        if (mPathMeasure == null)
+            mPathMeasure = new PathMeasure();
+
+        final PathMeasure measure = mPathMeasure;
+        measure.setPath(path, false);
+
+        do {
+            float length = measure.getLength();
+
+            if (length <= 0f)
+                continue;
+
+            int steps = (int) Math.ceil(length / (PATH_TOLERANCE * 4f));
+
+            for (int s = 0; s <= steps; s++) {
+
+                measure.getPosTan(length * s / steps, point, null);
+                mMatrix.mapPoints(point, 0, point, 0, 1);
+
+                mOut.append(s == 0 ? 'M' : 'L');
+                appendNumber(point[0]);
+                mOut.append(' ');
+                appendNumber(point[1]);
+
+                flush(false);
+            }
+
+            if (measure.isClosed())
+                mOut.append('Z');
+
+        } while (measure.nextContour());
+    }
+
+    /**
+     * Appends the fill and stroke attributes of the given paint.
+     *
+     * @param forceStroke true for lines, which are always stroked
+     * @param forceFill   true to ignore the stroke of the paint
+     */
+    private void appendPaint(Paint paint, boolean forceStroke, boolean forceFill) {
+
+        final Paint.Style style = forceStroke ? Paint.Style.STROKE
+                : forceFill ? Paint.Style.FILL : paint.getStyle();
+
+        final int color = paint.getColor();
+
+        if (style == Paint.Style.STROKE) {
+            mOut.append(" fill=\"none\"");
+        } else {
+            mOut.append(" fill=\"");
+            appendColor(color);
+            mOut.append('"');
+            appendOpacity("fill-opacity", color);
+        }
+
+        if (style == Paint.Style.FILL)
+            return;
+
+        mOut.append(" stroke=\"");
+        appendColor(color);
+        mOut.append('"');
+        appendOpacity("stroke-opacity", color);
+        appendAttribute("stroke-width", getStrokeWidth(paint));
+
+        if (paint.getStrokeCap() == Paint.Cap.ROUND)
+            mOut.append(" stroke-linecap=\"round\"");
+        else if (paint.getStrokeCap() == Paint.Cap.SQUARE)
+            mOut.append(" stroke-linecap=\"square\"");
+
+        if (paint.getStrokeJoin() == Paint.Join.ROUND)
+            mOut.append(" stroke-linejoin=\"round\"");
+        else if (paint.getStrokeJoin() == Paint.Join.BEVEL)
+            mOut.append(" stroke-linejoin=\"bevel\"");
+    }
+
+    /**
+     * Returns the stroke width of the given paint in pixels of the document, 0 if it does not
+     * stroke.
+     */
+    private float getStrokeWidth(Paint paint) {
+
+        if (paint == null || paint.getStyle() == Paint.Style.FILL)
+            return 0f;
+
+        // 0 is a hairline
+        return mMatrix.mapRadius(Math.max(paint.getStrokeWidth(), 1f));
+    }
+
+    private void appendTransform() {
+
+        mMatrix.getValues(mMatrixValues);
+
+        mOut.append(" transform=\"matrix(");
+        appendNumber(mMatrixValues[Matrix.MSCALE_X]);
+        mOut.append(' ');
+        appendNumber(mMatrixValues[Matrix.MSKEW_Y]);
+        mOut.append(' ');
+        appendNumber(mMatrixValues[Matrix.MSKEW_X]);
+        mOut.append(' ');
+        appendNumber(mMatrixValues[Matrix.MSCALE_Y]);
+        mOut.append(' ');
+        appendNumber(mMatrixValues[Matrix.MTRANS_X]);
+        mOut.append(' ');
+        appendNumber(mMatrixValues[Matrix.MTRANS_Y]);
+        mOut.append(")\"");
+    }
+
+    private void appendAttribute(String name, float value) {
+        mOut.append(' ').append(name).append("=\"");
+        appendNumber(value);
+        mOut.append('"');
+    }
+
+    private void appendColor(int color) {
+
+        mOut.append('#');
+
+        for (int shift = 20; shift >= 0; shift -= 4) {
+            mOut.append(Character.forDigit((color >> shift) & 0xF, 16));
+        }
+    }
+
+    private void appendOpacity(String name, int color) {
+
+        int alpha = Color.alpha(color);
+
+        if (alpha < 255)
+            appendAttribute(name, alpha / 255f);
+    }
+
+    /**
+     * Appends the given value rounded to two decimals, without creating a String.
+     */
+    private void appendNumber(float value) {
+
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            mOut.append('0');
+            return;
+        }
+
+        long scaled = Math.round(value * 100.0);
+
+        if (scaled < 0) {
+            mOut.append('-');
+            scaled = -scaled;
+        }
+
+        mOut.append(scaled / 100);
+
+        int fraction = (int) (scaled % 100);
+
+        if (fraction == 0)
+            return;
+
+        mOut.append('.');
+
+        if (fraction < 10)
+            mOut.append('0').append(fraction);
+        else if (fraction % 10 == 0)
+            mOut.append(fraction / 10);
+        else
+            mOut.append(fraction);
+    }
+}
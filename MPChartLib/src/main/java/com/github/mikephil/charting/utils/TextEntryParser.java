@@ -0,0 +1,358 @@
+package com.github.mikephil.charting.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Streaming parser for chart data in text form, one row of values per line and the values
+ * separated by a single character, e.g. the '#'-separated format of the sample assets or CSV.
+ * The stream is read into a reusable byte window and the values are parsed straight from the
+ * bytes, no Strings or arrays are created per line. Each row is handed to a RowHandler, for
+ * example a FloatColumns sink.
+ * <p>
+ * Empty lines are skipped, values may be surrounded by whitespace or double quotes, and empty
+ * values are parsed as NaN. A value that is not a number throws a NumberFormatException.
+ * An instance reuses its buffers and must only be used by one thread at a time.
+ */
+public class TextEntryParser {
+
+    /**
+     * Receives the parsed rows.
+     */
+    public interface RowHandler {
+
+        /**
+         * Called for every parsed line. The values array is reused for the next row.
+         *
+         * @param values the values of the row
+         * @param count  the number of values in the row
+         */
+        void onRow(float[] values, int count);
+    }
+
+    private static final int WINDOW_SIZE = 16 * 1024;
+
+    /**
+     * significant digits that fit into a long without overflowing
+     */
+    private static final int MAX_DIGITS = 18;
+
+    /**
+     * largest mantissa a double holds exactly
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final Charset ASCII = Charset.forName("US-ASCII");
+
+    private final byte mSeparator;
+
+    private int mHeaderLines = 0;
+
+    private byte[] mWindow = new byte[WINDOW_SIZE];
+
+    private float[] mRow = new float[8];
+
+    /**
+     * @param separator the character between the values of a row, e.g. '#' or ','
+     */
+    public TextEntryParser(char separator) {
+        mSeparator = (byte) separator;
+    }
+
+    /**
+     * Sets the number of lines at the start of the stream that are skipped, e.g. 1 for CSV files
+     * with a header. Default: 0
+     *
+     * @param lines
+     */
+    public void setHeaderLines(int lines) {
+        mHeaderLines = lines;
+    }
+
+    public int getHeaderLines() {
+        return mHeaderLines;
+    }
+
+    /**
+     * Parses the given stream until its end and hands every row to the given handler. The
+     * stream is not closed.
+     *
+     * @param in
+     * @param handler
+     * @return the number of rows handed to the handler
+     * @throws IOException
+     */
+    public int parse(InputStream in, RowHandler handler) throws IOException {
+
+        int start = 0;
+        int scan = 0;
+        int end = 0;
+
+        int rows = 0;
+        int skip = mHeaderLines;
+
+        boolean eof = false;
+
+        while (true) {
+
+            int newline = -1;
+
+            for (int i = scan; i < end; i++) {
+                if (mWindow[i] == '\n') {
+                    newline = i;
+                    break;
+                }
+            }
+
+            if (newline < 0) {
+
+                if (eof) {
+                    // last line without a line break
+                    if (start < end && skip <= 0 && parseLine(start, end, handler))
+                        rows++;
+                    break;
+                }
+
+                scan = end;
+
+                // move the incomplete line to the start of the window and read more
+                if (start > 0) {
+                    System.arraycopy(mWindow, start, mWindow, 0, end - start);
+                    end -= start;
+                    scan -= start;
+                    start = 0;
+                }
+
+                // a line longer than the window
+                if (end == mWindow.length)
+                    mWindow = Arrays.copyOf(mWindow, mWindow.length * 2);
+
+                int read = in.read(mWindow, end, mWindow.length - end);
+
+                if (read < 0)
+                    eof = true;
+                else
+                    end += read;
+
+                continue;
+            }
+
+            if (skip > 0)
+                skip--;
+            else if (parseLine(start, newline, handler))
+                rows++;
+
+            start = scan = newline + 1;
+        }
+
+        return rows;
+    }
+
+    /**
+     * Parses the line between the given positions of the window. Returns true if a row was
+     * handed to the handler.
+     */
+    private boolean parseLine(int from, int to, RowHandler handler) {
+
+        if (isBlank(mWindow, from, to))
+            return false;
+
+        int count = 0;
+        int fieldStart = from;
+
+        for (int i = from; i <= to; i++) {
+
+            if (i == to || mWindow[i] == mSeparator) {
+
+                if (count == mRow.length)
+                    mRow = Arrays.copyOf(mRow, mRow.length * 2);
+
+                mRow[count++] = parseFloat(mWindow, fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+
+        handler.onRow(mRow, count);
+
+        return true;
+    }
+
+    private static boolean isBlank(byte[] bytes, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            if (bytes[i] > ' ')
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Parses the decimal number between the given positions of the given ASCII bytes without
+     * creating a String. Surrounding whitespace and double quotes are ignored, an empty value is
+     * NaN. The result is the same as the one of Float.parseFloat(...), numbers that can not be
+     * rounded correctly here (e.g. "NaN", "Infinity", more significant digits than a double holds
+     * or very large exponents) are handed to it.
+     *
+     * @param bytes
+     * @param from  first position (inclusive)
+     * @param to    last position (exclusive)
+     * @return
+     * @throws NumberFormatException if the value is not a number
+     */
+    public static float parseFloat(byte[] bytes, int from, int to) {
+
+        while (from < to && (bytes[from] <= ' ' || bytes[from] == '"'))
+            from++;
+
+        while (to > from && (bytes[to - 1] <= ' ' || bytes[to - 1] == '"'))
+            to--;
+
+        if (from == to)
+            return Float.NaN;
+
+        int i = from;
+        boolean negative = false;
+
+        if (bytes[i] == '-') {
+            negative = true;
+            i++;
+        } else if (bytes[i] == '+') {
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        boolean truncated = false;
+
+        // integer part, digits beyond the precision of the mantissa only scale it
+        for (; i < to; i++) {
+
+            int d = bytes[i] - '0';
+
+            if (d < 0 || d > 9)
+                break;
+
+            hasDigits = true;
+
+            if (digits < MAX_DIGITS) {
+                mantissa = mantissa * 10 + d;
+
+                if (mantissa != 0)
+                    digits++;
+            } else {
+                exponent++;
+
+                if (d != 0)
+                    truncated = true;
+            }
+        }
+
+        // fraction
+        if (i < to && bytes[i] == '.') {
+
+            for (i++; i < to; i++) {
+
+                int d = bytes[i] - '0';
+
+                if (d < 0 || d > 9)
+                    break;
+
+                hasDigits = true;
+
+                if (digits < MAX_DIGITS) {
+                    mantissa = mantissa * 10 + d;
+                    exponent--;
+
+                    if (mantissa != 0)
+                        digits++;
+                } else if (d != 0) {
+                    truncated = true;
+                }
+            }
+        }
+
+        // exponent
+        if (hasDigits && i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+
+            i++;
+            boolean negativeExponent = false;
+
+            if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i] == '-';
+                i++;
+            }
+
+            int value = 0;
+            boolean hasExponentDigits = false;
+
+            for (; i < to; i++) {
+
+                int d = bytes[i] - '0';
+
+                if (d < 0 || d > 9)
+                    break;
+
+                hasExponentDigits = true;
+
+                // beyond the range of float anyway
+                if (value < 10000)
+                    value = value * 10 + d;
+            }
+
+            if (!hasExponentDigits)
+                return parseFloatSlow(bytes, from, to);
+
+            exponent += negativeExponent ? -value : value;
+        }
+
+        if (!hasDigits || i != to)
+            return parseFloatSlow(bytes, from, to);
+
+        if (mantissa == 0)
+            return negative ? -0f : 0f;
+
+        // dropped digits would have to be rounded twice
+        if (truncated || mantissa > MAX_EXACT_MANTISSA)
+            return parseFloatSlow(bytes, from, to);
+
+        // mantissa and power of ten are exact, the one operation rounds the value correctly
+        double value;
+
+        if (exponent == 0)
+            value = mantissa;
+        else if (exponent > 0 && exponent < POWERS_OF_TEN.length)
+            value = mantissa * POWERS_OF_TEN[exponent];
+        else if (exponent < 0 && -exponent < POWERS_OF_TEN.length)
+            value = mantissa / POWERS_OF_TEN[-exponent];
+        else
+            return parseFloatSlow(bytes, from, to);
+
+        float result = (float) value;
+
+        // rounding the double to a float again is only wrong if it lies exactly between two
+        // floats, the exact value may then be closer to either of them
+        if (result != value) {
+
+            float other = Math.nextAfter(result, value);
+
+            if (((double) result + (double) other) / 2.0 == value)
+                return parseFloatSlow(bytes, from, to);
+        }
+
+        return negative ? -result : result;
+    }
+
+    private static float parseFloatSlow(byte[] bytes, int from, int to) {
+        return Float.parseFloat(new String(bytes, from, to - from, ASCII));
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache for the measured width and bounds of texts drawn with a single Paint.
+ * Labels are measured over and over again during layout, most of them with the same text.
+ * The cache belongs to one Paint and remembers the typeface, text size and text scale the texts
+ * were measured with; all measurements are dropped as soon as one of them changes. The
+ * methods mirror Utils.calcTextWidth(...), calcTextHeight(...) and calcTextSize(...).
+ */
+public class TextMeasureCache {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final LinkedHashMap<String, Measurement> mMeasurements;
+
+    private final Rect mBounds = new Rect();
+
+    /**
+     * the paint configuration the cached measurements were taken with
+     */
+    private Paint mPaint;
+    private Typeface mTypeface;
+    private float mTextSize;
+    private float mTextScaleX;
+
+    public TextMeasureCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity maximum number of texts held by the cache
+     */
+    public TextMeasureCache(final int capacity) {
+
+        mMeasurements = new LinkedHashMap<String, Measurement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Measurement> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Drops all cached measurements.
+     */
+    public void invalidate() {
+        mMeasurements.clear();
+        mPaint = null;
+    }
+
+    /**
+     * Returns the width of the given text, see Utils.calcTextWidth(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public int calcTextWidth(Paint paint, String text) {
+
+        Measurement m = getMeasurement(paint, text);
+
+        if (m.width < 0)
+            m.width = (int) paint.measureText(text);
+
+        return m.width;
+    }
+
+    /**
+     * Returns the height of the bounds of the given text, see Utils.calcTextHeight(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public int calcTextHeight(Paint paint, String text) {
+        return getBounds(paint, text).boundsHeight;
+    }
+
+    /**
+     * Writes the size of the bounds of the given text to the given FSize, see
+     * Utils.calcTextSize(...).
+     *
+     * @param paint
+     * @param text
+     * @param outputFSize
+     */
+    public void calcTextSize(Paint paint, String text, FSize outputFSize) {
+
+        Measurement m = getBounds(paint, text);
+
+        outputFSize.width = m.boundsWidth;
+        outputFSize.height = m.boundsHeight;
+    }
+
+    /**
+     * Returns a recyclable FSize instance holding the size of the bounds of the given text.
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public FSize calcTextSize(Paint paint, String text) {
+
+        FSize result = FSize.getInstance(0, 0);
+        calcTextSize(paint, text, result);
+        return result;
+    }
+
+    private Measurement getBounds(Paint paint, String text) {
+
+        Measurement m = getMeasurement(paint, text);
+
+        if (m.boundsHeight < 0) {
+
+            Rect r = mBounds;
+            r.set(0, 0, 0, 0);
+            paint.getTextBounds(text, 0, text.length(), r);
+
+            m.boundsWidth = r.width();
+            m.boundsHeight = r.height();
+        }
+
+        return m;
+    }
+
+    private Measurement getMeasurement(Paint paint, String text) {
+
+        if (paint != mPaint
+                || paint.getTypeface() != mTypeface
+                || paint.getTextSize() != mTextSize
+                || paint.getTextScaleX() != mTextScaleX) {
+
+            mMeasurements.clear();
+
+            mPaint = paint;
+            mTypeface = paint.getTypeface();
+            mTextSize = paint.getTextSize();
+            mTextScaleX = paint.getTextScaleX();
+        }
+
+        Measurement m = mMeasurements.get(text);
+
+        if (m == null) {
+            m = new Measurement();
+            mMeasurements.put(text, m);
+        }
+
+        return m;
+    }
+
+    private static class Measurement {
+        int width = -1;
+        int boundsWidth = -1;
+        int boundsHeight = -1;
+    }
+}
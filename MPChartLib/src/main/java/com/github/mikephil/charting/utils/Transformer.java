@@ -9,6 +9,7 @@ import com.github.mikephil.charting.data.CandleEntry;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 
@@ -34,6 +35,11 @@ public class Transformer {
 
     protected ViewPortHandler mViewPortHandler;
 
+    /**
+     * the absolute x-value that corresponds to an x-value of 0, see setXOrigin(...)
+     */
+    protected double mXOrigin = 0.0;
+
     public Transformer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
@@ -63,6 +69,8 @@ public class Transformer {
         mMatrixValueToPx.reset();
         mMatrixValueToPx.postTranslate(-xChartMin, -yChartMin);
         mMatrixValueToPx.postScale(scaleX, -scaleY);
+
+        invalidateValueToPixelMatrix();
     }
 
     /**
@@ -84,6 +92,8 @@ public class Transformer {
                     .setTranslate(mViewPortHandler.offsetLeft(), -mViewPortHandler.offsetTop());
             mMatrixOffset.postScale(1.0f, -1.0f);
         }
+
+        invalidateValueToPixelMatrix();
     }
 
     protected float[] valuePointsForGenerateTransformedValuesScatter = new float[1];
@@ -118,7 +128,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        mapPoints(valuePoints, valuePoints.length);
 
         return valuePoints;
     }
@@ -154,7 +164,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        mapPoints(valuePoints, valuePoints.length);
 
         return valuePoints;
     }
@@ -179,20 +189,32 @@ public class Transformer {
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
 
-        for (int j = 0; j < count; j += 2) {
+        if (data instanceof IColumnarDataSet) {
 
-            Entry e = data.getEntryForIndex(j / 2 + min);
+            final IColumnarDataSet columns = (IColumnarDataSet) data;
 
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
+            for (int j = 0; j < count; j += 2) {
+                valuePoints[j] = columns.getXForIndex(j / 2 + min);
+                valuePoints[j + 1] = columns.getYForIndex(j / 2 + min) * phaseY;
+            }
+
+        } else {
+
+            for (int j = 0; j < count; j += 2) {
+
+                Entry e = data.getEntryForIndex(j / 2 + min);
+
+                if (e != null) {
+                    valuePoints[j] = e.getX();
+                    valuePoints[j + 1] = e.getY() * phaseY;
+                } else {
+                    valuePoints[j] = 0;
+                    valuePoints[j + 1] = 0;
+                }
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        mapPoints(valuePoints, valuePoints.length);
 
         return valuePoints;
     }
@@ -229,7 +251,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        mapPoints(valuePoints, valuePoints.length);
 
         return valuePoints;
     }
@@ -242,9 +264,7 @@ public class Transformer {
      */
     public void pathValueToPixel(Path path) {
 
-        path.transform(mMatrixValueToPx);
-        path.transform(mViewPortHandler.getMatrixTouch());
-        path.transform(mMatrixOffset);
+        path.transform(getValueToPixelMatrix());
     }
 
     /**
@@ -266,10 +286,18 @@ public class Transformer {
      * @param pts
      */
     public void pointValuesToPixel(float[] pts) {
+        mapPoints(pts, pts.length);
+    }
+
+    /**
+     * Transform the first count values (x,y pairs) of the given array with all matrices.
+     *
+     * @param pts
+     * @param count number of values (not points) to transform
+     */
+    public void pointValuesToPixel(float[] pts, int count) {
 
-        mMatrixValueToPx.mapPoints(pts);
-        mViewPortHandler.getMatrixTouch().mapPoints(pts);
-        mMatrixOffset.mapPoints(pts);
+        mapPoints(pts, count);
     }
 
     /**
@@ -278,10 +306,7 @@ public class Transformer {
      * @param r
      */
     public void rectValueToPixel(RectF r) {
-
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -296,9 +321,7 @@ public class Transformer {
         r.top *= phaseY;
         r.bottom *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     public void rectToPixelPhaseHorizontal(RectF r, float phaseY) {
@@ -307,9 +330,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -318,10 +339,7 @@ public class Transformer {
      * @param r
      */
     public void rectValueToPixelHorizontal(RectF r) {
-
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -336,9 +354,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -348,10 +364,8 @@ public class Transformer {
      */
     public void rectValuesToPixel(List<RectF> rects) {
 
-        Matrix m = getValueToPixelMatrix();
-
         for (int i = 0; i < rects.size(); i++)
-            m.mapRect(rects.get(i));
+            mapRect(rects.get(i));
     }
 
     protected Matrix mPixelToValueMatrixBuffer = new Matrix();
@@ -364,6 +378,19 @@ public class Transformer {
      */
     public void pixelsToValue(float[] pixels) {
 
+        updateValueToPixelMatrix();
+
+        // the inverse of scale and translate
+        if (mAffine && mScaleX != 0f && mScaleY != 0f) {
+
+            for (int i = 0; i < pixels.length - 1; i += 2) {
+                pixels[i] = (pixels[i] - mTransX) / mScaleX;
+                pixels[i + 1] = (pixels[i + 1] - mTransY) / mScaleY;
+            }
+
+            return;
+        }
+
         Matrix tmp = mPixelToValueMatrixBuffer;
         tmp.reset();
 
@@ -433,6 +460,108 @@ public class Transformer {
         return MPPointD.getInstance(xPx, yPx);
     }
 
+    /**
+     * Sets the absolute x-value that corresponds to an x-value of 0. The regular methods of
+     * this class work on x-values relative to the origin, the methods taking absolute values
+     * subtract the origin in double precision before mapping. Set by the chart, see
+     * BarLineChartBase.setXOrigin(...).
+     *
+     * @param origin
+     */
+    public void setXOrigin(double origin) {
+        mXOrigin = origin;
+    }
+
+    /**
+     * Returns the absolute x-value that corresponds to an x-value of 0.
+     *
+     * @return
+     */
+    public double getXOrigin() {
+        return mXOrigin;
+    }
+
+    protected float[] mAbsoluteValuesBuffer = new float[2];
+
+    /**
+     * Transforms the given array of absolute values (x, y, x, y, ...) into pixels. The origin is
+     * subtracted from the x-values in double precision, the remaining float range is mapped
+     * with all matrices.
+     *
+     * @param pts
+     */
+    public void absoluteValuesToPixel(double[] pts) {
+
+        float[] buffer = absoluteValuesBuffer(pts.length);
+
+        for (int i = 0; i < pts.length; i += 2) {
+            buffer[i] = (float) (pts[i] - mXOrigin);
+            buffer[i + 1] = (float) pts[i + 1];
+        }
+
+        pointValuesToPixel(buffer, pts.length);
+
+        for (int i = 0; i < pts.length; i++) {
+            pts[i] = buffer[i];
+        }
+    }
+
+    /**
+     * Transforms the given array of touch positions (pixels) (x, y, x, y, ...) into absolute
+     * values, the origin is added to the x-values in double precision.
+     *
+     * @param pixels
+     */
+    public void pixelsToAbsoluteValues(double[] pixels) {
+
+        float[] buffer = absoluteValuesBuffer(pixels.length);
+
+        for (int i = 0; i < pixels.length; i++) {
+            buffer[i] = (float) pixels[i];
+        }
+
+        getPixelToValueMatrix().mapPoints(buffer, 0, buffer, 0, pixels.length / 2);
+
+        for (int i = 0; i < pixels.length; i += 2) {
+            pixels[i] = mXOrigin + buffer[i];
+            pixels[i + 1] = buffer[i + 1];
+        }
+    }
+
+    /**
+     * Returns a recyclable MPPointD instance.
+     * Returns the pixel position of the given absolute x-value and y-value.
+     *
+     * @param x the absolute x-value
+     * @param y
+     * @return
+     */
+    public MPPointD getPixelForAbsoluteValues(double x, double y) {
+        return getPixelForValues((float) (x - mXOrigin), (float) y);
+    }
+
+    /**
+     * Writes the absolute x-value and the y-value at the given touch point into the output
+     * point, the counterpart of getPixelForAbsoluteValues(...).
+     *
+     * @param x
+     * @param y
+     * @param outputPoint
+     */
+    public void getAbsoluteValuesByTouchPoint(float x, float y, MPPointD outputPoint) {
+
+        getValuesByTouchPoint(x, y, outputPoint);
+        outputPoint.x += mXOrigin;
+    }
+
+    private float[] absoluteValuesBuffer(int size) {
+
+        if (mAbsoluteValuesBuffer.length < size)
+            mAbsoluteValuesBuffer = new float[size];
+
+        return mAbsoluteValuesBuffer;
+    }
+
     public Matrix getValueMatrix() {
         return mMatrixValueToPx;
     }
@@ -441,19 +570,141 @@ public class Transformer {
         return mMatrixOffset;
     }
 
+    /**
+     * the concatenation of the value, touch and offset matrix
+     */
     private Matrix mMBuffer1 = new Matrix();
 
-    public Matrix getValueToPixelMatrix() {
+    /**
+     * false if mMBuffer1 needs to be concatenated again
+     */
+    private boolean mValueToPixelMatrixValid = false;
+
+    /**
+     * the version of the touch matrix mMBuffer1 was concatenated with
+     */
+    private int mMatrixTouchVersion;
+
+    /**
+     * true if the concatenated matrix only scales and translates, which is always the case
+     * for the BarLine charts, the values below are then used to map points without the matrix
+     */
+    private boolean mAffine;
+    private float mScaleX, mScaleY, mTransX, mTransY;
+
+    private final float[] mMatrixValues = new float[9];
+
+    /**
+     * Marks the cached value-to-pixel matrix as outdated. Called when the value or offset
+     * matrix is prepared, call this after modifying getValueMatrix() or getOffsetMatrix()
+     * directly. Changes of the touch matrix are detected through the ViewPortHandler.
+     */
+    public void invalidateValueToPixelMatrix() {
+        mValueToPixelMatrixValid = false;
+    }
+
+    private void updateValueToPixelMatrix() {
+
+        final int touchVersion = mViewPortHandler.getMatrixTouchVersion();
+
+        if (mValueToPixelMatrixValid && touchVersion == mMatrixTouchVersion)
+            return;
+
         mMBuffer1.set(mMatrixValueToPx);
         mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
         mMBuffer1.postConcat(mMatrixOffset);
+
+        mMBuffer1.invert(mMBuffer2);
+
+        final float[] values = mMatrixValues;
+        mMBuffer1.getValues(values);
+
+        mAffine = values[Matrix.MSKEW_X] == 0f && values[Matrix.MSKEW_Y] == 0f
+                && values[Matrix.MPERSP_0] == 0f && values[Matrix.MPERSP_1] == 0f
+                && values[Matrix.MPERSP_2] == 1f;
+
+        mScaleX = values[Matrix.MSCALE_X];
+        mScaleY = values[Matrix.MSCALE_Y];
+        mTransX = values[Matrix.MTRANS_X];
+        mTransY = values[Matrix.MTRANS_Y];
+
+        mMatrixTouchVersion = touchVersion;
+        mValueToPixelMatrixValid = true;
+    }
+
+    /**
+     * Maps the first count values (x,y pairs) of the given array with the concatenated matrix,
+     * in a plain loop if the matrix only scales and translates.
+     *
+     * @param pts
+     * @param count number of values (not points) to transform
+     */
+    protected void mapPoints(float[] pts, int count) {
+
+        updateValueToPixelMatrix();
+
+        if (mAffine) {
+
+            final float scaleX = mScaleX, scaleY = mScaleY, transX = mTransX, transY = mTransY;
+
+            for (int i = 0; i < count - 1; i += 2) {
+                pts[i] = pts[i] * scaleX + transX;
+                pts[i + 1] = pts[i + 1] * scaleY + transY;
+            }
+
+        } else {
+            mMBuffer1.mapPoints(pts, 0, pts, 0, count / 2);
+        }
+    }
+
+    /**
+     * Maps the given rectangle with the concatenated matrix, the result is sorted like the
+     * result of Matrix.mapRect(...).
+     *
+     * @param r
+     */
+    protected void mapRect(RectF r) {
+
+        updateValueToPixelMatrix();
+
+        if (mAffine) {
+
+            final float left = r.left * mScaleX + mTransX;
+            final float right = r.right * mScaleX + mTransX;
+            final float top = r.top * mScaleY + mTransY;
+            final float bottom = r.bottom * mScaleY + mTransY;
+
+            r.left = Math.min(left, right);
+            r.right = Math.max(left, right);
+            r.top = Math.min(top, bottom);
+            r.bottom = Math.max(top, bottom);
+
+        } else {
+            mMBuffer1.mapRect(r);
+        }
+    }
+
+    /**
+     * Returns the concatenation of the value, touch and offset matrix. The matrix is cached and
+     * must not be modified.
+     *
+     * @return
+     */
+    public Matrix getValueToPixelMatrix() {
+        updateValueToPixelMatrix();
         return mMBuffer1;
     }
 
     private Matrix mMBuffer2 = new Matrix();
 
+    /**
+     * Returns the inverse of getValueToPixelMatrix(). The matrix is cached and must not be
+     * modified.
+     *
+     * @return
+     */
     public Matrix getPixelToValueMatrix() {
-        getValueToPixelMatrix().invert(mMBuffer2);
+        updateValueToPixelMatrix();
         return mMBuffer2;
     }
 }
@@ -18,6 +18,12 @@ public class ViewPortHandler {
      */
     protected final Matrix mMatrixTouch = new Matrix();
 
+    /**
+     * incremented whenever the touch matrix is updated, lets the transformers know when their
+     * cached matrices are outdated
+     */
+    private int mMatrixTouchVersion = 0;
+
     /**
      * this rectangle defines the area in which graph values can be drawn
      */
@@ -473,6 +479,9 @@ public class ViewPortHandler {
         matrixBuffer[Matrix.MSCALE_Y] = mScaleY;
 
         matrix.setValues(matrixBuffer);
+
+        if (matrix == mMatrixTouch)
+            mMatrixTouchVersion++;
     }
 
     /**
@@ -570,7 +579,17 @@ public class ViewPortHandler {
     }
 
     /**
-     * Returns the charts-touch matrix used for translation and scale on touch.
+     * Returns a number that changes whenever the touch matrix is updated through this class.
+     *
+     * @return
+     */
+    public int getMatrixTouchVersion() {
+        return mMatrixTouchVersion;
+    }
+
+    /**
+     * Returns the charts-touch matrix used for translation and scale on touch. Apply changes
+     * through refresh(...), transformers cache the matrix until then.
      *
      * @return
      */
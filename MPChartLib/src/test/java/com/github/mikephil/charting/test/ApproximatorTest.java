@@ -2,6 +2,7 @@ package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.ApproximatorN;
 
 import org.junit.Test;
 
@@ -9,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 07/06/16.
@@ -40,4 +42,59 @@ public class ApproximatorTest {
 
         assertEquals(18, reduced.length);
     }
+
+    @Test(timeout = 5000)
+    public void testApproximationN() {
+
+        float[] points = new float[]{
+                10, 20,
+                20, 30,
+                25, 25,
+                30, 28,
+                31, 31,
+                33, 33,
+                40, 40,
+                44, 40,
+                48, 23,
+                50, 20,
+                55, 20,
+                60, 25};
+
+        ApproximatorN a = new ApproximatorN();
+
+        // more than one line in the queue, the insertion into it used to never return
+        float[] reduced = a.reduceWithDouglasPeucker(points, 6);
+
+        // the reduction used to stop after the first point instead of running until the
+        // requested number of points is kept
+        assertEquals(12, reduced.length);
+
+        // the kept points used to be copied from the first points of the input only
+        float[] expected = new float[]{
+                10, 20,
+                20, 30,
+                30, 28,
+                40, 40,
+                50, 20,
+                60, 25};
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], reduced[i], 0f);
+        }
+
+        for (int count = 3; count < 12; count++) {
+
+            reduced = a.reduceWithDouglasPeucker(points, count);
+
+            assertEquals(count * 2, reduced.length);
+
+            // first and last point always stay
+            assertEquals(10f, reduced[0], 0f);
+            assertEquals(25f, reduced[reduced.length - 1], 0f);
+
+            for (int i = 2; i < reduced.length; i += 2) {
+                assertTrue(reduced[i] > reduced[i - 2]);
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.github.mikephil.charting.test;
 
+import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarDataSet;
 import com.github.mikephil.charting.data.BarEntry;
@@ -69,4 +70,77 @@ public class BarDataTest {
         assertEquals(15f, values1.get(1).getX(), 0.01f);
         assertEquals(26f, values2.get(1).getX(), 0.01f);
     }
+
+    @Test
+    public void testFirstBarIndexWithMixedStacks() {
+
+        List<BarEntry> values = new ArrayList<>();
+        values.add(new BarEntry(0, new float[]{1, 2, 3}));
+        values.add(new BarEntry(1, 4));
+        values.add(new BarEntry(2, new float[]{5, 6}));
+        values.add(new BarEntry(3, new float[]{7, 8, 9}));
+
+        BarDataSet set = new BarDataSet(values, "Set");
+
+        BarBuffer buffer = new BarBuffer(0, 1, set.isStacked());
+
+        // the bars of the fed range keep the color positions they have when feeding all
+        int[] expected = {0, 3, 4, 6};
+
+        for (int from = 0; from < values.size(); from++) {
+
+            buffer.limitFrom(from);
+            buffer.feed(set);
+
+            assertEquals(expected[from], buffer.getFirstBarIndex());
+        }
+
+        // single values, every entry is one bar
+        BarBuffer single = new BarBuffer(0, 1, false);
+        single.limitFrom(2);
+        single.feed(set);
+
+        assertEquals(2, single.getFirstBarIndex());
+        assertEquals(2 * 4, single.size());
+    }
+
+    @Test
+    public void testFirstBarIndexCountedOnce() {
+
+        List<BarEntry> values = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++)
+            values.add(new BarEntry(i, i % 3 == 0 ? new float[]{1, 2} : new float[]{3}));
+
+        final int[] read = {0};
+
+        BarDataSet set = new BarDataSet(values, "Set") {
+            @Override
+            public BarEntry getEntryForIndex(int index) {
+                read[0]++;
+                return super.getEntryForIndex(index);
+            }
+        };
+
+        BarBuffer buffer = new BarBuffer(0, 1, set.isStacked());
+        buffer.limitFrom(90);
+        buffer.limitTo(99);
+        buffer.feed(set);
+
+        assertEquals(120, buffer.getFirstBarIndex());
+
+        // feeding again only reads the fed entries
+        read[0] = 0;
+        buffer.limitFrom(91);
+        buffer.feed(set);
+
+        assertEquals(9, read[0]);
+        assertEquals(122, buffer.getFirstBarIndex());
+
+        // a changed entry count is counted again
+        set.addEntry(new BarEntry(100, new float[]{1, 2}));
+        buffer.feed(set);
+
+        assertEquals(122, buffer.getFirstBarIndex());
+    }
 }
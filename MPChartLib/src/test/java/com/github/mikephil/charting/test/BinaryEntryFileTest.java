@@ -0,0 +1,169 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.ColumnarBarDataSet;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DoubleXLineDataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.utils.BinaryEntryFile;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class BinaryEntryFileTest {
+
+    @Test
+    public void testLineDataSet() throws IOException {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        // more values than fit into one chunk
+        for (int i = 0; i < 40000; i++) {
+            entries.add(new Entry(i * 0.5f, (float) Math.sin(i * 0.01)));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEntryFile.write(set, out);
+
+        assertEquals(20 + 40000 * 8, out.size());
+
+        ColumnarLineDataSet loaded = BinaryEntryFile.loadLineDataSet(
+                new ByteArrayInputStream(out.toByteArray()), "loaded");
+
+        assertEquals(40000, loaded.getEntryCount());
+        assertEquals(set.getXMin(), loaded.getXMin(), 0f);
+        assertEquals(set.getXMax(), loaded.getXMax(), 0f);
+        assertEquals(set.getYMin(), loaded.getYMin(), 0f);
+        assertEquals(set.getYMax(), loaded.getYMax(), 0f);
+
+        for (int i = 0; i < 40000; i++) {
+            assertEquals(entries.get(i).getX(), loaded.getXForIndex(i), 0f);
+            assertEquals(entries.get(i).getY(), loaded.getYForIndex(i), 0f);
+        }
+
+        // the mapped file gives the same values
+        File file = File.createTempFile("entries", ".bin");
+
+        try {
+            BinaryEntryFile.write(loaded, file);
+
+            ColumnarLineDataSet mapped = BinaryEntryFile.loadLineDataSet(file, "mapped");
+
+            assertEquals(40000, mapped.getEntryCount());
+
+            for (int i = 0; i < 40000; i++) {
+                assertEquals(entries.get(i).getX(), mapped.getXForIndex(i), 0f);
+                assertEquals(entries.get(i).getY(), mapped.getYForIndex(i), 0f);
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testDoubleX() throws IOException {
+
+        double[] x = new double[]{1500000000000.0, 1500000000001.0, 1500000000002.0};
+        float[] y = new float[]{1f, 2f, 3f};
+
+        DoubleXLineDataSet set = new DoubleXLineDataSet(x, y, 3, 1500000000000.0, "");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEntryFile.write(set, out);
+
+        BinaryEntryFile.Columns columns = BinaryEntryFile.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertNull(columns.xValues);
+        assertEquals(3, columns.count);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(x[i], columns.doubleXValues[i], 0.0);
+            assertEquals(y[i], columns.yValues[i], 0f);
+        }
+
+        ColumnarLineDataSet loaded = BinaryEntryFile.loadLineDataSet(
+                new ByteArrayInputStream(out.toByteArray()), "");
+
+        assertTrue(loaded instanceof DoubleXLineDataSet);
+        assertEquals(x[2], ((DoubleXLineDataSet) loaded).getAbsoluteXForIndex(2), 0.0);
+    }
+
+    @Test
+    public void testStacks() throws IOException {
+
+        List<BarEntry> entries = new ArrayList<BarEntry>();
+        entries.add(new BarEntry(0, new float[]{1, 2, 3}));
+        entries.add(new BarEntry(1, new float[]{4, 5}));
+        entries.add(new BarEntry(2, 7));
+
+        BarDataSet set = new BarDataSet(entries, "");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEntryFile.write(set, out);
+
+        BinaryEntryFile.Columns columns = BinaryEntryFile.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(3, columns.count);
+        assertEquals(3, columns.stackValues.length);
+
+        assertEquals(6f, columns.yValues[0], 0f);
+        assertEquals(9f, columns.yValues[1], 0f);
+        assertEquals(7f, columns.yValues[2], 0f);
+
+        assertEquals(2f, columns.stackValues[1][0], 0f);
+        assertEquals(0f, columns.stackValues[2][1], 0f);
+        assertEquals(7f, columns.stackValues[0][2], 0f);
+        assertEquals(0f, columns.stackValues[1][2], 0f);
+
+        ColumnarBarDataSet loaded = BinaryEntryFile.loadBarDataSet(
+                new ByteArrayInputStream(out.toByteArray()), "");
+
+        assertEquals(3, loaded.getEntryCount());
+        assertEquals(9f, loaded.getYMax(), 0f);
+    }
+
+    @Test
+    public void testInvalid() throws IOException {
+
+        try {
+            BinaryEntryFile.read(new ByteArrayInputStream(new byte[20]));
+            fail("a file without the magic number was read");
+        } catch (IOException e) {
+            // expected
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEntryFile.write(new LineDataSet(null, ""), out);
+
+        BinaryEntryFile.Columns empty = BinaryEntryFile.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(0, empty.count);
+
+        out.reset();
+        BinaryEntryFile.write(new LineDataSet(Arrays.asList(new Entry(0, 1), new Entry(1, 2)), ""), out);
+
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 2);
+
+        try {
+            BinaryEntryFile.read(new ByteArrayInputStream(truncated));
+            fail("a truncated file was read");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.highlight.ChartHighlighter;
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Checks that dragging the finger across a chart with many DataSets does not allocate memory
+ * as long as the highlighted value stays the same.
+ */
+public class ChartHighlighterAllocationTest {
+
+    /**
+     * pixels per x-value and y-value of the fake transformer
+     */
+    private static final float SCALE = 10f;
+
+    @Test
+    public void testDragDoesNotAllocate() {
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) bean;
+
+        List<ILineDataSet> sets = new ArrayList<ILineDataSet>();
+
+        for (int s = 0; s < 20; s++) {
+
+            List<Entry> entries = new ArrayList<Entry>();
+
+            for (int i = 0; i < 1000; i++) {
+                entries.add(new Entry(i, s * 5 + (i % 3)));
+            }
+
+            sets.add(new LineDataSet(entries, "" + s));
+        }
+
+        ChartHighlighter<FakeProvider> highlighter =
+                new ChartHighlighter<FakeProvider>(new FakeProvider(new LineData(sets)));
+
+        // the touch at x = 500, y = 50 lies on the entry with x = 50 of the eleventh DataSet
+        Highlight first = highlighter.getHighlight(500f, 500f);
+
+        assertEquals(50f, first.getX(), 0f);
+        assertEquals(10, first.getDataSetIndex());
+
+        // warm up
+        for (int i = 0; i < 10000; i++) {
+            highlighter.getHighlight(499f + (i % 3), 500f);
+        }
+
+        long before = allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+
+        for (int i = 0; i < 10000; i++) {
+            assertSame(first, highlighter.getHighlight(499f + (i % 3), 500f));
+        }
+
+        long allocated = allocations.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+
+        // leave some room for the measurement itself
+        assertTrue("allocated " + allocated + " bytes", allocated < 1024);
+
+        // moving on to another value hands out a new Highlight
+        Highlight second = highlighter.getHighlight(510f, 500f);
+
+        assertEquals(51f, second.getX(), 0f);
+        assertEquals(50f, first.getX(), 0f);
+    }
+
+    @Test
+    public void testPanUpdatesPixelPosition() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 100; i++) {
+            entries.add(new Entry(i, 50));
+        }
+
+        FakeProvider provider = new FakeProvider(new LineData(new LineDataSet(entries, "")));
+        ChartHighlighter<FakeProvider> highlighter = new ChartHighlighter<FakeProvider>(provider);
+
+        Highlight first = highlighter.getHighlight(500f, 500f);
+
+        assertEquals(50f, first.getX(), 0f);
+        assertEquals(500f, first.getXPx(), 0f);
+
+        // pan by a few pixels, the same value stays under the finger
+        provider.mTransformer.mOffsetX = 3f;
+
+        Highlight second = highlighter.getHighlight(503f, 500f);
+
+        assertEquals(50f, second.getX(), 0f);
+        assertEquals(503f, second.getXPx(), 0f);
+
+        // the first result is not modified
+        assertEquals(500f, first.getXPx(), 0f);
+    }
+
+    /**
+     * Transformer that maps values to pixels by multiplying them with SCALE and moving them by
+     * mOffsetX on the x-axis.
+     */
+    private static class ScaleTransformer extends Transformer {
+
+        float mOffsetX = 0f;
+
+        ScaleTransformer() {
+            super(new ViewPortHandler());
+        }
+
+        @Override
+        public void pointValuesToPixel(float[] pts) {
+            for (int i = 0; i < pts.length; i++) {
+                pts[i] = pts[i] * SCALE + (i % 2 == 0 ? mOffsetX : 0f);
+            }
+        }
+
+        @Override
+        public void pixelsToValue(float[] pixels) {
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = (pixels[i] - (i % 2 == 0 ? mOffsetX : 0f)) / SCALE;
+            }
+        }
+    }
+
+    private static class FakeProvider implements BarLineScatterCandleBubbleDataProvider {
+
+        private final LineData mData;
+        private final ScaleTransformer mTransformer = new ScaleTransformer();
+
+        FakeProvider(LineData data) {
+            mData = data;
+        }
+
+        @Override
+        public Transformer getTransformer(YAxis.AxisDependency axis) {
+            return mTransformer;
+        }
+
+        @Override
+        public boolean isInverted(YAxis.AxisDependency axis) {
+            return false;
+        }
+
+        @Override
+        public float getLowestVisibleX() {
+            return mData.getXMin();
+        }
+
+        @Override
+        public float getHighestVisibleX() {
+            return mData.getXMax();
+        }
+
+        @Override
+        public BarLineScatterCandleBubbleData getData() {
+            return mData;
+        }
+
+        @Override
+        public float getXChartMin() {
+            return mData.getXMin();
+        }
+
+        @Override
+        public float getXChartMax() {
+            return mData.getXMax();
+        }
+
+        @Override
+        public float getXRange() {
+            return mData.getXMax() - mData.getXMin();
+        }
+
+        @Override
+        public float getYChartMin() {
+            return mData.getYMin();
+        }
+
+        @Override
+        public float getYChartMax() {
+            return mData.getYMax();
+        }
+
+        @Override
+        public float getMaxHighlightDistance() {
+            return 500f;
+        }
+
+        @Override
+        public int getWidth() {
+            return 10000;
+        }
+
+        @Override
+        public int getHeight() {
+            return 1000;
+        }
+
+        @Override
+        public MPPointF getCenterOfView() {
+            return null;
+        }
+
+        @Override
+        public MPPointF getCenterOffsets() {
+            return null;
+        }
+
+        @Override
+        public RectF getContentRect() {
+            return null;
+        }
+
+        @Override
+        public IValueFormatter getDefaultValueFormatter() {
+            return null;
+        }
+
+        @Override
+        public int getMaxVisibleCount() {
+            return 100;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.utils.ColorList;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class ColorListTest {
+
+    @Test
+    public void testListView() {
+
+        ColorList colors = new ColorList(1, 2, 3);
+
+        assertEquals(Arrays.asList(1, 2, 3), colors);
+
+        colors.add(4);
+        colors.add(0, 0);
+        colors.remove(2);
+        colors.set(1, 10);
+
+        assertEquals(Arrays.asList(0, 10, 3, 4), colors);
+        assertEquals(3, colors.getColor(2));
+        assertEquals(10, colors.getColorCycled(5));
+
+        colors.clear();
+        colors.addColor(7);
+
+        assertEquals(1, colors.size());
+        assertEquals(7, colors.getColor(0));
+
+        // a single color is a color, not a capacity
+        assertEquals(Arrays.asList(0xFFFF0000), new ColorList(0xFFFF0000));
+        assertEquals(0, ColorList.withCapacity(16).size());
+    }
+
+    @Test
+    public void testDataSetColors() {
+
+        LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "");
+
+        set.setColors(1, 2, 3);
+
+        assertEquals(3, set.getColorCount());
+        assertEquals(2, set.getColor(4));
+        assertFalse(set.isEntryColorsEnabled());
+
+        // the list getter is a view on the colors
+        set.getColors().add(4);
+        assertEquals(4, set.getColor(3));
+
+        set.setEntryColors(5, 5, 6);
+
+        assertTrue(set.isEntryColorsEnabled());
+        assertEquals(5, set.getColor(1));
+        assertEquals(6, set.getColor(10));
+
+        set.setColor(8);
+
+        assertFalse(set.isEntryColorsEnabled());
+        assertEquals(8, set.getColor(10));
+    }
+
+    @Test
+    public void testForeignColorList() {
+
+        // subclasses may still assign any List to mColors
+        LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "") {
+            {
+                mColors = new ArrayList<Integer>(Arrays.asList(1, 2));
+            }
+        };
+
+        assertEquals(1, set.getColor());
+        assertEquals(2, set.getColor(3));
+        assertEquals(2, set.getColorCount());
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarBarDataSet;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class ColumnarDataSetTest {
+
+    @Test
+    public void testCalcMinMax() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet(
+                new float[]{10, 15, 21}, new float[]{10, 2, 5}, 3, "");
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(21f, set.getXMax(), 0.01f);
+
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        assertEquals(3, set.getEntryCount());
+
+        set.addEntry(25, 1);
+
+        assertEquals(25f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(4, set.getEntryCount());
+
+        set.removeEntry(3);
+
+        assertEquals(21f, set.getXMax(), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(3, set.getEntryCount());
+
+        set.calcMinMaxY(15, 21);
+
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testAddRemoveEntry() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+
+        for (int i = 0; i < 100; i++) {
+            set.addEntry(new Entry(i * 2, i));
+        }
+
+        assertEquals(100, set.getEntryCount());
+
+        set.addEntryOrdered(new Entry(5, 50));
+
+        assertEquals(101, set.getEntryCount());
+        assertEquals(5f, set.getEntryForIndex(3).getX(), 0.01f);
+        assertEquals(50f, set.getYForIndex(3), 0.01f);
+        assertEquals(99f, set.getYMax(), 0.01f);
+
+        Entry view = set.getEntryForIndex(3);
+
+        assertTrue(set.contains(view));
+        assertEquals(3, set.getEntryIndex(view));
+
+        assertTrue(set.removeEntry(view));
+        assertFalse(set.contains(view));
+        assertEquals(100, set.getEntryCount());
+        assertEquals(99f, set.getYMax(), 0.01f);
+
+        assertTrue(set.removeFirst());
+        assertEquals(2f, set.getXMin(), 0.01f);
+        assertEquals(99, set.getEntryCount());
+
+        assertTrue(set.removeLast());
+        assertEquals(196f, set.getXMax(), 0.01f);
+        assertEquals(98, set.getEntryCount());
+
+        set.clear();
+
+        assertEquals(0, set.getEntryCount());
+        assertEquals(-1, set.getEntryIndex(10, Float.NaN, DataSet.Rounding.CLOSEST));
+    }
+
+    @Test
+    public void testGetEntryIndexMatchesDataSet() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        float[] x = new float[60];
+        float[] y = new float[60];
+
+        for (int i = 0; i < x.length; i++) {
+            // include duplicate x-values
+            x[i] = (i / 3) * 1.5f;
+            y[i] = i % 7;
+            entries.add(new Entry(x[i], y[i]));
+        }
+
+        LineDataSet reference = new LineDataSet(entries, "");
+        ColumnarLineDataSet set = new ColumnarLineDataSet(x, y, x.length, "");
+
+        for (float xValue = -2f; xValue < 33f; xValue += 0.25f) {
+            for (DataSet.Rounding rounding : DataSet.Rounding.values()) {
+
+                assertEquals(reference.getEntryIndex(xValue, Float.NaN, rounding),
+                        set.getEntryIndex(xValue, Float.NaN, rounding));
+
+                assertEquals(reference.getEntryIndex(xValue, 3f, rounding),
+                        set.getEntryIndex(xValue, 3f, rounding));
+            }
+
+            assertEquals(reference.getEntriesForXValue(xValue).size(),
+                    set.getEntriesForXValue(xValue).size());
+        }
+    }
+
+    @Test
+    public void testCopy() {
+
+        ColumnarBarDataSet set = new ColumnarBarDataSet(
+                new float[]{1, 2, 3}, new float[]{-5, 4, 8}, 3, "bars");
+
+        assertEquals(-5f, set.getYMin(), 0.01f);
+        assertEquals(8f, set.getYMax(), 0.01f);
+        assertEquals(3, set.getEntryCountStacks());
+        assertFalse(set.isStacked());
+
+        ColumnarBarDataSet copy = (ColumnarBarDataSet) set.copy();
+
+        set.addEntry(4, 20);
+
+        assertEquals(3, copy.getEntryCount());
+        assertEquals(4, set.getEntryCount());
+        assertEquals(8f, copy.getYMax(), 0.01f);
+        assertEquals(4f, copy.getEntryForIndex(1).getY(), 0.01f);
+    }
+}
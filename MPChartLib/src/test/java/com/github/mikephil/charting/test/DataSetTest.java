@@ -55,6 +55,95 @@ public class DataSetTest {
         assertEquals(10f, set.getYMax(), 0.01f);
     }
 
+    @Test
+    public void testMinMaxAfterRemoval() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 200; i++)
+            entries.add(new Entry(i, (float) Math.sin(i * 0.37) * 50f + (i % 7)));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        // sliding window, compare against a full scan after each step
+        for (int i = 200; i < 600; i++) {
+
+            set.removeFirst();
+            set.addEntry(new Entry(i, (float) Math.sin(i * 0.37) * 50f + (i % 7)));
+
+            float yMin = Float.MAX_VALUE, yMax = -Float.MAX_VALUE;
+
+            for (Entry e : set.getEntries()) {
+                yMin = Math.min(yMin, e.getY());
+                yMax = Math.max(yMax, e.getY());
+            }
+
+            assertEquals(i - 199f, set.getXMin(), 0.01f);
+            assertEquals(i, set.getXMax(), 0.01f);
+            assertEquals(yMin, set.getYMin(), 0.0001f);
+            assertEquals(yMax, set.getYMax(), 0.0001f);
+        }
+
+        // duplicate extremes
+        List<Entry> duplicates = new ArrayList<Entry>();
+        duplicates.add(new Entry(0, 5));
+        duplicates.add(new Entry(1, 1));
+        duplicates.add(new Entry(2, 5));
+        duplicates.add(new Entry(3, 3));
+
+        set = new ScatterDataSet(duplicates, "");
+
+        set.removeFirst();
+
+        assertEquals(1f, set.getXMin(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+
+        set.removeEntry(1);
+
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(3f, set.getYMax(), 0.01f);
+        assertEquals(3f, set.getXMax(), 0.01f);
+
+        set.removeLast();
+        set.removeLast();
+
+        assertEquals(Float.MAX_VALUE, set.getYMin(), 0.01f);
+        assertEquals(-Float.MAX_VALUE, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testRemovalsGoThroughRemoveEntry() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 5; i++)
+            entries.add(new Entry(i, i));
+
+        final List<Entry> removed = new ArrayList<Entry>();
+
+        ScatterDataSet set = new ScatterDataSet(entries, "") {
+            @Override
+            public boolean removeEntry(Entry e) {
+                removed.add(e);
+                return super.removeEntry(e);
+            }
+        };
+
+        assertTrue(set.removeFirst());
+        assertTrue(set.removeLast());
+        assertTrue(set.removeEntry(1));
+
+        assertEquals(3, removed.size());
+        assertEquals(0f, removed.get(0).getX(), 0.01f);
+        assertEquals(4f, removed.get(1).getX(), 0.01f);
+        assertEquals(2f, removed.get(2).getX(), 0.01f);
+
+        assertEquals(2, set.getEntryCount());
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(3f, set.getYMax(), 0.01f);
+    }
+
     @Test
     public void testAddRemoveEntry() {
 
@@ -235,4 +324,36 @@ public class DataSetTest {
         assertEquals(1, entries.size());
         assertEquals(30, entries.get(0).getY(), 0.01f);
     }
+
+    @Test
+    public void testGetEntryIndexRange() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(10, 10));
+        entries.add(new Entry(15, 5));
+        entries.add(new Entry(21, 5));
+        entries.add(new Entry(30, 8));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        int[] range = new int[2];
+
+        set.getEntryIndexRange(12, 25, range);
+        assertEquals(0, range[0]);
+        assertEquals(3, range[1]);
+
+        set.getEntryIndexRange(15, 21, range);
+        assertEquals(1, range[0]);
+        assertEquals(2, range[1]);
+
+        set.getEntryIndexRange(-100, 100, range);
+        assertEquals(0, range[0]);
+        assertEquals(3, range[1]);
+
+        set.clear();
+
+        set.getEntryIndexRange(0, 10, range);
+        assertEquals(-1, range[0]);
+        assertEquals(-1, range[1]);
+    }
 }
@@ -0,0 +1,61 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.DoubleXLineDataSet;
+import com.github.mikephil.charting.data.Entry;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class DoubleXLineDataSetTest {
+
+    /**
+     * a timestamp in epoch milliseconds, the float closest to it is off by about a minute
+     */
+    private static final double START = 1700000000123.0;
+
+    @Test
+    public void testRelativeValues() {
+
+        DoubleXLineDataSet set = new DoubleXLineDataSet("");
+
+        for (int i = 0; i < 100; i++) {
+            set.addAbsoluteEntry(START + i * 250.0, i);
+        }
+
+        // without an origin the float values can not tell the timestamps apart
+        assertEquals(set.getXForIndex(0), set.getXForIndex(1), 0f);
+
+        set.setXOrigin(START);
+
+        assertEquals(0f, set.getXMin(), 0f);
+        assertEquals(99 * 250f, set.getXMax(), 0f);
+        assertEquals(250f, set.getXForIndex(1), 0f);
+        assertEquals(START + 250.0, set.getAbsoluteXForIndex(1), 0.0);
+
+        assertEquals(4, set.getEntryIndex(START + 1001.0, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertEquals(5, set.getEntryIndex(START + 1001.0, Float.NaN, DataSet.Rounding.UP));
+        assertEquals(0, set.getEntryIndex(START - 1e6, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertEquals(4f, set.getEntryForXValue(START + 1100.0, Float.NaN, DataSet.Rounding.DOWN).getY(), 0f);
+
+        // Entries carry relative x-values
+        set.addEntry(new Entry(100 * 250f, 100f));
+
+        assertEquals(101, set.getEntryCount());
+        assertEquals(START + 100 * 250.0, set.getAbsoluteXForIndex(100), 0.0);
+
+        set.removeEntry(0);
+        set.removeFirst();
+
+        assertEquals(99, set.getEntryCount());
+        assertEquals(START + 500.0, set.getAbsoluteXForIndex(0), 0.0);
+        assertEquals(500f, set.getXMin(), 0f);
+
+        set.setXOrigin(START + 500.0);
+
+        assertEquals(0f, set.getXMin(), 0f);
+        assertEquals(START + 500.0, set.getAbsoluteXForIndex(0), 0.0);
+        assertEquals(250f, set.getEntryForIndex(1).getX(), 0f);
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+
+import org.junit.Test;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Checks that resolving the visible index range (as done by XBounds on every frame) stays
+ * logarithmic from 10k to 10M entries. The cost is measured in entry reads instead of time to
+ * keep the result independent of the machine running the test.
+ */
+public class EntryIndexRangeBenchmarkTest {
+
+    private static final int FRAMES = 500;
+
+    @Test
+    public void testIndexRangeScaling() {
+
+        int[] sizes = new int[]{10000, 100000, 1000000, 10000000};
+        double[] readsPerFrame = new double[sizes.length];
+
+        for (int s = 0; s < sizes.length; s++) {
+
+            int count = sizes[s];
+
+            CountingEntryList entries = new CountingEntryList(count);
+            ScatterDataSet set = new ScatterDataSet(entries, "");
+
+            entries.reads = 0;
+
+            int[] range = new int[2];
+
+            // pan a viewport of 200 entries across the whole data set
+            for (int frame = 0; frame < FRAMES; frame++) {
+
+                float low = (count - 200) * (frame / (float) FRAMES);
+                set.getEntryIndexRange(low, low + 200, range);
+
+                assertEquals((int) Math.floor(low), range[0]);
+            }
+
+            readsPerFrame[s] = entries.reads / (double) FRAMES;
+
+            double log2 = Math.log(count) / Math.log(2);
+
+            // one binary search per bound
+            assertTrue("n = " + count + ", reads per frame = " + readsPerFrame[s],
+                    readsPerFrame[s] <= 4 * (log2 + 2));
+        }
+
+        // 1000x more entries may not cost more than 2x more work per frame
+        assertTrue(readsPerFrame[sizes.length - 1] <= 2 * readsPerFrame[0]);
+    }
+
+    /**
+     * List that generates its entries on demand and counts how often an entry is read.
+     */
+    private static class CountingEntryList extends AbstractList<Entry> implements RandomAccess {
+
+        private final int size;
+
+        long reads = 0;
+
+        CountingEntryList(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Entry get(int index) {
+            reads++;
+            return new Entry(index, index % 100);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.FastDecimalFormat;
+import com.github.mikephil.charting.formatter.FormattedValueCache;
+
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+
+public class FastDecimalFormatTest {
+
+    @Test
+    public void testMatchesDecimalFormat() {
+
+        Random random = new Random(7);
+
+        float[] special = {
+                0f, -0f, 0.5f, 1.5f, 2.5f, -2.5f, 0.125f, 0.375f, -0.001f, 999.995f,
+                1234567.8f, -1234567.8f, Float.MAX_VALUE, Float.MIN_VALUE,
+                Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY
+        };
+
+        for (Locale locale : new Locale[]{Locale.US, Locale.GERMANY, new Locale("fr", "CH")}) {
+            for (int digits = 0; digits < 8; digits++) {
+
+                StringBuilder pattern = new StringBuilder("###,###,###,##0");
+
+                for (int i = 0; i < digits; i++) {
+                    pattern.append(i == 0 ? ".0" : "0");
+                }
+
+                DecimalFormat format = new DecimalFormat(pattern.toString(),
+                        new DecimalFormatSymbols(locale));
+                FastDecimalFormat fast = new FastDecimalFormat(format);
+
+                for (float value : special) {
+                    assertEquals(format.format(value), fast.format(value));
+                }
+
+                for (int i = 0; i < 20000; i++) {
+
+                    float value = (random.nextFloat() - 0.5f)
+                            * (float) Math.pow(10, random.nextInt(14) - 4);
+
+                    // values exactly halfway between two results
+                    if (i % 4 == 0)
+                        value = (Math.round(value * 1000f) + 0.5f) / (float) Math.pow(10, digits);
+
+                    assertEquals(format.format(value), fast.format(value));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testValueFormatterCache() {
+
+        DefaultValueFormatter formatter = new DefaultValueFormatter(2);
+
+        String text = formatter.getFormattedValue(1234.5f, null, 0, null);
+
+        assertEquals(new DecimalFormat("###,###,###,##0.00").format(1234.5f), text);
+        assertSame(text, formatter.getFormattedValue(1234.5f, null, 0, null));
+
+        formatter.setup(0);
+
+        assertEquals(new DecimalFormat("###,###,###,##0").format(1234.5f),
+                formatter.getFormattedValue(1234.5f, null, 0, null));
+
+        FormattedValueCache cache = new FormattedValueCache(4);
+
+        cache.put(1f, "1");
+
+        assertEquals("1", cache.get(1f));
+        assertNull(cache.get(-1f));
+
+        cache.clear();
+
+        assertNull(cache.get(1f));
+    }
+}
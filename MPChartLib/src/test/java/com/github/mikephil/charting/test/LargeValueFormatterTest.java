@@ -4,6 +4,9 @@ import com.github.mikephil.charting.formatter.LargeValueFormatter;
 
 import org.junit.Test;
 
+import java.text.DecimalFormat;
+import java.util.Random;
+
 import static junit.framework.Assert.assertEquals;
 
 /**
@@ -92,4 +95,60 @@ public class LargeValueFormatterTest {
         result = formatter.getFormattedValue(100000000000000000f, null);
         assertEquals("100q", result);
     }
+
+    @Test
+    public void testMatchesRegexImplementation() {
+
+        Random random = new Random(11);
+
+        String[] suffix = new String[]{"", "k", "m", "b", "t"};
+
+        LargeValueFormatter formatter = new LargeValueFormatter("$");
+        formatter.setSuffix(suffix);
+
+        float[] special = {
+                0f, -0f, 1f, -1f, 999.5f, 999.4f, 9999.5f, 99950f, 1235f, 1245f, 12.5f, -5821f, 0.5f
+        };
+
+        for (float value : special) {
+            assertEquals(makePretty(value, suffix, 5) + "$", formatter.getFormattedValue(value, null));
+        }
+
+        for (int maxLength = 3; maxLength < 8; maxLength++) {
+
+            formatter.setMaxLength(maxLength);
+
+            for (int i = 0; i < 20000; i++) {
+
+                float value = (random.nextFloat() - 0.3f)
+                        * (float) Math.pow(10, random.nextInt(15));
+
+                if (i % 3 == 0)
+                    value = Math.round(value);
+
+                assertEquals(makePretty(value, suffix, maxLength) + "$",
+                        formatter.getFormattedValue(value, null));
+            }
+        }
+    }
+
+    /**
+     * the original, regular expression based implementation
+     */
+    private static String makePretty(double number, String[] suffix, int maxLength) {
+
+        String r = new DecimalFormat("###E00").format(number);
+
+        int numericValue1 = Character.getNumericValue(r.charAt(r.length() - 1));
+        int numericValue2 = Character.getNumericValue(r.charAt(r.length() - 2));
+        int combined = Integer.valueOf(numericValue2 + "" + numericValue1);
+
+        r = r.replaceAll("E[0-9][0-9]", suffix[combined / 3]);
+
+        while (r.length() > maxLength || r.matches("[0-9]+\\.[a-z]")) {
+            r = r.substring(0, r.length() - 2) + r.substring(r.length() - 1);
+        }
+
+        return r;
+    }
 }
@@ -0,0 +1,230 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.renderer.LineDecimator;
+import com.github.mikephil.charting.renderer.LineGeometryPipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+
+public class LineGeometryPipelineTest {
+
+    /**
+     * executor that only runs its tasks when told to
+     */
+    private static class QueueExecutor implements Executor {
+
+        List<Runnable> tasks = new ArrayList<Runnable>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty())
+                tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    public void testSnapshots() {
+
+        Random random = new Random(3);
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10000; i++) {
+            entries.add(new Entry(i, random.nextFloat() * 100f));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        final int[] prepared = new int[1];
+
+        QueueExecutor executor = new QueueExecutor();
+        LineGeometryPipeline pipeline = new LineGeometryPipeline(executor, new Runnable() {
+            @Override
+            public void run() {
+                prepared[0]++;
+            }
+        });
+
+        // nothing prepared yet
+        assertNull(pipeline.request(set, 0, 9999, 0.05, 10.0, 500f, 1f));
+        assertNull(pipeline.request(set, 0, 9999, 0.05, 10.0, 500f, 1f));
+        assertEquals(1, executor.tasks.size());
+
+        executor.runAll();
+        assertEquals(1, prepared[0]);
+
+        LineGeometryPipeline.Snapshot snapshot = pipeline.request(set, 0, 9999, 0.05, 10.0, 500f, 1f);
+        assertNotNull(snapshot);
+        assertEquals(0, executor.tasks.size());
+
+        LineDecimator decimator = new LineDecimator();
+        int count = decimator.decimate(set, 0, 9999, 0.05, 10.0, 500f, 1f);
+
+        assertEquals(count, snapshot.count);
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(decimator.getBuffer()[i], snapshot.points[i], 0f);
+        }
+
+        // a moved viewport gets the outdated snapshot until the new one is ready
+        assertSame(snapshot, pipeline.request(set, 100, 9999, 0.05, 5.0, 500f, 1f));
+        assertEquals(1, executor.tasks.size());
+
+        executor.runAll();
+        assertEquals(2, prepared[0]);
+
+        LineGeometryPipeline.Snapshot moved = pipeline.request(set, 100, 9999, 0.05, 5.0, 500f, 1f);
+        assertEquals(decimator.decimate(set, 100, 9999, 0.05, 5.0, 500f, 1f), moved.count);
+
+        // changed data
+        pipeline.invalidate();
+        assertSame(moved, pipeline.request(set, 100, 9999, 0.05, 5.0, 500f, 1f));
+
+        executor.runAll();
+        assertEquals(3, prepared[0]);
+    }
+
+    @Test
+    public void testRejectedExecution() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new Entry(i, i % 7));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        final boolean[] reject = {true};
+        final QueueExecutor queue = new QueueExecutor();
+
+        LineGeometryPipeline pipeline = new LineGeometryPipeline(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                if (reject[0])
+                    throw new RejectedExecutionException();
+                queue.execute(command);
+            }
+        }, null);
+
+        assertNull(pipeline.request(set, 0, 999, 0.5, 0.0, 500f, 1f));
+
+        // the rejected preparation does not block the following ones
+        reject[0] = false;
+
+        assertNull(pipeline.request(set, 0, 999, 0.5, 0.0, 500f, 1f));
+        assertEquals(1, queue.tasks.size());
+
+        queue.runAll();
+        assertNotNull(pipeline.request(set, 0, 999, 0.5, 0.0, 500f, 1f));
+    }
+
+    @Test
+    public void testModifiedWhilePreparing() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new Entry(i, i % 7));
+        }
+
+        final LineGeometryPipeline[] pipeline = new LineGeometryPipeline[1];
+        final boolean[] modify = {true};
+
+        // modifies its values half way through the preparation without failing
+        LineDataSet set = new LineDataSet(entries, "") {
+            @Override
+            public Entry getEntryForIndex(int index) {
+
+                if (modify[0] && index == 500) {
+                    modify[0] = false;
+
+                    for (int i = 0; i < getEntryCount(); i++) {
+                        super.getEntryForIndex(i).setY(-1f);
+                    }
+
+                    pipeline[0].invalidate();
+                }
+
+                return super.getEntryForIndex(index);
+            }
+        };
+
+        QueueExecutor executor = new QueueExecutor();
+        pipeline[0] = new LineGeometryPipeline(executor, null);
+
+        assertNull(pipeline[0].request(set, 0, 999, 0.5, 0.0, 500f, 1f));
+        executor.runAll();
+
+        // the mixed result is thrown away
+        assertNull(pipeline[0].request(set, 0, 999, 0.5, 0.0, 500f, 1f));
+        executor.runAll();
+
+        LineGeometryPipeline.Snapshot snapshot = pipeline[0].request(set, 0, 999, 0.5, 0.0, 500f, 1f);
+        assertNotNull(snapshot);
+
+        for (int i = 1; i < snapshot.count; i += 2) {
+            assertEquals(-1f, snapshot.points[i], 0f);
+        }
+    }
+
+    @Test
+    public void testPyramidOnlyUpdatedOnRequest() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 5000; i++) {
+            entries.add(new Entry(i, i % 13));
+        }
+
+        final boolean[] onExecutor = {false};
+        final int[] indexed = {0};
+
+        // counts the values read to update the level-of-detail index on the executor
+        LineDataSet set = new LineDataSet(entries, "") {
+            @Override
+            protected float getEntryYLow(int index) {
+
+                if (onExecutor[0])
+                    indexed[0]++;
+
+                return super.getEntryYLow(index);
+            }
+        };
+
+        set.setMinMaxPyramidEnabled(true);
+
+        QueueExecutor executor = new QueueExecutor();
+        LineGeometryPipeline pipeline = new LineGeometryPipeline(executor, null);
+
+        assertNull(pipeline.request(set, 0, 4999, 0.05, 0.0, 250f, 1f));
+
+        onExecutor[0] = true;
+        executor.runAll();
+        onExecutor[0] = false;
+
+        assertEquals(0, indexed[0]);
+
+        LineGeometryPipeline.Snapshot snapshot = pipeline.request(set, 0, 4999, 0.05, 0.0, 250f, 1f);
+        assertNotNull(snapshot);
+
+        LineDecimator decimator = new LineDecimator();
+        assertEquals(decimator.decimate(set, 0, 4999, 0.05, 0.0, 250f, 1f), snapshot.count);
+    }
+}
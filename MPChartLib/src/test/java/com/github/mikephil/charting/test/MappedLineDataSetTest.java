@@ -0,0 +1,138 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.MappedLineDataSet;
+import com.github.mikephil.charting.utils.BinaryEntryFile;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class MappedLineDataSetTest {
+
+    @Test
+    public void testMappedValues() throws IOException {
+
+        Random random = new Random(5);
+
+        int count = 5000;
+        float[] x = new float[count];
+        float[] y = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            x[i] = i * 2;
+            y[i] = random.nextFloat() * 100f - 50f;
+        }
+
+        ColumnarLineDataSet columnar = new ColumnarLineDataSet(x, y, count, "");
+
+        File file = File.createTempFile("mapped", ".bin");
+
+        try {
+            BinaryEntryFile.write(columnar, file);
+
+            MappedLineDataSet mapped = new MappedLineDataSet(file, "mapped");
+
+            assertEquals(count, mapped.getEntryCount());
+            assertEquals(columnar.getXMin(), mapped.getXMin(), 0f);
+            assertEquals(columnar.getXMax(), mapped.getXMax(), 0f);
+            assertEquals(columnar.getYMin(), mapped.getYMin(), 0f);
+            assertEquals(columnar.getYMax(), mapped.getYMax(), 0f);
+
+            for (int i = 0; i < count; i += 7) {
+                assertEquals(x[i], mapped.getXForIndex(i), 0f);
+                assertEquals(y[i], mapped.getYForIndex(i), 0f);
+            }
+
+            for (float xValue = -10f; xValue < count * 2 + 10f; xValue += 3.3f) {
+                assertEquals(columnar.getEntryIndex(xValue, Float.NaN, DataSet.Rounding.CLOSEST),
+                        mapped.getEntryIndex(xValue, Float.NaN, DataSet.Rounding.CLOSEST));
+                assertEquals(columnar.getEntryIndex(xValue, Float.NaN, DataSet.Rounding.UP),
+                        mapped.getEntryIndex(xValue, Float.NaN, DataSet.Rounding.UP));
+                assertEquals(columnar.getEntryIndex(xValue, Float.NaN, DataSet.Rounding.DOWN),
+                        mapped.getEntryIndex(xValue, Float.NaN, DataSet.Rounding.DOWN));
+            }
+
+            columnar.calcMinMaxY(1000f, 2000f);
+            mapped.calcMinMaxY(1000f, 2000f);
+
+            assertEquals(columnar.getYMin(), mapped.getYMin(), 0f);
+            assertEquals(columnar.getYMax(), mapped.getYMax(), 0f);
+
+            // recently used entries are cached
+            Entry e = mapped.getEntryForIndex(100);
+            assertSame(e, mapped.getEntryForIndex(100));
+            assertEquals(x[100], e.getX(), 0f);
+            assertEquals(y[100], e.getY(), 0f);
+
+            assertEquals(100, mapped.getEntryIndex(new Entry(x[100], y[100])));
+            assertTrue(mapped.contains(new Entry(x[100], y[100])));
+
+            try {
+                mapped.addEntry(new Entry(count * 2, 1f));
+                fail("entries were added to a read-only DataSet");
+            } catch (UnsupportedOperationException ex) {
+                // expected
+            }
+
+            assertEquals(count, mapped.getEntryCount());
+
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testGetEntryIndexWithDuplicateX() throws IOException {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        float[] x = new float[90];
+        float[] y = new float[90];
+
+        for (int i = 0; i < x.length; i++) {
+            // three values per x-value, the first and the last equally close to 3
+            x[i] = i / 3;
+            y[i] = i % 3 == 0 ? 2f : (i % 3 == 1 ? 6f : 4f);
+            entries.add(new Entry(x[i], y[i]));
+        }
+
+        LineDataSet reference = new LineDataSet(entries, "");
+
+        File file = File.createTempFile("mapped", ".bin");
+
+        try {
+            BinaryEntryFile.write(new ColumnarLineDataSet(x, y, x.length, ""), file);
+
+            MappedLineDataSet mapped = new MappedLineDataSet(file, "mapped");
+
+            for (float xValue = -2f; xValue < 32f; xValue += 0.25f) {
+                for (DataSet.Rounding rounding : DataSet.Rounding.values()) {
+
+                    assertEquals(reference.getEntryIndex(xValue, Float.NaN, rounding),
+                            mapped.getEntryIndex(xValue, Float.NaN, rounding));
+
+                    assertEquals(reference.getEntryIndex(xValue, 3f, rounding),
+                            mapped.getEntryIndex(xValue, 3f, rounding));
+                }
+            }
+
+            // equally close y-values resolve to the last one
+            assertEquals(5, mapped.getEntryIndex(1f, 3f, DataSet.Rounding.CLOSEST));
+
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.MinMaxPyramid;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+
+public class MinMaxPyramidTest {
+
+    @Test
+    public void testRangeQueries() {
+
+        Random random = new Random(42);
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new Entry(i, random.nextFloat() * 200f - 100f));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+        set.setMinMaxPyramidEnabled(true);
+
+        MinMaxPyramid pyramid = set.getMinMaxPyramid();
+        assertNotNull(pyramid);
+
+        assertRangesMatch(set, pyramid, random);
+
+        // appended entries are added incrementally
+        for (int i = 1000; i < 1500; i++) {
+            set.addEntry(new Entry(i, random.nextFloat() * 400f - 200f));
+        }
+
+        assertRangesMatch(set, pyramid, random);
+
+        // anything else rebuilds the index
+        set.removeFirst();
+        set.removeEntry(700);
+        set.addEntryOrdered(new Entry(300.5f, 1000f));
+
+        assertRangesMatch(set, pyramid, random);
+
+        set.calcMinMaxY(300f, 301f);
+
+        assertEquals(1000f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testRemoval() {
+
+        Random random = new Random(7);
+
+        LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "");
+        set.setMinMaxPyramidEnabled(true);
+
+        MinMaxPyramid pyramid = set.getMinMaxPyramid();
+
+        int x = 0;
+
+        for (; x < 300; x++) {
+            set.addEntry(new Entry(x, random.nextFloat() * 100f));
+        }
+
+        // scroll like a live chart, dropping the oldest entry for every new one
+        for (int k = 0; k < 2000; k++) {
+
+            set.addEntry(new Entry(x++, random.nextFloat() * 100f));
+            set.removeFirst();
+
+            if (k % 100 == 0)
+                assertRangesMatch(set, pyramid, random);
+        }
+
+        assertEquals(300, set.getEntryCount());
+
+        for (int k = 0; k < 150; k++) {
+
+            set.removeLast();
+
+            if (k % 10 == 0)
+                assertRangesMatch(set, pyramid, random);
+        }
+
+        set.removeEntry(set.getEntryForIndex(75));
+        assertRangesMatch(set, pyramid, random);
+
+        for (int k = 0; k < 100; k++) {
+            set.addEntry(new Entry(x++, random.nextFloat() * 100f));
+        }
+
+        assertRangesMatch(set, pyramid, random);
+
+        // auto-scaling reads the visible range from the index
+        float from = set.getEntryForIndex(20).getX();
+        float to = set.getEntryForIndex(180).getX();
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        for (int i = 20; i <= 180; i++) {
+            min = Math.min(min, set.getEntryForIndex(i).getY());
+            max = Math.max(max, set.getEntryForIndex(i).getY());
+        }
+
+        set.calcMinMaxY(from, to);
+
+        assertEquals(min, set.getYMin(), 0f);
+        assertEquals(max, set.getYMax(), 0f);
+    }
+
+    private void assertRangesMatch(LineDataSet set, MinMaxPyramid pyramid, Random random) {
+
+        float[] minMax = new float[2];
+
+        for (int k = 0; k < 500; k++) {
+
+            int from = random.nextInt(set.getEntryCount());
+            int to = from + random.nextInt(set.getEntryCount() - from);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int i = from; i <= to; i++) {
+                min = Math.min(min, set.getEntryForIndex(i).getY());
+                max = Math.max(max, set.getEntryForIndex(i).getY());
+            }
+
+            pyramid.getMinMax(from, to, minMax);
+
+            assertEquals(min, minMax[0], 0f);
+            assertEquals(max, minMax[1], 0f);
+        }
+    }
+}
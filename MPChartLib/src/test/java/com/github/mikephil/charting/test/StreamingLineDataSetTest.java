@@ -0,0 +1,116 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.StreamingLineDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class StreamingLineDataSetTest {
+
+    @Test
+    public void testSlidingMinMax() {
+
+        Random random = new Random(3);
+
+        StreamingLineDataSet set = new StreamingLineDataSet(100, "");
+
+        float[] y = new float[5000];
+
+        for (int i = 0; i < y.length; i++) {
+
+            y[i] = random.nextFloat() * 100f - 50f;
+            set.addEntry(i, y[i]);
+
+            int first = Math.max(0, i - 99);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int k = first; k <= i; k++) {
+                min = Math.min(min, y[k]);
+                max = Math.max(max, y[k]);
+            }
+
+            assertEquals(i - first + 1, set.getEntryCount());
+            assertEquals((float) first, set.getXMin(), 0f);
+            assertEquals((float) i, set.getXMax(), 0f);
+            assertEquals(min, set.getYMin(), 0f);
+            assertEquals(max, set.getYMax(), 0f);
+        }
+
+        assertEquals(4900f, set.getEntryForIndex(0).getX(), 0f);
+        assertEquals(y[4999], set.getYForIndex(99), 0f);
+    }
+
+    @Test
+    public void testRemoveEntry() {
+
+        StreamingLineDataSet set = new StreamingLineDataSet(10, "");
+
+        for (int i = 0; i < 15; i++) {
+            set.addEntry(i, i % 4 == 0 ? 100 - i : i);
+        }
+
+        // holds x = 5 ... 14, the highest value is at x = 8
+        assertEquals(92f, set.getYMax(), 0f);
+
+        assertTrue(set.removeEntry(set.getEntryForIndex(3)));
+        assertEquals(9, set.getEntryCount());
+        assertEquals(88f, set.getYMax(), 0f);
+        assertEquals(9f, set.getXForIndex(3), 0f);
+
+        assertTrue(set.removeFirst());
+        assertEquals(6f, set.getXMin(), 0f);
+        assertEquals(14f, set.getYForIndex(7), 0f);
+
+        assertTrue(set.removeLast());
+        assertEquals(13f, set.getXMax(), 0f);
+        assertEquals(7, set.getEntryCount());
+
+        set.clear();
+
+        assertEquals(0, set.getEntryCount());
+        assertEquals(-1, set.getEntryIndex(3, Float.NaN, DataSet.Rounding.CLOSEST));
+    }
+
+    @Test
+    public void testGetEntryIndexMatchesDataSet() {
+
+        StreamingLineDataSet set = new StreamingLineDataSet(50, "");
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 80; i++) {
+
+            // include duplicate x-values
+            float x = (i / 2) * 1.5f;
+            float y = i % 7;
+
+            set.addEntry(x, y);
+
+            if (i >= 30)
+                entries.add(new Entry(x, y));
+        }
+
+        LineDataSet reference = new LineDataSet(entries, "");
+
+        for (float xValue = 20f; xValue < 62f; xValue += 0.25f) {
+            for (DataSet.Rounding rounding : DataSet.Rounding.values()) {
+
+                assertEquals(reference.getEntryIndex(xValue, Float.NaN, rounding),
+                        set.getEntryIndex(xValue, Float.NaN, rounding));
+
+                assertEquals(reference.getEntryIndex(xValue, 3f, rounding),
+                        set.getEntryIndex(xValue, 3f, rounding));
+            }
+        }
+    }
+}
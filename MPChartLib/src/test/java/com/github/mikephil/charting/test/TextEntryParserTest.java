@@ -0,0 +1,156 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.utils.FloatColumns;
+import com.github.mikephil.charting.utils.TextEntryParser;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class TextEntryParserTest {
+
+    private static final Charset ASCII = Charset.forName("US-ASCII");
+
+    private static float parse(String value) {
+        byte[] bytes = value.getBytes(ASCII);
+        return TextEntryParser.parseFloat(bytes, 0, bytes.length);
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(ASCII));
+    }
+
+    @Test
+    public void testParseFloat() {
+
+        assertEquals(1.5f, parse(" 1.5 "), 0f);
+        assertEquals(2f, parse("\"2\""), 0f);
+        assertEquals(-7f, parse("-7"), 0f);
+        assertEquals(7f, parse("+7."), 0f);
+        assertEquals(0.5f, parse(".5"), 0f);
+        assertEquals(1000f, parse("1e3"), 0f);
+        assertEquals(0.001f, parse("1E-3"), 0f);
+        assertEquals(0.019998666246387648f, parse("0.019998666246387648"), 0f);
+        assertEquals(Float.NEGATIVE_INFINITY, parse("-Infinity"), 0f);
+
+        assertTrue(Float.isNaN(parse("")));
+        assertTrue(Float.isNaN(parse("NaN")));
+
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10000; i++) {
+
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(30) - 15);
+
+            String text = random.nextBoolean() ? Double.toString(value) : Float.toString((float) value);
+
+            assertEquals(text, Float.parseFloat(text), parse(text), 0f);
+        }
+
+        // correctly rounded, not rounded twice or with dropped digits
+        assertEquals(1.6777218E7f, parse("16777217.0000000001"), 0f);
+        assertEquals(1.6777218E7f, parse("16777217.000001"), 0f);
+        assertEquals(1.6777216E7f, parse("16777217"), 0f);
+        assertEquals(1.6777216E7f, parse("16777216.9999999999999999999"), 0f);
+
+        for (int i = 0; i < 100000; i++) {
+
+            StringBuilder text = new StringBuilder();
+            int digits = 12 + random.nextInt(6);
+            int point = random.nextInt(digits + 1);
+
+            if (random.nextBoolean())
+                text.append('-');
+
+            for (int d = 0; d < digits; d++) {
+
+                if (d == point)
+                    text.append('.');
+
+                text.append((char) ('0' + random.nextInt(10)));
+            }
+
+            if (random.nextBoolean())
+                text.append('e').append(random.nextInt(40) - 20);
+
+            assertEquals(text.toString(), Float.parseFloat(text.toString()), parse(text.toString()), 0f);
+        }
+
+        try {
+            parse("1.2.3");
+            fail("an invalid number was parsed");
+        } catch (NumberFormatException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testParseRows() throws IOException {
+
+        FloatColumns columns = new FloatColumns(2, 1);
+
+        // window boundaries fall into lines and values
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 5000; i++) {
+            text.append(i * 0.25f).append('#').append(i).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+
+        text.append("\n");
+        text.append("1#2#3#5000");
+
+        int rows = new TextEntryParser('#').parse(stream(text.toString()), columns);
+
+        assertEquals(5001, rows);
+        assertEquals(5001, columns.size());
+        assertEquals(4, columns.getColumnCount());
+
+        assertEquals(1000 * 0.25f, columns.get(0, 1000), 0f);
+        assertEquals(1000f, columns.get(1, 1000), 0f);
+
+        // columns added later are padded with NaN
+        assertTrue(Float.isNaN(columns.get(3, 1000)));
+        assertEquals(5000f, columns.get(3, 5000), 0f);
+
+        columns.clear();
+
+        TextEntryParser csv = new TextEntryParser(',');
+        csv.setHeaderLines(1);
+
+        rows = csv.parse(stream("x,y\n1, 2\n3,\n"), columns);
+
+        assertEquals(2, rows);
+        assertEquals(2f, columns.get(1, 0), 0f);
+        assertTrue(Float.isNaN(columns.get(1, 1)));
+    }
+
+    @Test
+    public void testCreateDataSet() throws IOException {
+
+        FloatColumns columns = new FloatColumns(2, 16);
+        new TextEntryParser('#').parse(stream("5#0\n3#1\n8#2\n"), columns);
+
+        // y#x
+        ColumnarLineDataSet set = columns.createLineDataSet(1, 0, "");
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(2f, set.getXMax(), 0f);
+        assertEquals(3f, set.getYMin(), 0f);
+        assertEquals(8f, set.getYMax(), 0f);
+
+        // the handed over arrays are not reused
+        assertEquals(0, columns.size());
+        columns.addRow(new float[]{100f, 100f}, 2);
+
+        assertEquals(5f, set.getYForIndex(0), 0f);
+    }
+}